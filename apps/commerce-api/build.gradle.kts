@@ -1,3 +1,7 @@
+plugins {
+    id("me.champeau.jmh")
+}
+
 dependencies {
     // add-ons
     implementation(project(":modules:jpa"))
@@ -11,6 +15,9 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:${project.properties["springDocOpenApiVersion"]}")
 
+    // cache
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
     // querydsl
     annotationProcessor("com.querydsl:querydsl-apt::jakarta")
     annotationProcessor("jakarta.persistence:jakarta.persistence-api")
@@ -19,4 +26,22 @@ dependencies {
     // test-fixtures
     testImplementation(testFixtures(project(":modules:jpa")))
     testImplementation(testFixtures(project(":modules:redis")))
+
+    // benchmark
+    jmhImplementation("org.testcontainers:mysql")
+    jmhRuntimeOnly("com.mysql:mysql-connector-j")
+}
+
+// ./gradlew :apps:commerce-api:jmh (결과: build/results/jmh/results.json)
+jmh {
+    jmhVersion = project.properties["jmhVersion"].toString()
+    profilers.add("gc") // 할당률(gc.alloc.rate.norm) 측정
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    jvmArgsAppend.add("-Did.node-id=0") // InsertThroughputBenchmark 의 ID 발급
+    // 특정 벤치마크만 실행 : -PjmhIncludes=<정규식>
+    project.findProperty("jmhIncludes")?.let { includes.add(it.toString()) }
 }
@@ -0,0 +1,49 @@
+package com.loopers.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.config.jackson.JacksonBenchmarkSupport;
+import com.loopers.interfaces.api.ApiControllerAdvice;
+import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.ErrorLogThrottle;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 에러 응답 경로 비용. 예외 생성 → ApiControllerAdvice 처리(로깅 포함) → 응답 직렬화까지를 측정한다.
+ * 예상 가능한 에러(NOT_FOUND, BAD_REQUEST)는 stack trace 수집과 로그가 생략되므로 INTERNAL_ERROR 와의 차이로 효과를 확인한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ApiControllerAdviceBenchmark {
+    @Param({"NOT_FOUND", "BAD_REQUEST", "INTERNAL_ERROR"})
+    public ErrorType errorType;
+
+    private ApiControllerAdvice apiControllerAdvice;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        apiControllerAdvice = new ApiControllerAdvice(new ErrorLogThrottle(10), new SimpleMeterRegistry());
+        objectMapper = JacksonBenchmarkSupport.objectMapper();
+    }
+
+    @Benchmark
+    public byte[] renderCoreException() throws JsonProcessingException {
+        ResponseEntity<ApiResponse<?>> response = apiControllerAdvice.handle(new CoreException(errorType));
+        return objectMapper.writeValueAsBytes(response.getBody());
+    }
+}
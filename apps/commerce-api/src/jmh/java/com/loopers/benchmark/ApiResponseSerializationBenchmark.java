@@ -0,0 +1,46 @@
+package com.loopers.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.config.jackson.JacksonBenchmarkSupport;
+import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.example.ExampleV1Dto;
+import com.loopers.support.error.ErrorType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 직렬화 비용. 모든 API 응답이 거치는 ApiResponse 래핑 + ObjectMapper 직렬화를 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ApiResponseSerializationBenchmark {
+    private ObjectMapper objectMapper;
+    private ApiResponse<ExampleV1Dto.ExampleResponse> successResponse;
+    private ApiResponse<Object> failResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JacksonBenchmarkSupport.objectMapper();
+        successResponse = ApiResponse.success(new ExampleV1Dto.ExampleResponse(1L, "예시 제목", "예시 설명"));
+        failResponse = ApiResponse.fail(ErrorType.NOT_FOUND.getCode(), ErrorType.NOT_FOUND.getMessage());
+    }
+
+    @Benchmark
+    public byte[] serializeSuccess() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(successResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeFail() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(failResponse);
+    }
+}
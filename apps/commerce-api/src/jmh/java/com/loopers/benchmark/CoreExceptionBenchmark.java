@@ -0,0 +1,39 @@
+package com.loopers.benchmark;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예외 생성 비용. 스택 깊이에 따라 stack trace 수집 비용이 커지므로 호출 깊이를 바꿔가며 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class CoreExceptionBenchmark {
+    @Param({"NOT_FOUND", "INTERNAL_ERROR"})
+    public ErrorType errorType;
+
+    @Param({"0", "50"})
+    public int stackDepth;
+
+    @Benchmark
+    public CoreException create() {
+        return createAt(stackDepth);
+    }
+
+    private CoreException createAt(int depth) {
+        if (depth == 0) {
+            return new CoreException(errorType, "[id = 1] 예시를 찾을 수 없습니다.");
+        }
+        return createAt(depth - 1);
+    }
+}
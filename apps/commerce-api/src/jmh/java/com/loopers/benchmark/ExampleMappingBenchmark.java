@@ -0,0 +1,34 @@
+package com.loopers.benchmark;
+
+import com.loopers.application.example.ExampleInfo;
+import com.loopers.domain.example.ExampleModel;
+import com.loopers.interfaces.api.example.ExampleV1Dto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계층 간 변환 비용. ExampleModel → ExampleInfo → ExampleV1Dto.ExampleResponse 를 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ExampleMappingBenchmark {
+    private ExampleModel exampleModel;
+
+    @Setup
+    public void setUp() {
+        exampleModel = new ExampleModel("예시 제목", "예시 설명");
+    }
+
+    @Benchmark
+    public ExampleV1Dto.ExampleResponse mapToResponse() {
+        return ExampleV1Dto.ExampleResponse.from(ExampleInfo.from(exampleModel));
+    }
+}
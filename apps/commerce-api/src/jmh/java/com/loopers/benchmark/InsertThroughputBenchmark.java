@@ -0,0 +1,122 @@
+package com.loopers.benchmark;
+
+import com.loopers.domain.id.TimeOrderedIdSequence;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ID 발급 전략별 insert 처리량. (초당 행 수)
+ * identity : AUTO_INCREMENT 로 행마다 INSERT 후 생성된 키를 읽는다. (Hibernate IDENTITY 전략과 동일)
+ * timeOrdered : ID 를 미리 발급하여 multi-row INSERT 로 묶는다. (TimeOrderedIdGenerator + hibernate.jdbc.batch_size)
+ * Docker 가 필요하다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class InsertThroughputBenchmark {
+    private static final int ROWS_PER_INVOCATION = 1_000;
+    private static final String IDENTITY_INSERT =
+        "INSERT INTO example_identity (name, description, created_at, updated_at) VALUES (?, ?, ?, ?)";
+    private static final String TIME_ORDERED_INSERT =
+        "INSERT INTO example_time_ordered (id, name, description, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+
+    private MySQLContainer<?> mySqlContainer;
+    private Connection connection;
+    private TimeOrderedIdSequence idSequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        mySqlContainer = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+            .withDatabaseName("loopers")
+            .withUsername("test")
+            .withPassword("test")
+            .withUrlParam("rewriteBatchedStatements", "true");
+        mySqlContainer.start();
+        connection = DriverManager.getConnection(mySqlContainer.getJdbcUrl(), "test", "test");
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                CREATE TABLE example_identity (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    name VARCHAR(255), description VARCHAR(255),
+                    created_at DATETIME(6) NOT NULL, updated_at DATETIME(6) NOT NULL
+                )""");
+            statement.execute("""
+                CREATE TABLE example_time_ordered (
+                    id BIGINT PRIMARY KEY,
+                    name VARCHAR(255), description VARCHAR(255),
+                    created_at DATETIME(6) NOT NULL, updated_at DATETIME(6) NOT NULL
+                )""");
+        }
+        connection.commit();
+        idSequence = TimeOrderedIdSequence.global();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+        mySqlContainer.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_INVOCATION)
+    public long identity() throws SQLException {
+        long lastId = 0L;
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        try (PreparedStatement statement = connection.prepareStatement(IDENTITY_INSERT, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < ROWS_PER_INVOCATION; i++) {
+                statement.setString(1, "예시 제목");
+                statement.setString(2, "예시 설명");
+                statement.setTimestamp(3, now);
+                statement.setTimestamp(4, now);
+                statement.executeUpdate();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_INVOCATION)
+    public long timeOrdered() throws SQLException {
+        long lastId = 0L;
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        try (PreparedStatement statement = connection.prepareStatement(TIME_ORDERED_INSERT)) {
+            for (int i = 0; i < ROWS_PER_INVOCATION; i++) {
+                lastId = idSequence.next();
+                statement.setLong(1, lastId);
+                statement.setString(2, "예시 제목");
+                statement.setString(3, "예시 설명");
+                statement.setTimestamp(4, now);
+                statement.setTimestamp(5, now);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+        return lastId;
+    }
+}
@@ -0,0 +1,18 @@
+package com.loopers.config.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 애플리케이션과 동일한 {@link JacksonConfig} 설정이 적용된 ObjectMapper 를 Spring 컨텍스트 없이 만든다.
+ * {@link JacksonConfig} 는 package-private 이므로, jmh 소스셋에서 같은 패키지에 둔다.
+ */
+public final class JacksonBenchmarkSupport {
+    private JacksonBenchmarkSupport() {}
+
+    public static ObjectMapper objectMapper() {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        new JacksonConfig().jacksonCustomizer().customize(builder);
+        return builder.build();
+    }
+}
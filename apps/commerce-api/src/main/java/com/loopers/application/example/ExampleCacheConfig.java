@@ -0,0 +1,33 @@
+package com.loopers.application.example;
+
+import com.loopers.support.cache.CacheSpec;
+import com.loopers.support.cache.TwoTierCache;
+import com.loopers.support.cache.TwoTierCacheFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+@Configuration
+class ExampleCacheConfig {
+    private static final CacheSpec EXAMPLE_CACHE_SPEC = new CacheSpec(
+        "example",
+        10_000,
+        Duration.ofSeconds(30),
+        Duration.ofMinutes(10)
+    );
+
+    @Bean
+    TwoTierCache<Long, ExampleInfo> exampleInfoCache(TwoTierCacheFactory twoTierCacheFactory) {
+        return twoTierCacheFactory.create(EXAMPLE_CACHE_SPEC, ExampleInfo.class, ExampleCacheConfig::versionOf);
+    }
+
+    /**
+     * 수정 시각을 버전으로 쓴다. DB 는 μs 까지만 저장하므로, 수정 직후 엔티티의 값도 μs 로 잘라 DB 에서 다시 읽은 값보다 커지지 않게 한다.
+     */
+    static long versionOf(ExampleInfo info) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, info.updatedAt().toInstant());
+    }
+}
@@ -2,16 +2,83 @@ package com.loopers.application.example;
 
 import com.loopers.domain.example.ExampleModel;
 import com.loopers.domain.example.ExampleService;
-import lombok.RequiredArgsConstructor;
+import com.loopers.support.cache.TwoTierCache;
+import com.loopers.support.concurrent.SingleFlight;
+import com.loopers.support.concurrent.SingleFlightFactory;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.support.page.CursorPage;
 import org.springframework.stereotype.Component;
 
-@RequiredArgsConstructor
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
 @Component
 public class ExampleFacade {
     private final ExampleService exampleService;
+    private final TwoTierCache<Long, ExampleInfo> exampleInfoCache;
+    private final SingleFlight<Long, ExampleInfo> exampleLoader;
+
+    public ExampleFacade(ExampleService exampleService, TwoTierCache<Long, ExampleInfo> exampleInfoCache, SingleFlightFactory singleFlightFactory) {
+        this.exampleService = exampleService;
+        this.exampleInfoCache = exampleInfoCache;
+        this.exampleLoader = singleFlightFactory.create("example");
+    }
 
+    /**
+     * 캐시 미스인 같은 ID 의 동시 조회는 한 번의 DB 조회로 합쳐진다.
+     * 합쳐서 공유하는 값은 트랜잭션이 끝난 뒤의 불변 {@link ExampleInfo} 이며, 없는 예시는 null 로 공유하고 예외는 호출마다 만든다.
+     */
     public ExampleInfo getExample(Long id) {
-        ExampleModel example = exampleService.getExample(id);
-        return ExampleInfo.from(example);
+        ExampleInfo info = exampleInfoCache.get(id, () -> exampleLoader.execute(id, () ->
+            exampleService.findExample(id).map(ExampleInfo::from).orElse(null)
+        ));
+        if (info == null) {
+            throw new CoreException(ErrorType.NOT_FOUND, "[id = " + id + "] 예시를 찾을 수 없습니다.");
+        }
+        return info;
+    }
+
+    public ExamplesInfo getExamples(List<Long> ids) {
+        Set<Long> requestedIds = new LinkedHashSet<>(ids);
+        List<ExampleModel> examples = exampleService.getExamples(requestedIds);
+
+        // IN 쿼리 결과는 순서가 보장되지 않으므로, 정렬 대신 ID 로 색인한 뒤 요청 순서대로 꺼낸다.
+        Map<Long, ExampleModel> examplesById = new HashMap<>(examples.size() * 2);
+        for (ExampleModel example : examples) {
+            examplesById.put(example.getId(), example);
+        }
+
+        List<ExampleInfo> found = new ArrayList<>(examples.size());
+        List<Long> notFoundIds = new ArrayList<>();
+        for (Long id : requestedIds) {
+            ExampleModel example = examplesById.get(id);
+            if (example != null) {
+                found.add(ExampleInfo.from(example));
+            } else {
+                notFoundIds.add(id);
+            }
+        }
+        return new ExamplesInfo(found, notFoundIds);
+    }
+
+    public CursorPage<ExampleInfo> getExamplePage(Long cursor, int size) {
+        return exampleService.getExamplePage(cursor, size).map(ExampleInfo::from);
+    }
+
+    public void exportExamples(Consumer<ExampleInfo> consumer) {
+        exampleService.exportExamples(example -> consumer.accept(ExampleInfo.from(example)));
+    }
+
+    public ExampleInfo updateExample(Long id, String description) {
+        ExampleInfo updated = ExampleInfo.from(exampleService.updateExample(id, description));
+        // 트랜잭션 커밋 이후에 제거해야 커밋 전의 값이 다시 적재되지 않으며, 수정된 버전보다 오래된 값은 캐시가 적재하지 않는다.
+        exampleInfoCache.evict(id, updated);
+        return updated;
     }
 }
@@ -2,12 +2,15 @@ package com.loopers.application.example;
 
 import com.loopers.domain.example.ExampleModel;
 
-public record ExampleInfo(Long id, String name, String description) {
+import java.time.ZonedDateTime;
+
+public record ExampleInfo(Long id, String name, String description, ZonedDateTime updatedAt) {
     public static ExampleInfo from(ExampleModel model) {
         return new ExampleInfo(
             model.getId(),
             model.getName(),
-            model.getDescription()
+            model.getDescription(),
+            model.getUpdatedAt()
         );
     }
 }
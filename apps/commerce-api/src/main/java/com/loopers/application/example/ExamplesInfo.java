@@ -0,0 +1,8 @@
+package com.loopers.application.example;
+
+import java.util.List;
+
+/**
+ * 다건 조회 결과. examples 는 요청한 ID 순서를 따르며, 찾지 못한 ID 는 notFoundIds 로 따로 전달한다.
+ */
+public record ExamplesInfo(List<ExampleInfo> examples, List<Long> notFoundIds) {}
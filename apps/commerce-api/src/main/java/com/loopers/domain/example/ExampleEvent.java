@@ -0,0 +1,12 @@
+package com.loopers.domain.example;
+
+/**
+ * outbox 를 통해 발행되는 예시 도메인 이벤트.
+ */
+public class ExampleEvent {
+    public static final String TOPIC = "example.event-v1";
+
+    public record Updated(Long exampleId, String description) {
+        public static final String TYPE = "ExampleUpdated";
+    }
+}
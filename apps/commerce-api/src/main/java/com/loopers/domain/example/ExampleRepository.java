@@ -1,7 +1,27 @@
 package com.loopers.domain.example;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ExampleRepository {
     Optional<ExampleModel> find(Long id);
+
+    /**
+     * 주어진 ID 들에 해당하는 예시를 단일 IN 쿼리로 조회한다. 반환 순서는 보장하지 않는다.
+     */
+    List<ExampleModel> findAllByIds(Collection<Long> ids);
+
+    /**
+     * 삭제되지 않은 예시 중 cursorId 보다 작은 ID 를 ID 내림차순으로 최대 limit 개 조회한다.
+     * cursorId 가 null 이면 가장 최근 예시부터 조회한다.
+     */
+    List<ExampleModel> findAllBefore(Long cursorId, int limit);
+
+    /**
+     * 삭제되지 않은 모든 예시를 ID 오름차순으로 전방향 커서를 통해 스트리밍한다.
+     * 트랜잭션 안에서 사용하고, 사용 후 반드시 닫아야 한다.
+     */
+    Stream<ExampleModel> streamAll();
 }
@@ -1,20 +1,90 @@
 package com.loopers.domain.example;
 
+import com.loopers.domain.outbox.OutboxAppender;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import com.loopers.support.page.CursorPage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
 @RequiredArgsConstructor
 @Component
 public class ExampleService {
+    public static final int MAX_BATCH_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 100;
 
     private final ExampleRepository exampleRepository;
+    private final OutboxAppender outboxAppender;
 
     @Transactional(readOnly = true)
     public ExampleModel getExample(Long id) {
         return exampleRepository.find(id)
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "[id = " + id + "] 예시를 찾을 수 없습니다."));
     }
+
+    /**
+     * 캐시 적재용 조회. readOnly 트랜잭션은 replica 로 라우팅되므로, 일부러 readOnly 로 두지 않고 main 에서 읽는다.
+     * replica 에서 읽으면 수정 직후 캐시가 비워진 사이에 복제 지연으로 남은 이전 값이 캐시 TTL 동안 다시 적재된다.
+     */
+    @Transactional
+    public Optional<ExampleModel> findExample(Long id) {
+        return exampleRepository.find(id);
+    }
+
+    /**
+     * 존재하는 예시만 반환하며, 존재하지 않는 ID 는 결과에서 빠진다.
+     */
+    @Transactional(readOnly = true)
+    public List<ExampleModel> getExamples(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.contains(null)) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "조회할 예시 ID 는 비어있을 수 없습니다.");
+        }
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "한 번에 조회할 수 있는 예시는 최대 " + MAX_BATCH_SIZE + "개입니다.");
+        }
+        return exampleRepository.findAllByIds(ids);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<ExampleModel> getExamplePage(Long cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        List<ExampleModel> fetched = exampleRepository.findAllBefore(cursor, size + 1);
+        return CursorPage.of(fetched, size, ExampleModel::getId);
+    }
+
+    /**
+     * 삭제되지 않은 모든 예시를 한 건씩 consumer 에 전달한다. 전체 목록을 메모리에 올리지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public void exportExamples(Consumer<ExampleModel> consumer) {
+        try (Stream<ExampleModel> examples = exampleRepository.streamAll()) {
+            examples.forEach(consumer);
+        }
+    }
+
+    /**
+     * 변경 이벤트는 같은 트랜잭션에서 outbox 에 기록되므로, 변경이 커밋된 경우에만 발행된다.
+     */
+    @Transactional
+    public ExampleModel updateExample(Long id, String description) {
+        ExampleModel example = exampleRepository.find(id)
+            .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "[id = " + id + "] 예시를 찾을 수 없습니다."));
+        example.update(description);
+        outboxAppender.append(
+            ExampleEvent.TOPIC,
+            String.valueOf(id),
+            ExampleEvent.Updated.TYPE,
+            new ExampleEvent.Updated(id, description)
+        );
+        return example;
+    }
 }
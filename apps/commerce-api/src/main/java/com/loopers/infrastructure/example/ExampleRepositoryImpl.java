@@ -2,18 +2,61 @@ package com.loopers.infrastructure.example;
 
 import com.loopers.domain.example.ExampleModel;
 import com.loopers.domain.example.ExampleRepository;
+import com.loopers.domain.example.QExampleModel;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Component
 public class ExampleRepositoryImpl implements ExampleRepository {
+    // MySQL Connector/J 는 fetchSize 가 Integer.MIN_VALUE 일 때만 결과를 한 행씩 스트리밍한다.
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
     private final ExampleJpaRepository exampleJpaRepository;
+    private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
 
     @Override
     public Optional<ExampleModel> find(Long id) {
         return exampleJpaRepository.findById(id);
     }
+
+    @Override
+    public List<ExampleModel> findAllByIds(Collection<Long> ids) {
+        return exampleJpaRepository.findAllById(ids);
+    }
+
+    @Override
+    public List<ExampleModel> findAllBefore(Long cursorId, int limit) {
+        QExampleModel example = QExampleModel.exampleModel;
+        return queryFactory.selectFrom(example)
+            .where(
+                example.deletedAt.isNull(),
+                cursorId != null ? example.id.lt(cursorId) : null
+            )
+            .orderBy(example.id.desc())
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public Stream<ExampleModel> streamAll() {
+        QExampleModel example = QExampleModel.exampleModel;
+        return queryFactory.selectFrom(example)
+            .where(example.deletedAt.isNull())
+            .orderBy(example.id.asc())
+            .setHint(HibernateHints.HINT_FETCH_SIZE, STREAMING_FETCH_SIZE)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .stream()
+            // 영속성 컨텍스트에 엔티티가 쌓이지 않도록 읽는 즉시 분리한다.
+            .peek(entityManager::detach);
+    }
 }
@@ -5,6 +5,8 @@ import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -16,6 +18,8 @@ import org.springframework.web.server.ServerWebInputException;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -23,9 +27,32 @@ import java.util.stream.Collectors;
 @RestControllerAdvice
 @Slf4j
 public class ApiControllerAdvice {
+    private final ErrorLogThrottle errorLogThrottle;
+    private final Map<ErrorType, Counter> errorCounters = new EnumMap<>(ErrorType.class);
+
+    public ApiControllerAdvice(ErrorLogThrottle errorLogThrottle, MeterRegistry meterRegistry) {
+        this.errorLogThrottle = errorLogThrottle;
+        for (ErrorType errorType : ErrorType.values()) {
+            errorCounters.put(errorType, Counter.builder("api.errors")
+                .tag("code", errorType.getCode())
+                .tag("status", String.valueOf(errorType.getStatus().value()))
+                .register(meterRegistry));
+        }
+    }
+
     @ExceptionHandler
     public ResponseEntity<ApiResponse<?>> handle(CoreException e) {
-        log.warn("CoreException : {}", e.getCustomMessage() != null ? e.getCustomMessage() : e.getMessage(), e);
+        String message = e.getCustomMessage() != null ? e.getCustomMessage() : e.getMessage();
+        if (!e.getErrorType().isExpected()) {
+            log.warn("CoreException : {}", message, e);
+        } else {
+            long suppressed = errorLogThrottle.tryAcquire(e.getErrorType());
+            if (suppressed > 0) {
+                log.warn("CoreException : {} (직전 로그 이후 {}건 생략)", message, suppressed);
+            } else if (suppressed == 0) {
+                log.warn("CoreException : {}", message);
+            }
+        }
         return failureResponse(e.getErrorType(), e.getCustomMessage());
     }
 
@@ -120,6 +147,7 @@ public class ApiControllerAdvice {
     }
 
     private ResponseEntity<ApiResponse<?>> failureResponse(ErrorType errorType, String errorMessage) {
+        errorCounters.get(errorType).increment();
         return ResponseEntity.status(errorType.getStatus())
             .body(ApiResponse.fail(errorType.getCode(), errorMessage != null ? errorMessage : errorType.getMessage()));
     }
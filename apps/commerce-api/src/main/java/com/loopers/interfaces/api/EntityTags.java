@@ -0,0 +1,22 @@
+package com.loopers.interfaces.api;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 엔티티의 id 와 수정 시각으로 강한 ETag 값을 만든다.
+ * 수정 시각은 DB 저장 정밀도(마이크로초)에 맞춰, 다시 조회해도 같은 값이 나오도록 한다.
+ */
+public final class EntityTags {
+    private EntityTags() {}
+
+    /**
+     * 수정 시각을 알 수 없으면 null 을 반환한다.
+     */
+    public static String of(Long id, ZonedDateTime updatedAt) {
+        if (id == null || updatedAt == null) {
+            return null;
+        }
+        long epochMicros = updatedAt.toEpochSecond() * 1_000_000L + updatedAt.getNano() / 1_000;
+        return "\"" + id + "-" + Long.toString(epochMicros, 36) + "\"";
+    }
+}
@@ -0,0 +1,64 @@
+package com.loopers.interfaces.api;
+
+import com.loopers.support.error.ErrorType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * ErrorType 별로 초당 남길 수 있는 에러 로그 수를 제한한다.
+ * 봇/스크래핑 트래픽으로 같은 에러가 폭증해도 로그 I/O 가 요청 처리 비용을 잠식하지 않도록 한다.
+ */
+@Component
+public class ErrorLogThrottle {
+    private static final long WINDOW_NANOS = 1_000_000_000L;
+
+    private final int permitsPerSecond;
+    private final LongSupplier nanoTime;
+    private final Map<ErrorType, Window> windows = new EnumMap<>(ErrorType.class);
+
+    @Autowired
+    public ErrorLogThrottle(@Value("${api.error-log.permits-per-second:10}") int permitsPerSecond) {
+        this(permitsPerSecond, System::nanoTime);
+    }
+
+    ErrorLogThrottle(int permitsPerSecond, LongSupplier nanoTime) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.nanoTime = nanoTime;
+        for (ErrorType errorType : ErrorType.values()) {
+            windows.put(errorType, new Window());
+        }
+    }
+
+    /**
+     * 로그를 남길 수 있으면 직전에 허용된 이후 생략된 로그 수(0 이상)를, 허용되지 않으면 -1 을 반환한다.
+     */
+    public long tryAcquire(ErrorType errorType) {
+        return windows.get(errorType).tryAcquire(nanoTime.getAsLong());
+    }
+
+    private final class Window {
+        private long windowStart = nanoTime.getAsLong();
+        private int used;
+        private long suppressed;
+
+        synchronized long tryAcquire(long now) {
+            if (now - windowStart >= WINDOW_NANOS) {
+                windowStart = now;
+                used = 0;
+            }
+            if (used < permitsPerSecond) {
+                used++;
+                long suppressedSinceLast = suppressed;
+                suppressed = 0;
+                return suppressedSinceLast;
+            }
+            suppressed++;
+            return -1;
+        }
+    }
+}
@@ -2,18 +2,52 @@ package com.loopers.interfaces.api.example;
 
 import com.loopers.interfaces.api.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @Tag(name = "Example V1 API", description = "Loopers 예시 API 입니다.")
 public interface ExampleV1ApiSpec {
 
     @Operation(
         summary = "예시 조회",
-        description = "ID로 예시를 조회합니다."
+        description = "ID로 예시를 조회합니다. If-None-Match 의 ETag 가 현재 버전과 같으면 304 Not Modified 로 응답합니다."
     )
     ApiResponse<ExampleV1Dto.ExampleResponse> getExample(
         @Schema(name = "예시 ID", description = "조회할 예시의 ID")
-        Long exampleId
+        Long exampleId,
+        @Parameter(hidden = true)
+        WebRequest webRequest
+    );
+
+    @Operation(
+        summary = "예시 다건 조회",
+        description = "여러 ID 의 예시를 한 번에 조회합니다. 존재하지 않는 ID 는 notFoundIds 로 반환합니다."
+    )
+    ApiResponse<ExampleV1Dto.ExamplesResponse> getExamples(
+        @Schema(name = "예시 ID 목록", description = "조회할 예시의 ID 목록 (최대 100개)")
+        List<Long> ids
+    );
+
+    @Operation(
+        summary = "예시 목록 조회",
+        description = "커서 기반으로 최신 예시부터 목록을 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다."
+    )
+    ApiResponse<ExampleV1Dto.ExamplePageResponse> getExamplePage(
+        @Schema(name = "커서", description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+        Long cursor,
+        @Schema(name = "페이지 크기", description = "한 번에 조회할 예시 수 (최대 100)")
+        int size
     );
+
+    @Operation(
+        summary = "예시 전체 내보내기",
+        description = "삭제되지 않은 모든 예시를 NDJSON 으로 스트리밍합니다."
+    )
+    ResponseEntity<StreamingResponseBody> exportExamples();
 }
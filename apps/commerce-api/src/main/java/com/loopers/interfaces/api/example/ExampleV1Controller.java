@@ -1,28 +1,98 @@
 package com.loopers.interfaces.api.example;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.loopers.application.example.ExampleFacade;
 import com.loopers.application.example.ExampleInfo;
+import com.loopers.application.example.ExamplesInfo;
 import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.EntityTags;
+import com.loopers.support.page.CursorPage;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
 
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/v1/examples")
 public class ExampleV1Controller implements ExampleV1ApiSpec {
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
 
     private final ExampleFacade exampleFacade;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/{exampleId}")
     @Override
     public ApiResponse<ExampleV1Dto.ExampleResponse> getExample(
-        @PathVariable(value = "exampleId") Long exampleId
+        @PathVariable(value = "exampleId") Long exampleId,
+        WebRequest webRequest
     ) {
         ExampleInfo info = exampleFacade.getExample(exampleId);
+        // 캐시에서 얻은 수정 시각으로 비교하므로, 변경이 없으면 직렬화 없이 304 로 응답한다.
+        String etag = EntityTags.of(info.id(), info.updatedAt());
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
         ExampleV1Dto.ExampleResponse response = ExampleV1Dto.ExampleResponse.from(info);
         return ApiResponse.success(response);
     }
+
+    @GetMapping(params = "ids")
+    @Override
+    public ApiResponse<ExampleV1Dto.ExamplesResponse> getExamples(
+        @RequestParam(value = "ids") List<Long> ids
+    ) {
+        ExamplesInfo info = exampleFacade.getExamples(ids);
+        ExampleV1Dto.ExamplesResponse response = ExampleV1Dto.ExamplesResponse.from(info);
+        return ApiResponse.success(response);
+    }
+
+    @GetMapping(params = "!ids")
+    @Override
+    public ApiResponse<ExampleV1Dto.ExamplePageResponse> getExamplePage(
+        @RequestParam(value = "cursor", required = false) Long cursor,
+        @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        CursorPage<ExampleInfo> page = exampleFacade.getExamplePage(cursor, size);
+        ExampleV1Dto.ExamplePageResponse response = ExampleV1Dto.ExamplePageResponse.from(page);
+        return ApiResponse.success(response);
+    }
+
+    @GetMapping("/export")
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportExamples() {
+        // 행마다 flush 하지 않고 Jackson 버퍼가 찰 때만 내보내도록 한다.
+        ObjectWriter writer = objectMapper.writerFor(ExampleV1Dto.ExampleResponse.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .withRootValueSeparator("\n");
+        StreamingResponseBody body = outputStream -> {
+            try (SequenceWriter sequenceWriter = writer.writeValues(outputStream)) {
+                exampleFacade.exportExamples(info -> write(sequenceWriter, ExampleV1Dto.ExampleResponse.from(info)));
+            }
+        };
+        return ResponseEntity.ok()
+            .contentType(APPLICATION_NDJSON)
+            .body(body);
+    }
+
+    private void write(SequenceWriter sequenceWriter, ExampleV1Dto.ExampleResponse response) {
+        try {
+            sequenceWriter.write(response);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
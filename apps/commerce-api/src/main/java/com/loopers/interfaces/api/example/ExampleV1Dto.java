@@ -1,9 +1,18 @@
 package com.loopers.interfaces.api.example;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import com.loopers.application.example.ExampleInfo;
+import com.loopers.application.example.ExamplesInfo;
+import com.loopers.support.page.CursorPage;
 
+import java.util.List;
+
+/**
+ * ID 는 2^53 을 넘는 시간 순 ID 이므로, JavaScript 클라이언트에서 값이 바뀌지 않도록 JSON 문자열로 내보낸다.
+ */
 public class ExampleV1Dto {
-    public record ExampleResponse(Long id, String name, String description) {
+    public record ExampleResponse(@JsonSerialize(using = ToStringSerializer.class) Long id, String name, String description) {
         public static ExampleResponse from(ExampleInfo info) {
             return new ExampleResponse(
                 info.id(),
@@ -12,4 +21,30 @@ public class ExampleV1Dto {
             );
         }
     }
+
+    public record ExamplesResponse(
+        List<ExampleResponse> examples,
+        @JsonSerialize(contentUsing = ToStringSerializer.class) List<Long> notFoundIds
+    ) {
+        public static ExamplesResponse from(ExamplesInfo info) {
+            return new ExamplesResponse(
+                info.examples().stream().map(ExampleResponse::from).toList(),
+                info.notFoundIds()
+            );
+        }
+    }
+
+    public record ExamplePageResponse(
+        List<ExampleResponse> examples,
+        @JsonSerialize(using = ToStringSerializer.class) Long nextCursor,
+        boolean hasNext
+    ) {
+        public static ExamplePageResponse from(CursorPage<ExampleInfo> page) {
+            return new ExamplePageResponse(
+                page.items().stream().map(ExampleResponse::from).toList(),
+                page.nextCursor(),
+                page.hasNext()
+            );
+        }
+    }
 }
@@ -0,0 +1,28 @@
+package com.loopers.support.cache;
+
+import java.time.Duration;
+
+/**
+ * 2단 캐시(로컬 L1 + Redis L2)의 설정값.
+ *
+ * @param name             캐시 이름. Redis 키 prefix 와 메트릭 태그로 사용된다.
+ * @param localMaximumSize L1 에 유지할 최대 엔트리 수. 초과 시 사용 빈도가 낮은 엔트리부터 제거된다.
+ * @param localTtl         L1 엔트리 기본 TTL. 다른 인스턴스의 변경이 반영되기까지의 최대 지연이기도 하다.
+ * @param remoteTtl        L2 엔트리 기본 TTL.
+ */
+public record CacheSpec(String name, long localMaximumSize, Duration localTtl, Duration remoteTtl) {
+    public CacheSpec {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("캐시 이름은 비어있을 수 없습니다.");
+        }
+        if (localMaximumSize <= 0) {
+            throw new IllegalArgumentException("L1 최대 크기는 0보다 커야 합니다.");
+        }
+        if (localTtl == null || localTtl.isNegative() || localTtl.isZero()) {
+            throw new IllegalArgumentException("L1 TTL 은 0보다 커야 합니다.");
+        }
+        if (remoteTtl == null || remoteTtl.isNegative() || remoteTtl.isZero()) {
+            throw new IllegalArgumentException("L2 TTL 은 0보다 커야 합니다.");
+        }
+    }
+}
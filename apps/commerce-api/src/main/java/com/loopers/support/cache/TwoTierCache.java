@@ -0,0 +1,222 @@
+package com.loopers.support.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * 로컬 메모리(L1) 와 Redis(L2) 로 구성된 read-through 캐시.
+ * 조회는 L1 → L2 → loader 순으로 진행하며, 하위 계층에서 찾은 값은 상위 계층에 다시 채운다.
+ * Redis 장애는 캐시 미스로 취급하여 조회 자체가 실패하지 않도록 한다.
+ *
+ * L2 엔트리는 값의 버전과 함께 "버전:JSON" 으로 저장하며, 이미 더 새 버전이 있으면 덮어쓰지 않는다.
+ * 제거 시에는 키를 지우는 대신 최신 버전의 빈 엔트리(tombstone)를 남기므로,
+ * 제거 전에 시작된 느린 loader 가 이전 값을 뒤늦게 적재하지 못한다.
+ */
+@Slf4j
+public class TwoTierCache<K, V> {
+    private static final String KEY_PREFIX = "cache:";
+    private static final char VERSION_SEPARATOR = ':';
+
+    /**
+     * 저장된 버전이 주어진 버전보다 새로우면 0 을, 아니면 값을 적재하고 1 을 반환한다.
+     */
+    private static final RedisScript<Long> SET_IF_NOT_OLDER = new DefaultRedisScript<>("""
+        local current = redis.call('GET', KEYS[1])
+        if current then
+            local version = tonumber(string.match(current, '^(%d+):'))
+            if version and version > tonumber(ARGV[1]) then
+                return 0
+            end
+        end
+        redis.call('SET', KEYS[1], ARGV[1] .. ':' .. ARGV[2], 'PX', ARGV[3])
+        return 1
+        """, Long.class);
+
+    private final CacheSpec spec;
+    private final Class<V> valueType;
+    private final ToLongFunction<V> versionOf;
+    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, String> readTemplate;
+    private final RedisTemplate<String, String> writeTemplate;
+    private final Cache<K, V> localCache;
+
+    private final Counter localHit;
+    private final Counter localMiss;
+    private final Counter remoteHit;
+    private final Counter remoteMiss;
+    private final Counter remoteError;
+
+    TwoTierCache(
+        CacheSpec spec,
+        Class<V> valueType,
+        ToLongFunction<V> versionOf,
+        ObjectMapper objectMapper,
+        RedisTemplate<String, String> readTemplate,
+        RedisTemplate<String, String> writeTemplate,
+        MeterRegistry meterRegistry
+    ) {
+        this.spec = spec;
+        this.valueType = valueType;
+        this.versionOf = versionOf;
+        this.objectMapper = objectMapper;
+        this.readTemplate = readTemplate;
+        this.writeTemplate = writeTemplate;
+
+        Counter localEviction = counter(meterRegistry, "cache.evictions", "local", null);
+        this.localCache = Caffeine.newBuilder()
+            .maximumSize(spec.localMaximumSize())
+            .expireAfter(new DefaultTtlExpiry<K, V>(spec.localTtl()))
+            .evictionListener((key, value, cause) -> localEviction.increment())
+            .build();
+
+        this.localHit = counter(meterRegistry, "cache.gets", "local", "hit");
+        this.localMiss = counter(meterRegistry, "cache.gets", "local", "miss");
+        this.remoteHit = counter(meterRegistry, "cache.gets", "remote", "hit");
+        this.remoteMiss = counter(meterRegistry, "cache.gets", "remote", "miss");
+        this.remoteError = counter(meterRegistry, "cache.errors", "remote", null);
+    }
+
+    /**
+     * 캐시에서 값을 조회하고, 없으면 loader 로 읽어 기본 TTL 로 적재한다.
+     * loader 가 null 을 반환하거나 예외를 던지면 아무것도 적재하지 않는다.
+     * loader 가 읽는 동안 제거되어 L2 에 더 새 버전이 있으면, 읽은 값은 반환만 하고 적재하지 않는다.
+     */
+    public V get(K key, Supplier<V> loader) {
+        V local = localCache.getIfPresent(key);
+        if (local != null) {
+            localHit.increment();
+            return local;
+        }
+        localMiss.increment();
+
+        V remote = readRemote(key);
+        if (remote != null) {
+            remoteHit.increment();
+            localCache.put(key, remote);
+            return remote;
+        }
+        remoteMiss.increment();
+
+        V loaded = loader.get();
+        if (loaded != null) {
+            put(key, loaded, spec.remoteTtl());
+        }
+        return loaded;
+    }
+
+    /**
+     * 엔트리 단위 TTL 로 값을 적재한다. L1 에는 주어진 TTL 과 L1 기본 TTL 중 짧은 쪽이 적용된다.
+     * L2 에 더 새 버전이 있으면 어느 계층에도 적재하지 않는다.
+     */
+    public void put(K key, V value, Duration ttl) {
+        if (!writeRemote(key, versionOf.applyAsLong(value), serialize(key, value), ttl)) {
+            return;
+        }
+        Duration localTtl = ttl.compareTo(spec.localTtl()) < 0 ? ttl : spec.localTtl();
+        localCache.policy().expireVariably().ifPresentOrElse(
+            policy -> policy.put(key, value, localTtl.toNanos(), TimeUnit.NANOSECONDS),
+            () -> localCache.put(key, value)
+        );
+    }
+
+    /**
+     * 이 인스턴스의 L1 과 공유 L2 에서 엔트리를 제거한다. current 는 변경이 반영된 최신 값이며,
+     * L2 에는 그 버전의 tombstone 이 L2 기본 TTL 동안 남아 current 보다 오래된 값이 다시 적재되지 않는다.
+     * 다른 인스턴스의 L1 은 {@link CacheSpec#localTtl()} 이내에 만료된다.
+     */
+    public void evict(K key, V current) {
+        localCache.invalidate(key);
+        writeRemote(key, versionOf.applyAsLong(current), "", spec.remoteTtl());
+    }
+
+    private V readRemote(K key) {
+        try {
+            String entry = readTemplate.opsForValue().get(remoteKey(key));
+            if (entry == null) {
+                return null;
+            }
+            String json = entry.substring(entry.indexOf(VERSION_SEPARATOR) + 1);
+            return json.isEmpty() ? null : objectMapper.readValue(json, valueType);
+        } catch (JsonProcessingException | RuntimeException e) {
+            remoteError.increment();
+            log.warn("캐시 '{}' 의 L2 조회에 실패했습니다. key = {}", spec.name(), key, e);
+            return null;
+        }
+    }
+
+    /**
+     * L2 에 더 새 버전이 있어 적재하지 않았으면 false 를 반환한다.
+     * 직렬화나 Redis 에 실패하면 버전을 비교할 수 없으므로, L1 에는 적재되도록 true 를 반환한다.
+     */
+    private boolean writeRemote(K key, long version, String json, Duration ttl) {
+        if (json == null) {
+            return true;
+        }
+        try {
+            Long written = writeTemplate.execute(
+                SET_IF_NOT_OLDER, List.of(remoteKey(key)), String.valueOf(version), json, String.valueOf(ttl.toMillis())
+            );
+            return written == null || written != 0L;
+        } catch (RuntimeException e) {
+            remoteError.increment();
+            log.warn("캐시 '{}' 의 L2 적재에 실패했습니다. key = {}", spec.name(), key, e);
+            return true;
+        }
+    }
+
+    private String serialize(K key, V value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            remoteError.increment();
+            log.warn("캐시 '{}' 의 L2 적재에 실패했습니다. key = {}", spec.name(), key, e);
+            return null;
+        }
+    }
+
+    private String remoteKey(K key) {
+        return KEY_PREFIX + spec.name() + ":" + key;
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String name, String tier, String result) {
+        Counter.Builder builder = Counter.builder(name)
+            .tag("cache", spec.name())
+            .tag("tier", tier);
+        if (result != null) {
+            builder.tag("result", result);
+        }
+        return builder.register(meterRegistry);
+    }
+
+    private record DefaultTtlExpiry<K, V>(Duration ttl) implements Expiry<K, V> {
+        @Override
+        public long expireAfterCreate(K key, V value, long currentTime) {
+            return ttl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(K key, V value, long currentTime, long currentDuration) {
+            return ttl.toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(K key, V value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
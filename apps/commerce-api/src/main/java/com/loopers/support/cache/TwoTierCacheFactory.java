@@ -0,0 +1,41 @@
+package com.loopers.support.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.config.redis.RedisConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * {@link TwoTierCache} 생성기.
+ * L2 조회는 replica 우선 템플릿으로, 적재/삭제는 master 템플릿으로 수행한다.
+ */
+@Component
+public class TwoTierCacheFactory {
+    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, String> defaultRedisTemplate;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public TwoTierCacheFactory(
+        ObjectMapper objectMapper,
+        RedisTemplate<String, String> defaultRedisTemplate,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+        MeterRegistry meterRegistry
+    ) {
+        this.objectMapper = objectMapper;
+        this.defaultRedisTemplate = defaultRedisTemplate;
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param versionOf 값의 버전. 같은 키의 값은 변경될 때마다 버전이 커져야 하며, L2 에서 이전 값이 새 값을 덮어쓰지 않도록 비교하는 데 쓰인다.
+     */
+    public <K, V> TwoTierCache<K, V> create(CacheSpec spec, Class<V> valueType, ToLongFunction<V> versionOf) {
+        return new TwoTierCache<>(spec, valueType, versionOf, objectMapper, defaultRedisTemplate, masterRedisTemplate, meterRegistry);
+    }
+}
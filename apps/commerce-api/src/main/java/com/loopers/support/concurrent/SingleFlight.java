@@ -0,0 +1,95 @@
+package com.loopers.support.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 로드를 하나로 합친다.
+ * 먼저 도착한 호출(leader)만 loader 를 실행하고, 그동안 도착한 호출(follower)은 leader 의 결과나 예외를 그대로 공유한다.
+ * 진행 중인 로드는 키의 해시로 나눈 stripe 별 lock 으로 관리하여, 서로 다른 키 간의 경합을 줄인다.
+ * follower 는 leader 가 만든 객체를 그대로 받으므로, 읽기 전용 조회에만 사용한다.
+ */
+public class SingleFlight<K, V> {
+    private static final int STRIPE_COUNT = 64;
+
+    private final Stripe<K, V>[] stripes;
+    private final Counter leaderCalls;
+    private final Counter coalescedCalls;
+
+    @SuppressWarnings("unchecked")
+    SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.stripes = new Stripe[STRIPE_COUNT];
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe<>();
+        }
+        this.leaderCalls = Counter.builder("singleflight.calls")
+            .tag("name", name)
+            .tag("role", "leader")
+            .register(meterRegistry);
+        this.coalescedCalls = Counter.builder("singleflight.calls")
+            .tag("name", name)
+            .tag("role", "coalesced")
+            .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        Stripe<K, V> stripe = stripeOf(key);
+        CompletableFuture<V> inFlight;
+        CompletableFuture<V> created = null;
+        synchronized (stripe) {
+            inFlight = stripe.inFlight.get(key);
+            if (inFlight == null) {
+                created = new CompletableFuture<>();
+                stripe.inFlight.put(key, created);
+            }
+        }
+
+        if (created == null) {
+            coalescedCalls.increment();
+            return await(inFlight);
+        }
+
+        leaderCalls.increment();
+        try {
+            V value = loader.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            synchronized (stripe) {
+                stripe.inFlight.remove(key, created);
+            }
+        }
+    }
+
+    private V await(CompletableFuture<V> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Stripe<K, V> stripeOf(K key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPE_COUNT - 1)];
+    }
+
+    private static final class Stripe<K, V> {
+        private final Map<K, CompletableFuture<V>> inFlight = new HashMap<>();
+    }
+}
@@ -0,0 +1,15 @@
+package com.loopers.support.concurrent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class SingleFlightFactory {
+    private final MeterRegistry meterRegistry;
+
+    public <K, V> SingleFlight<K, V> create(String name) {
+        return new SingleFlight<>(name, meterRegistry);
+    }
+}
@@ -12,7 +12,8 @@ public class CoreException extends RuntimeException {
     }
 
     public CoreException(ErrorType errorType, String customMessage) {
-        super(customMessage != null ? customMessage : errorType.getMessage());
+        // 예상 가능한 에러는 원인 추적에 stack trace 가 필요 없으므로, 수집 비용을 들이지 않는다.
+        super(customMessage != null ? customMessage : errorType.getMessage(), null, !errorType.isExpected(), !errorType.isExpected());
         this.errorType = errorType;
         this.customMessage = customMessage;
     }
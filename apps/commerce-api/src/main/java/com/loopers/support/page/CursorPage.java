@@ -0,0 +1,30 @@
+package com.loopers.support.page;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋(커서) 기반 페이지.
+ * nextCursor 는 다음 페이지 조회 시 그대로 전달할 값이며, 마지막 페이지면 null 이다.
+ */
+public record CursorPage<T>(List<T> items, Long nextCursor) {
+
+    /**
+     * size + 1 개까지 조회한 결과로 페이지를 만든다. 초과분이 있으면 다음 페이지가 존재하는 것으로 본다.
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, Long> cursorExtractor) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, size);
+        return new CursorPage<>(items, cursorExtractor.apply(items.get(size - 1)));
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).toList(), nextCursor);
+    }
+}
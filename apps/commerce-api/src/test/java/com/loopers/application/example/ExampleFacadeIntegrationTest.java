@@ -0,0 +1,168 @@
+package com.loopers.application.example;
+
+import com.loopers.domain.example.ExampleModel;
+import com.loopers.infrastructure.example.ExampleJpaRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
+
+@SpringBootTest
+class ExampleFacadeIntegrationTest {
+    @Autowired
+    private ExampleFacade exampleFacade;
+
+    @Autowired
+    private ExampleJpaRepository exampleJpaRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @Autowired
+    @Qualifier("mySqlMainDataSource")
+    private DataSource mainDataSource;
+
+    @MockitoSpyBean(name = "mySqlReplicaDataSource")
+    private DataSource replicaDataSource;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("예시를 캐시를 통해 조회할 때,")
+    @Nested
+    class Get {
+        @DisplayName("한 번 조회된 예시는, DB 에서 삭제되어도 캐시에서 반환된다.")
+        @Test
+        void returnsCachedExample_whenAlreadyLoaded() {
+            // arrange
+            ExampleModel exampleModel = exampleJpaRepository.save(
+                new ExampleModel("예시 제목", "예시 설명")
+            );
+            exampleFacade.getExample(exampleModel.getId());
+            exampleJpaRepository.deleteAll();
+
+            // act
+            ExampleInfo result = exampleFacade.getExample(exampleModel.getId());
+
+            // assert
+            assertAll(
+                () -> assertThat(result.id()).isEqualTo(exampleModel.getId()),
+                () -> assertThat(result.description()).isEqualTo(exampleModel.getDescription())
+            );
+        }
+
+        @DisplayName("예시가 수정되면, 이후 조회 시 수정된 정보를 반환한다.")
+        @Test
+        void returnsUpdatedExample_whenExampleIsUpdated() {
+            // arrange
+            ExampleModel exampleModel = exampleJpaRepository.save(
+                new ExampleModel("예시 제목", "예시 설명")
+            );
+            exampleFacade.getExample(exampleModel.getId());
+
+            // act
+            exampleFacade.updateExample(exampleModel.getId(), "수정된 설명");
+            ExampleInfo result = exampleFacade.getExample(exampleModel.getId());
+
+            // assert
+            assertThat(result.description()).isEqualTo("수정된 설명");
+        }
+
+        @DisplayName("replica 가 복제 지연으로 이전 값을 가지고 있어도, 수정 직후 조회는 main 에서 읽은 수정된 정보를 반환한다.")
+        @Test
+        void returnsUpdatedExample_whenReplicaLagsBehind() throws SQLException {
+            // arrange
+            ExampleModel exampleModel = exampleJpaRepository.save(
+                new ExampleModel("예시 제목", "예시 설명")
+            );
+            try (Connection snapshot = mainDataSource.getConnection()) {
+                doReturn(laggingReplicaOf(snapshot, exampleModel.getId())).when(replicaDataSource).getConnection();
+
+                // act
+                exampleFacade.updateExample(exampleModel.getId(), "수정된 설명");
+                ExampleInfo result = exampleFacade.getExample(exampleModel.getId());
+                ExampleInfo cached = exampleFacade.getExample(exampleModel.getId());
+                ExamplesInfo fromReplica = exampleFacade.getExamples(List.of(exampleModel.getId()));
+
+                // assert
+                assertAll(
+                    () -> assertThat(result.description()).isEqualTo("수정된 설명"),
+                    () -> assertThat(cached.description()).isEqualTo("수정된 설명"),
+                    () -> assertThat(fromReplica.examples()).extracting(ExampleInfo::description).containsExactly("예시 설명")
+                );
+            }
+        }
+
+        @DisplayName("존재하지 않는 예시 ID 를 주면, NOT_FOUND 예외가 발생한다.")
+        @Test
+        void throwsException_whenInvalidIdIsProvided() {
+            // arrange
+            Long invalidId = 999L;
+
+            // act
+            CoreException result = assertThrows(CoreException.class, () -> exampleFacade.getExample(invalidId));
+
+            // assert
+            assertThat(result.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
+        }
+    }
+
+    /**
+     * 수정 전에 연 트랜잭션의 스냅샷(REPEATABLE READ) 을 계속 읽는 커넥션으로, 복제 지연된 replica 를 흉내 낸다.
+     * 트랜잭션을 끝내거나 커넥션을 반납하는 호출은 무시하여 스냅샷을 유지한다.
+     */
+    private static Connection laggingReplicaOf(Connection snapshot, Long exampleId) throws SQLException {
+        snapshot.setAutoCommit(false);
+        try (PreparedStatement statement = snapshot.prepareStatement("SELECT description FROM example WHERE id = ?")) {
+            statement.setLong(1, exampleId);
+            try (ResultSet ignored = statement.executeQuery()) {
+                // 첫 읽기에서 스냅샷이 만들어진다.
+            }
+        }
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "close", "commit", "rollback", "setAutoCommit", "setReadOnly" -> {
+                    return null;
+                }
+                case "getAutoCommit" -> {
+                    return false;
+                }
+                default -> {
+                    try {
+                        return method.invoke(snapshot, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }
+            }
+        });
+    }
+}
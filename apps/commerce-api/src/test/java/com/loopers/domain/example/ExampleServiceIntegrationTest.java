@@ -1,6 +1,8 @@
 package com.loopers.domain.example;
 
 import com.loopers.infrastructure.example.ExampleJpaRepository;
+import com.loopers.infrastructure.outbox.OutboxMessage;
+import com.loopers.infrastructure.outbox.OutboxStore;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import com.loopers.utils.DatabaseCleanUp;
@@ -11,6 +13,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -23,6 +27,9 @@ class ExampleServiceIntegrationTest {
     @Autowired
     private ExampleJpaRepository exampleJpaRepository;
 
+    @Autowired
+    private OutboxStore outboxStore;
+
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
 
@@ -69,4 +76,45 @@ class ExampleServiceIntegrationTest {
             assertThat(exception.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
         }
     }
+
+    @DisplayName("예시를 수정할 때,")
+    @Nested
+    class Update {
+        @DisplayName("수정에 성공하면, 변경 이벤트가 outbox 에 기록된다.")
+        @Test
+        void appendsOutboxEvent_whenUpdateSucceeds() {
+            // arrange
+            ExampleModel exampleModel = exampleJpaRepository.save(
+                new ExampleModel("예시 제목", "예시 설명")
+            );
+
+            // act
+            exampleService.updateExample(exampleModel.getId(), "수정된 설명");
+
+            // assert
+            List<OutboxMessage> events = outboxStore.findUnpublished(10);
+            assertAll(
+                () -> assertThat(events).hasSize(1),
+                () -> assertThat(events.get(0).topic()).isEqualTo(ExampleEvent.TOPIC),
+                () -> assertThat(events.get(0).messageKey()).isEqualTo(String.valueOf(exampleModel.getId())),
+                () -> assertThat(events.get(0).eventType()).isEqualTo(ExampleEvent.Updated.TYPE),
+                () -> assertThat(events.get(0).payload()).contains("수정된 설명")
+            );
+        }
+
+        @DisplayName("수정에 실패하면, outbox 에 아무것도 기록되지 않는다.")
+        @Test
+        void appendsNothing_whenUpdateFails() {
+            // arrange
+            ExampleModel exampleModel = exampleJpaRepository.save(
+                new ExampleModel("예시 제목", "예시 설명")
+            );
+
+            // act
+            assertThrows(CoreException.class, () -> exampleService.updateExample(exampleModel.getId(), " "));
+
+            // assert
+            assertThat(outboxStore.findUnpublished(10)).isEmpty();
+        }
+    }
 }
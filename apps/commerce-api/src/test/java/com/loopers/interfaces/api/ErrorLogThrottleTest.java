@@ -0,0 +1,71 @@
+package com.loopers.interfaces.api;
+
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ErrorLogThrottleTest {
+    private static final long ONE_SECOND_NANOS = 1_000_000_000L;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final ErrorLogThrottle throttle = new ErrorLogThrottle(2, nanos::get);
+
+    @DisplayName("1초 안에 허용량을 넘긴 로그는 허용하지 않는다.")
+    @Test
+    void rejects_whenPermitsAreExhaustedWithinWindow() {
+        // act
+        long first = throttle.tryAcquire(ErrorType.NOT_FOUND);
+        long second = throttle.tryAcquire(ErrorType.NOT_FOUND);
+        long third = throttle.tryAcquire(ErrorType.NOT_FOUND);
+
+        // assert
+        assertAll(
+            () -> assertThat(first).isZero(),
+            () -> assertThat(second).isZero(),
+            () -> assertThat(third).isEqualTo(-1)
+        );
+    }
+
+    @DisplayName("1초가 지나면 다시 허용하고, 그동안 생략된 로그 수를 반환한다.")
+    @Test
+    void returnsSuppressedCount_whenWindowIsRenewed() {
+        // arrange
+        for (int i = 0; i < 5; i++) {
+            throttle.tryAcquire(ErrorType.NOT_FOUND);
+        }
+        nanos.addAndGet(ONE_SECOND_NANOS);
+
+        // act
+        long suppressed = throttle.tryAcquire(ErrorType.NOT_FOUND);
+        long next = throttle.tryAcquire(ErrorType.NOT_FOUND);
+
+        // assert
+        assertAll(
+            () -> assertThat(suppressed).isEqualTo(3),
+            () -> assertThat(next).isZero()
+        );
+    }
+
+    @DisplayName("ErrorType 별로 허용량을 따로 센다.")
+    @Test
+    void countsPermitsPerErrorType() {
+        // arrange
+        throttle.tryAcquire(ErrorType.NOT_FOUND);
+        throttle.tryAcquire(ErrorType.NOT_FOUND);
+
+        // act
+        long notFound = throttle.tryAcquire(ErrorType.NOT_FOUND);
+        long badRequest = throttle.tryAcquire(ErrorType.BAD_REQUEST);
+
+        // assert
+        assertAll(
+            () -> assertThat(notFound).isEqualTo(-1),
+            () -> assertThat(badRequest).isZero()
+        );
+    }
+}
@@ -1,6 +1,7 @@
 package com.loopers.interfaces.api;
 
 import com.loopers.domain.example.ExampleModel;
+import com.loopers.domain.example.ExampleService;
 import com.loopers.infrastructure.example.ExampleJpaRepository;
 import com.loopers.interfaces.api.example.ExampleV1Dto;
 import com.loopers.utils.DatabaseCleanUp;
@@ -13,11 +14,14 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -27,6 +31,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 class ExampleV1ApiE2ETest {
 
     private static final Function<Long, String> ENDPOINT_GET = id -> "/api/v1/examples/" + id;
+    private static final Function<String, String> ENDPOINT_GET_ALL = ids -> "/api/v1/examples?ids=" + ids;
+    private static final String ENDPOINT_GET_PAGE = "/api/v1/examples?size=2";
+    private static final String ENDPOINT_EXPORT = "/api/v1/examples/export";
 
     private final TestRestTemplate testRestTemplate;
     private final ExampleJpaRepository exampleJpaRepository;
@@ -74,6 +81,52 @@ class ExampleV1ApiE2ETest {
             );
         }
 
+        @DisplayName("예시 ID 는 JavaScript 에서 정밀도를 잃지 않도록 JSON 문자열로 반환한다.")
+        @Test
+        void returnsIdAsJsonString() {
+            // arrange
+            ExampleModel exampleModel = exampleJpaRepository.save(
+                new ExampleModel("예시 제목", "예시 설명")
+            );
+            String requestUrl = ENDPOINT_GET.apply(exampleModel.getId());
+
+            // act
+            ResponseEntity<String> response = testRestTemplate.getForEntity(requestUrl, String.class);
+
+            // assert
+            assertAll(
+                () -> assertThat(exampleModel.getId()).isGreaterThan(1L << 53),
+                () -> assertThat(response.getBody()).contains("\"id\":\"" + exampleModel.getId() + "\"")
+            );
+        }
+
+        @DisplayName("이전 응답의 ETag 를 If-None-Match 로 주면, 304 NOT_MODIFIED 응답을 받는다.")
+        @Test
+        void returnsNotModified_whenIfNoneMatchEqualsCurrentETag() {
+            // arrange
+            ExampleModel exampleModel = exampleJpaRepository.save(
+                new ExampleModel("예시 제목", "예시 설명")
+            );
+            String requestUrl = ENDPOINT_GET.apply(exampleModel.getId());
+            ParameterizedTypeReference<ApiResponse<ExampleV1Dto.ExampleResponse>> responseType = new ParameterizedTypeReference<>() {};
+            ResponseEntity<ApiResponse<ExampleV1Dto.ExampleResponse>> firstResponse =
+                testRestTemplate.exchange(requestUrl, HttpMethod.GET, new HttpEntity<>(null), responseType);
+            String etag = firstResponse.getHeaders().getETag();
+
+            // act
+            HttpHeaders headers = new HttpHeaders();
+            headers.setIfNoneMatch(etag);
+            ResponseEntity<ApiResponse<ExampleV1Dto.ExampleResponse>> response =
+                testRestTemplate.exchange(requestUrl, HttpMethod.GET, new HttpEntity<>(null, headers), responseType);
+
+            // assert
+            assertAll(
+                () -> assertThat(etag).isNotBlank(),
+                () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED),
+                () -> assertThat(response.getBody()).isNull()
+            );
+        }
+
         @DisplayName("숫자가 아닌 ID 로 요청하면, 400 BAD_REQUEST 응답을 받는다.")
         @Test
         void throwsBadRequest_whenIdIsNotProvided() {
@@ -111,4 +164,111 @@ class ExampleV1ApiE2ETest {
             );
         }
     }
+
+    @DisplayName("GET /api/v1/examples?ids=")
+    @Nested
+    class GetAll {
+        @DisplayName("여러 예시 ID를 주면, 요청한 순서대로 예시 정보를 반환하고 없는 ID 는 따로 알려준다.")
+        @Test
+        void returnsExamplesInRequestedOrder_andReportsNotFoundIds() {
+            // arrange
+            ExampleModel first = exampleJpaRepository.save(new ExampleModel("예시 제목1", "예시 설명1"));
+            ExampleModel second = exampleJpaRepository.save(new ExampleModel("예시 제목2", "예시 설명2"));
+            Long invalidId = -1L;
+            String requestUrl = ENDPOINT_GET_ALL.apply(second.getId() + "," + invalidId + "," + first.getId());
+
+            // act
+            ParameterizedTypeReference<ApiResponse<ExampleV1Dto.ExamplesResponse>> responseType = new ParameterizedTypeReference<>() {};
+            ResponseEntity<ApiResponse<ExampleV1Dto.ExamplesResponse>> response =
+                testRestTemplate.exchange(requestUrl, HttpMethod.GET, new HttpEntity<>(null), responseType);
+
+            // assert
+            assertAll(
+                () -> assertTrue(response.getStatusCode().is2xxSuccessful()),
+                () -> assertThat(response.getBody().data().examples())
+                    .extracting(ExampleV1Dto.ExampleResponse::id)
+                    .containsExactly(second.getId(), first.getId()),
+                () -> assertThat(response.getBody().data().notFoundIds()).containsExactly(invalidId)
+            );
+        }
+
+        @DisplayName("최대 조회 개수를 넘는 ID 를 주면, 400 BAD_REQUEST 응답을 받는다.")
+        @Test
+        void throwsBadRequest_whenTooManyIdsAreProvided() {
+            // arrange
+            String ids = LongStream.rangeClosed(1, ExampleService.MAX_BATCH_SIZE + 1)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+            String requestUrl = ENDPOINT_GET_ALL.apply(ids);
+
+            // act
+            ParameterizedTypeReference<ApiResponse<ExampleV1Dto.ExamplesResponse>> responseType = new ParameterizedTypeReference<>() {};
+            ResponseEntity<ApiResponse<ExampleV1Dto.ExamplesResponse>> response =
+                testRestTemplate.exchange(requestUrl, HttpMethod.GET, new HttpEntity<>(null), responseType);
+
+            // assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @DisplayName("GET /api/v1/examples?cursor=&size=")
+    @Nested
+    class GetPage {
+        @DisplayName("커서를 따라가면, 삭제되지 않은 예시를 최신순으로 빠짐없이 반환한다.")
+        @Test
+        void returnsNotDeletedExamplesInDescendingOrder_whenFollowingCursor() {
+            // arrange
+            ExampleModel first = exampleJpaRepository.save(new ExampleModel("예시 제목1", "예시 설명1"));
+            ExampleModel deleted = new ExampleModel("예시 제목2", "예시 설명2");
+            deleted.delete();
+            exampleJpaRepository.save(deleted);
+            ExampleModel third = exampleJpaRepository.save(new ExampleModel("예시 제목3", "예시 설명3"));
+            ExampleModel fourth = exampleJpaRepository.save(new ExampleModel("예시 제목4", "예시 설명4"));
+
+            // act
+            ParameterizedTypeReference<ApiResponse<ExampleV1Dto.ExamplePageResponse>> responseType = new ParameterizedTypeReference<>() {};
+            ResponseEntity<ApiResponse<ExampleV1Dto.ExamplePageResponse>> firstPage =
+                testRestTemplate.exchange(ENDPOINT_GET_PAGE, HttpMethod.GET, new HttpEntity<>(null), responseType);
+            String nextPageUrl = ENDPOINT_GET_PAGE + "&cursor=" + firstPage.getBody().data().nextCursor();
+            ResponseEntity<ApiResponse<ExampleV1Dto.ExamplePageResponse>> secondPage =
+                testRestTemplate.exchange(nextPageUrl, HttpMethod.GET, new HttpEntity<>(null), responseType);
+
+            // assert
+            assertAll(
+                () -> assertThat(firstPage.getBody().data().examples())
+                    .extracting(ExampleV1Dto.ExampleResponse::id)
+                    .containsExactly(fourth.getId(), third.getId()),
+                () -> assertThat(firstPage.getBody().data().hasNext()).isTrue(),
+                () -> assertThat(secondPage.getBody().data().examples())
+                    .extracting(ExampleV1Dto.ExampleResponse::id)
+                    .containsExactly(first.getId()),
+                () -> assertThat(secondPage.getBody().data().hasNext()).isFalse()
+            );
+        }
+    }
+
+    @DisplayName("GET /api/v1/examples/export")
+    @Nested
+    class Export {
+        @DisplayName("삭제되지 않은 예시를 한 줄에 하나씩 NDJSON 으로 반환한다.")
+        @Test
+        void streamsNotDeletedExamplesAsNdjson() {
+            // arrange
+            exampleJpaRepository.save(new ExampleModel("예시 제목1", "예시 설명1"));
+            ExampleModel deleted = new ExampleModel("예시 제목2", "예시 설명2");
+            deleted.delete();
+            exampleJpaRepository.save(deleted);
+            exampleJpaRepository.save(new ExampleModel("예시 제목3", "예시 설명3"));
+
+            // act
+            ResponseEntity<String> response = testRestTemplate.getForEntity(ENDPOINT_EXPORT, String.class);
+
+            // assert
+            assertAll(
+                () -> assertTrue(response.getStatusCode().is2xxSuccessful()),
+                () -> assertThat(response.getBody().lines()).hasSize(2),
+                () -> assertThat(response.getBody()).doesNotContain("예시 제목2")
+            );
+        }
+    }
 }
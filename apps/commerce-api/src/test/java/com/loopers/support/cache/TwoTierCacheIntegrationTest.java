@@ -0,0 +1,117 @@
+package com.loopers.support.cache;
+
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+class TwoTierCacheIntegrationTest {
+    private static final CacheSpec SPEC = new CacheSpec("two-tier-test", 100, Duration.ofSeconds(30), Duration.ofMinutes(10));
+    private static final Long KEY = 1L;
+
+    @Autowired
+    private TwoTierCacheFactory twoTierCacheFactory;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private TwoTierCache<Long, Versioned> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = twoTierCacheFactory.create(SPEC, Versioned.class, Versioned::version);
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("제거 전에 시작된 느린 loader 가 이전 값을 읽어오면, 그 값은 어느 계층에도 적재되지 않는다.")
+    @Test
+    void doesNotFillStaleValue_whenSlowLoaderFinishesAfterEvict() throws Exception {
+        // arrange
+        Versioned before = new Versioned("수정 전", 1L);
+        Versioned after = new Versioned("수정 후", 2L);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+        CompletableFuture<Versioned> slowRead = CompletableFuture.supplyAsync(() -> cache.get(KEY, () -> {
+            loading.countDown();
+            await(evicted);
+            return before;
+        }));
+        await(loading);
+
+        // act
+        cache.evict(KEY, after);
+        evicted.countDown();
+        Versioned slowResult = slowRead.get(5, TimeUnit.SECONDS);
+        Versioned result = cache.get(KEY, () -> after);
+
+        // assert
+        assertAll(
+            () -> assertThat(slowResult).isEqualTo(before),
+            () -> assertThat(result).isEqualTo(after)
+        );
+    }
+
+    @DisplayName("제거된 뒤 최신 버전을 읽어오면 다시 적재되어, 이후 조회는 loader 를 호출하지 않는다.")
+    @Test
+    void fillsLatestValue_afterEvict() {
+        // arrange
+        Versioned after = new Versioned("수정 후", 2L);
+        cache.get(KEY, () -> new Versioned("수정 전", 1L));
+        cache.evict(KEY, after);
+        cache.get(KEY, () -> after);
+
+        // act
+        Versioned result = cache.get(KEY, () -> fail("캐시에서 반환되어야 합니다."));
+
+        // assert
+        assertThat(result).isEqualTo(after);
+    }
+
+    @DisplayName("L2 에 더 새 버전이 있으면, 이전 버전으로 덮어쓰지 않는다.")
+    @Test
+    void doesNotOverwriteNewerVersion() {
+        // arrange
+        Versioned newer = new Versioned("수정 후", 2L);
+        cache.put(KEY, newer, SPEC.remoteTtl());
+        TwoTierCache<Long, Versioned> otherInstance = twoTierCacheFactory.create(SPEC, Versioned.class, Versioned::version);
+
+        // act
+        otherInstance.put(KEY, new Versioned("수정 전", 1L), SPEC.remoteTtl());
+        Versioned result = twoTierCacheFactory.create(SPEC, Versioned.class, Versioned::version)
+            .get(KEY, () -> fail("L2 에서 반환되어야 합니다."));
+
+        // assert
+        assertThat(result).isEqualTo(newer);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("대기 시간이 초과되었습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    record Versioned(String description, long version) {
+    }
+}
@@ -0,0 +1,117 @@
+package com.loopers.support.concurrent;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SingleFlightTest {
+    private static final int CONCURRENCY = 16;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<Long, String> singleFlight = new SingleFlightFactory(meterRegistry).create("test");
+
+    @DisplayName("같은 키로 동시에 호출하면, loader 는 한 번만 실행되고 모든 호출이 같은 결과를 받는다.")
+    @Test
+    void loaderIsInvokedOnce_whenSameKeyIsRequestedConcurrently() throws Exception {
+        // arrange
+        AtomicInteger loaderCalls = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+
+        // act
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> singleFlight.execute(1L, () -> {
+            loaderCalls.incrementAndGet();
+            loaderStarted.countDown();
+            await(release);
+            return "value";
+        })));
+        loaderStarted.await(5, TimeUnit.SECONDS);
+        for (int i = 1; i < CONCURRENCY; i++) {
+            results.add(executor.submit(() -> singleFlight.execute(1L, () -> {
+                loaderCalls.incrementAndGet();
+                return "other";
+            })));
+        }
+        waitUntilCoalesced(CONCURRENCY - 1);
+        release.countDown();
+
+        List<String> values = new ArrayList<>();
+        for (Future<String> result : results) {
+            values.add(result.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // assert
+        assertAll(
+            () -> assertThat(loaderCalls.get()).isEqualTo(1),
+            () -> assertThat(values).hasSize(CONCURRENCY).containsOnly("value")
+        );
+    }
+
+    @DisplayName("loader 가 예외를 던지면, 대기 중이던 호출도 같은 예외를 받고 이후 호출은 다시 loader 를 실행한다.")
+    @Test
+    void exceptionIsShared_andNextCallReloads() throws Exception {
+        // arrange
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // act
+        Future<String> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+            loaderStarted.countDown();
+            await(release);
+            throw new CoreException(ErrorType.NOT_FOUND);
+        }));
+        loaderStarted.await(5, TimeUnit.SECONDS);
+        Future<String> follower = executor.submit(() -> singleFlight.execute(1L, () -> "other"));
+        waitUntilCoalesced(1);
+        release.countDown();
+
+        Exception followerException = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+        String next = singleFlight.execute(1L, () -> "reloaded");
+        executor.shutdown();
+
+        // assert
+        assertAll(
+            () -> assertThat(followerException.getCause()).isInstanceOf(CoreException.class),
+            () -> assertThat(next).isEqualTo("reloaded")
+        );
+    }
+
+    private void waitUntilCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescedCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private double coalescedCount() {
+        return meterRegistry.get("singleflight.calls").tag("role", "coalesced").counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
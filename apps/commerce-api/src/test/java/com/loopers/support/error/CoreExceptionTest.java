@@ -31,4 +31,24 @@ class CoreExceptionTest {
         // assert
         assertThat(exception.getMessage()).isEqualTo(customMessage);
     }
+
+    @DisplayName("예상 가능한 ErrorType 으로 예외 생성 시, stack trace 를 수집하지 않는다.")
+    @Test
+    void stackTraceShouldBeEmpty_whenErrorTypeIsExpected() {
+        // act
+        CoreException exception = new CoreException(ErrorType.NOT_FOUND);
+
+        // assert
+        assertThat(exception.getStackTrace()).isEmpty();
+    }
+
+    @DisplayName("INTERNAL_ERROR 로 예외 생성 시, stack trace 를 수집한다.")
+    @Test
+    void stackTraceShouldBeCaptured_whenErrorTypeIsInternalError() {
+        // act
+        CoreException exception = new CoreException(ErrorType.INTERNAL_ERROR);
+
+        // assert
+        assertThat(exception.getStackTrace()).isNotEmpty();
+    }
 }
@@ -2,12 +2,15 @@ dependencies {
     // add-ons
     implementation(project(":modules:jpa"))
     implementation(project(":modules:redis"))
+    implementation(project(":modules:kafka"))
     implementation(project(":supports:jackson"))
     implementation(project(":supports:logging"))
     implementation(project(":supports:monitoring"))
 
     // batch
     implementation("org.springframework.boot:spring-boot-starter-batch")
+    // 짧게 실행되고 종료되는 프로세스이므로 scrape 대신 Pushgateway 로 메트릭을 보낸다.
+    implementation("io.prometheus:prometheus-metrics-exporter-pushgateway")
     testImplementation("org.springframework.batch:spring-batch-test")
 
     // querydsl
@@ -18,4 +21,5 @@ dependencies {
     // test-fixtures
     testImplementation(testFixtures(project(":modules:jpa")))
     testImplementation(testFixtures(project(":modules:redis")))
+    testImplementation(testFixtures(project(":modules:kafka")))
 }
@@ -0,0 +1,217 @@
+package com.loopers.batch.job.exampleranking;
+
+import com.loopers.batch.listener.ChunkListener;
+import com.loopers.batch.listener.JobListener;
+import com.loopers.batch.listener.StepMonitorListener;
+import com.loopers.batch.support.redis.SortedSetPipelineWriter;
+import com.loopers.config.redis.RedisConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.DefaultJobParametersValidator;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * requestDate 일자의 예시 변경 랭킹을 Redis sorted set 으로 만든다.
+ * <ol>
+ *     <li>prepare : 적재용 임시 키를 비운다.</li>
+ *     <li>load : 1분 윈도우 집계를 예시별로 합산한 결과를 forward-only 커서로 흘려 읽으며, 청크마다 파이프라인 ZADD 와 EXPIRE 로 임시 키에 적재한다.</li>
+ *     <li>swap : 임시 키를 RENAME 으로 서비스 키에 덮어쓴다. RENAME 은 원자적이므로 조회 측은 이전 랭킹 또는 완성된 랭킹만 본다.</li>
+ * </ol>
+ * load 가 실패하면 재시작 시 커서 위치부터 이어서 같은 임시 키에 적재한다. 커서 위치는 읽은 행 수로 저장되므로,
+ * 재실행해도 같은 순서가 되도록 example_id 로 정렬한다. PK (window_name, example_id, window_start) 순서이므로 정렬은 인덱스로 처리된다.
+ * 임시 키는 처음 적재되는 순간부터 {@link #BUILDING_TTL} 의 만료 시간을 가지므로(빈 sorted set 은 존재하지 않아 prepare 에서는 걸 수 없다),
+ * 재시작하지 않고 버려진 job 의 임시 키는 swap 을 거치지 않아도 스스로 지워진다.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "spring.batch.job.name", havingValue = ExampleRankingJobConfig.JOB_NAME)
+@Configuration
+public class ExampleRankingJobConfig {
+    public static final String JOB_NAME = "exampleRankingJob";
+    private static final String STEP_PREPARE_NAME = "exampleRankingPrepare";
+    private static final String STEP_LOAD_NAME = "exampleRankingLoad";
+    private static final String STEP_SWAP_NAME = "exampleRankingSwap";
+    private static final String WINDOW_NAME = "example-updated-1m";
+    private static final String SELECT_DAILY_SCORES = """
+        SELECT example_id, SUM(updated_count) AS score
+        FROM example_window_metrics
+        WHERE window_name = ? AND window_start >= ? AND window_start < ?
+        GROUP BY example_id
+        ORDER BY example_id
+        """;
+    private static final int CHUNK_SIZE = 5000;
+    private static final int MEMBERS_PER_ZADD = 500;
+    private static final Duration RANKING_TTL = Duration.ofDays(3);
+    private static final Duration BUILDING_TTL = Duration.ofDays(1);
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final JobListener jobListener;
+    private final StepMonitorListener stepMonitorListener;
+    private final ChunkListener chunkListener;
+
+    public ExampleRankingJobConfig(
+        JobRepository jobRepository,
+        PlatformTransactionManager transactionManager,
+        DataSource dataSource,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+        JobListener jobListener,
+        StepMonitorListener stepMonitorListener,
+        ChunkListener chunkListener
+    ) {
+        this.jobRepository = jobRepository;
+        this.transactionManager = transactionManager;
+        this.dataSource = dataSource;
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.jobListener = jobListener;
+        this.stepMonitorListener = stepMonitorListener;
+        this.chunkListener = chunkListener;
+    }
+
+    @Bean(JOB_NAME)
+    public Job exampleRankingJob() {
+        return new JobBuilder(JOB_NAME, jobRepository)
+            .incrementer(new RunIdIncrementer())
+            .validator(new DefaultJobParametersValidator(new String[]{"requestDate"}, new String[0]))
+            .start(exampleRankingPrepareStep())
+            .next(exampleRankingLoadStep())
+            .next(exampleRankingSwapStep())
+            .listener(jobListener)
+            .build();
+    }
+
+    @JobScope
+    @Bean(STEP_PREPARE_NAME)
+    public Step exampleRankingPrepareStep() {
+        return new StepBuilder(STEP_PREPARE_NAME, jobRepository)
+            .tasklet(prepareTasklet(null, null), new ResourcelessTransactionManager())
+            .listener(stepMonitorListener)
+            .build();
+    }
+
+    @JobScope
+    @Bean(STEP_LOAD_NAME)
+    public Step exampleRankingLoadStep() {
+        return new StepBuilder(STEP_LOAD_NAME, jobRepository)
+            .<RankingScore, RankingScore>chunk(CHUNK_SIZE, transactionManager)
+            .reader(exampleRankingReader(null))
+            .writer(exampleRankingWriter(null, null))
+            .listener(stepMonitorListener)
+            .listener(chunkListener)
+            .build();
+    }
+
+    @JobScope
+    @Bean(STEP_SWAP_NAME)
+    public Step exampleRankingSwapStep() {
+        return new StepBuilder(STEP_SWAP_NAME, jobRepository)
+            .tasklet(swapTasklet(null, null), new ResourcelessTransactionManager())
+            .listener(stepMonitorListener)
+            .build();
+    }
+
+    @StepScope
+    @Bean
+    public Tasklet prepareTasklet(
+        @Value("#{jobParameters['requestDate']}") String requestDate,
+        @Value("#{stepExecution.jobExecution.jobInstance.instanceId}") Long jobInstanceId
+    ) {
+        return (contribution, chunkContext) -> {
+            masterRedisTemplate.delete(ExampleRankingKeys.building(LocalDate.parse(requestDate), jobInstanceId));
+            return RepeatStatus.FINISHED;
+        };
+    }
+
+    /**
+     * MySQL 은 fetchSize 가 Integer.MIN_VALUE 일 때 결과를 한 행씩 스트리밍하므로, 집계 결과가 커도 메모리에 한꺼번에 올리지 않는다.
+     */
+    @StepScope
+    @Bean
+    public JdbcCursorItemReader<RankingScore> exampleRankingReader(
+        @Value("#{jobParameters['requestDate']}") String requestDate
+    ) {
+        LocalDate date = LocalDate.parse(requestDate);
+        return new JdbcCursorItemReaderBuilder<RankingScore>()
+            .name("exampleRankingReader")
+            .dataSource(dataSource)
+            .sql(SELECT_DAILY_SCORES)
+            .queryArguments(WINDOW_NAME, startOfDayUtc(date), startOfDayUtc(date.plusDays(1)))
+            .rowMapper((rs, rowNum) -> new RankingScore(rs.getLong("example_id"), rs.getLong("score")))
+            .fetchSize(Integer.MIN_VALUE)
+            .verifyCursorPosition(false)
+            .saveState(true)
+            .build();
+    }
+
+    @StepScope
+    @Bean
+    public SortedSetPipelineWriter<RankingScore> exampleRankingWriter(
+        @Value("#{jobParameters['requestDate']}") String requestDate,
+        @Value("#{stepExecution.jobExecution.jobInstance.instanceId}") Long jobInstanceId
+    ) {
+        return new SortedSetPipelineWriter<>(
+            masterRedisTemplate,
+            ExampleRankingKeys.building(LocalDate.parse(requestDate), jobInstanceId),
+            score -> String.valueOf(score.exampleId()),
+            RankingScore::score,
+            MEMBERS_PER_ZADD,
+            BUILDING_TTL
+        );
+    }
+
+    @StepScope
+    @Bean
+    public Tasklet swapTasklet(
+        @Value("#{jobParameters['requestDate']}") String requestDate,
+        @Value("#{stepExecution.jobExecution.jobInstance.instanceId}") Long jobInstanceId
+    ) {
+        return (contribution, chunkContext) -> {
+            LocalDate date = LocalDate.parse(requestDate);
+            String building = ExampleRankingKeys.building(date, jobInstanceId);
+            String live = ExampleRankingKeys.live(date);
+            if (Boolean.TRUE.equals(masterRedisTemplate.expire(building, RANKING_TTL))) {
+                masterRedisTemplate.rename(building, live);
+                log.info("랭킹을 교체했습니다. (key = {}, size = {})", live, masterRedisTemplate.opsForZSet().zCard(live));
+            } else {
+                // 집계 결과가 없었거나, 이전 실행에서 이미 교체를 마친 경우이다. 서비스 키는 그대로 둔다.
+                log.info("적재된 랭킹이 없어 교체하지 않습니다. (key = {})", live);
+            }
+            return RepeatStatus.FINISHED;
+        };
+    }
+
+    /**
+     * 윈도우 시각은 UTC 로 저장되어 있으므로, 서비스 시간대 기준 하루의 시작을 UTC 로 바꾼다.
+     */
+    private static LocalDateTime startOfDayUtc(LocalDate date) {
+        return date.atStartOfDay(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime();
+    }
+
+    record RankingScore(long exampleId, long score) {}
+}
@@ -0,0 +1,23 @@
+package com.loopers.batch.job.exampleranking;
+
+import java.time.LocalDate;
+
+/**
+ * 일자별 예시 랭킹 sorted set 의 키. member 는 예시 ID, score 는 그날의 변경 횟수이다.
+ */
+public final class ExampleRankingKeys {
+    private static final String PREFIX = "ranking:example:daily:";
+
+    private ExampleRankingKeys() {}
+
+    public static String live(LocalDate date) {
+        return PREFIX + date;
+    }
+
+    /**
+     * 적재 중인 키. job instance 별로 구분하므로 재시작하면 같은 키에 이어서 적재한다.
+     */
+    static String building(LocalDate date, long jobInstanceId) {
+        return PREFIX + date + ":building:" + jobInstanceId;
+    }
+}
@@ -0,0 +1,141 @@
+package com.loopers.batch.job.examplesnapshot;
+
+import com.loopers.batch.listener.ChunkListener;
+import com.loopers.batch.listener.JobListener;
+import com.loopers.batch.listener.StepMonitorListener;
+import com.loopers.batch.support.partition.IdRangePartitioner;
+import com.loopers.batch.support.partition.PartitionHandlers;
+import com.loopers.batch.support.partition.IdRangePartitions;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.DefaultJobParametersValidator;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * example 테이블 전체를 requestDate 일자의 스냅샷으로 복사한다.
+ * <p>
+ * 대용량 테이블을 처리하는 chunk 기반 job 의 기본 형태이다. manager step 이 id 범위를 grid-size 개로 나누고,
+ * 각 worker step 이 자기 구간을 keyset 으로 읽어 JDBC batch 로 쓴다. worker 는 별도 스레드에서 자기 step execution 으로 실행되므로
+ * 실패 시 재시작하면 완료된 파티션은 건너뛰고, 실패한 파티션은 마지막으로 커밋한 id 다음부터 이어서 처리한다.
+ * batch.partition.mode=manager 이면 파티션을 worker 인스턴스들에 나누어 실행한다. ({@link PartitionHandlers})
+ */
+@ConditionalOnProperty(name = "spring.batch.job.name", havingValue = ExampleSnapshotJobConfig.JOB_NAME)
+@RequiredArgsConstructor
+@Configuration
+public class ExampleSnapshotJobConfig {
+    public static final String JOB_NAME = "exampleSnapshotJob";
+    private static final String STEP_MANAGER_NAME = "exampleSnapshotManager";
+    private static final String STEP_WORKER_NAME = "exampleSnapshotWorker";
+    private static final String UPSERT_SNAPSHOT = """
+        INSERT INTO example_snapshot (snapshot_date, example_id, name, description, snapshot_at)
+        VALUES (?, ?, ?, ?, ?)
+        ON DUPLICATE KEY UPDATE name = VALUES(name), description = VALUES(description), snapshot_at = VALUES(snapshot_at)
+        """;
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final JobListener jobListener;
+    private final StepMonitorListener stepMonitorListener;
+    private final ChunkListener chunkListener;
+    private final PartitionHandlers partitionHandlers;
+
+    @Value("${batch.partition.grid-size}")
+    private int gridSize;
+
+    @Value("${batch.partition.chunk-size}")
+    private int chunkSize;
+
+    @Bean(JOB_NAME)
+    public Job exampleSnapshotJob() {
+        return new JobBuilder(JOB_NAME, jobRepository)
+            .incrementer(new RunIdIncrementer())
+            .validator(new DefaultJobParametersValidator(new String[]{"requestDate"}, new String[0]))
+            .start(exampleSnapshotManagerStep())
+            .listener(jobListener)
+            .build();
+    }
+
+    @JobScope
+    @Bean(STEP_MANAGER_NAME)
+    public Step exampleSnapshotManagerStep() {
+        return new StepBuilder(STEP_MANAGER_NAME, jobRepository)
+            .partitioner(STEP_WORKER_NAME, new IdRangePartitioner(jdbcTemplate, "example"))
+            .partitionHandler(partitionHandlers.create(STEP_WORKER_NAME, exampleSnapshotWorkerStep(), gridSize))
+            .listener(stepMonitorListener)
+            .build();
+    }
+
+    @Bean(STEP_WORKER_NAME)
+    public Step exampleSnapshotWorkerStep() {
+        return new StepBuilder(STEP_WORKER_NAME, jobRepository)
+            .<ExampleSnapshotRow, ExampleSnapshotRow>chunk(chunkSize, transactionManager)
+            .reader(exampleSnapshotReader(null, null))
+            .writer(exampleSnapshotWriter(null))
+            .listener(stepMonitorListener)
+            .listener(chunkListener)
+            .build();
+    }
+
+    @StepScope
+    @Bean
+    public JdbcPagingItemReader<ExampleSnapshotRow> exampleSnapshotReader(
+        @Value("#{stepExecutionContext['" + IdRangePartitions.MIN_ID + "']}") Long minId,
+        @Value("#{stepExecutionContext['" + IdRangePartitions.MAX_ID + "']}") Long maxId
+    ) {
+        return IdRangePartitions.keysetReader(
+            "exampleSnapshotReader",
+            dataSource,
+            "SELECT id, name, description",
+            "FROM example",
+            "deleted_at IS NULL",
+            (rs, rowNum) -> new ExampleSnapshotRow(rs.getLong("id"), rs.getString("name"), rs.getString("description")),
+            chunkSize,
+            minId,
+            maxId
+        );
+    }
+
+    @StepScope
+    @Bean
+    public JdbcBatchItemWriter<ExampleSnapshotRow> exampleSnapshotWriter(
+        @Value("#{jobParameters['requestDate']}") String requestDate
+    ) {
+        LocalDate snapshotDate = LocalDate.parse(requestDate);
+        return new JdbcBatchItemWriterBuilder<ExampleSnapshotRow>()
+            .dataSource(dataSource)
+            .sql(UPSERT_SNAPSHOT)
+            .itemPreparedStatementSetter((row, ps) -> {
+                ps.setObject(1, snapshotDate);
+                ps.setLong(2, row.id());
+                ps.setString(3, row.name());
+                ps.setString(4, row.description());
+                ps.setObject(5, LocalDateTime.now(ZoneOffset.UTC));
+            })
+            .assertUpdates(false)
+            .build();
+    }
+
+    record ExampleSnapshotRow(long id, String name, String description) {}
+}
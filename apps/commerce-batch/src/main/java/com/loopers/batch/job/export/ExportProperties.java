@@ -0,0 +1,20 @@
+package com.loopers.batch.job.export;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @param tables 내보낼 수 있는 테이블과 컬럼. job 파라미터로는 여기 정의된 테이블만 지정할 수 있다.
+ */
+@ConfigurationProperties(value = "batch.export")
+public record ExportProperties(
+        Path directory,
+        DataSize maxFileSize,
+        DataSize bufferSize,
+        int chunkSize,
+        Map<String, List<String>> tables
+) { }
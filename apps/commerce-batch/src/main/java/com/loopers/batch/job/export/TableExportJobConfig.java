@@ -0,0 +1,112 @@
+package com.loopers.batch.job.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.batch.listener.ChunkListener;
+import com.loopers.batch.listener.JobListener;
+import com.loopers.batch.listener.StepMonitorListener;
+import com.loopers.batch.support.export.ExportFormat;
+import com.loopers.batch.support.export.RollingGzipItemWriter;
+import com.loopers.batch.support.reader.KeysetCursorItemReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.DefaultJobParametersValidator;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 설정된 테이블 하나를 gzip 압축된 NDJSON 또는 CSV 파일들로 내보낸다.
+ * <p>
+ * job 파라미터 : table (필수, batch.export.tables 에 정의된 테이블), requestDate (필수), format (ndjson | csv, 기본 ndjson).
+ * 결과는 {@code <batch.export.directory>/<table>-<requestDate>-00000.<format>.gz} 부터 max-file-size 단위로 나뉜다.
+ * 실패 후 재시작하면 마지막으로 커밋한 id 와 파일 위치부터 이어서 내보낸다.
+ */
+@ConditionalOnProperty(name = "spring.batch.job.name", havingValue = TableExportJobConfig.JOB_NAME)
+@RequiredArgsConstructor
+@Configuration
+public class TableExportJobConfig {
+    public static final String JOB_NAME = "tableExportJob";
+    private static final String STEP_EXPORT_NAME = "tableExport";
+
+    private final JobRepository jobRepository;
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+    private final ExportProperties exportProperties;
+    private final JobListener jobListener;
+    private final StepMonitorListener stepMonitorListener;
+    private final ChunkListener chunkListener;
+
+    @Bean(JOB_NAME)
+    public Job tableExportJob() {
+        DefaultJobParametersValidator requiredParameters = new DefaultJobParametersValidator(new String[]{"table", "requestDate"}, new String[0]);
+        return new JobBuilder(JOB_NAME, jobRepository)
+            .incrementer(new RunIdIncrementer())
+            .validator(parameters -> {
+                requiredParameters.validate(parameters);
+                if (!exportProperties.tables().containsKey(parameters.getString("table"))) {
+                    throw new JobParametersInvalidException("내보낼 수 없는 테이블입니다. (table = " + parameters.getString("table") + ")");
+                }
+            })
+            .start(tableExportStep())
+            .listener(jobListener)
+            .build();
+    }
+
+    /**
+     * 파일 쓰기만 하므로 청크 트랜잭션은 필요 없다. 재시작 위치는 JobRepository 가 청크마다 자체 트랜잭션으로 기록한다.
+     */
+    @JobScope
+    @Bean(STEP_EXPORT_NAME)
+    public Step tableExportStep() {
+        return new StepBuilder(STEP_EXPORT_NAME, jobRepository)
+            .<Map<String, Object>, Map<String, Object>>chunk(exportProperties.chunkSize(), new ResourcelessTransactionManager())
+            .reader(tableExportReader(null))
+            .writer(tableExportWriter(null, null, null))
+            .listener(stepMonitorListener)
+            .listener(chunkListener)
+            .build();
+    }
+
+    @StepScope
+    @Bean
+    public KeysetCursorItemReader tableExportReader(
+        @Value("#{jobParameters['table']}") String table
+    ) {
+        return new KeysetCursorItemReader("tableExportReader", dataSource, table, exportProperties.tables().get(table));
+    }
+
+    @StepScope
+    @Bean
+    public RollingGzipItemWriter<Map<String, Object>> tableExportWriter(
+        @Value("#{jobParameters['table']}") String table,
+        @Value("#{jobParameters['requestDate']}") String requestDate,
+        @Value("#{jobParameters['format'] ?: 'ndjson'}") String format
+    ) {
+        ExportFormat exportFormat = ExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        List<String> columns = exportProperties.tables().get(table);
+        return new RollingGzipItemWriter<>(
+            "tableExportWriter",
+            exportProperties.directory(),
+            table + "-" + requestDate,
+            exportFormat.extension(),
+            exportProperties.maxFileSize().toBytes(),
+            (int) exportProperties.bufferSize().toBytes(),
+            exportFormat.encoder(columns, objectMapper)
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package com.loopers.batch.listener;
+
+import io.micrometer.core.instrument.Tags;
+import org.springframework.batch.core.StepExecution;
+
+/**
+ * 배치 메트릭의 공통 태그. 파티션 step 이름 (worker:partition0) 은 파티션 접미사를 떼어 하나의 step 으로 묶는다.
+ */
+final class BatchMeterTags {
+    private BatchMeterTags() {}
+
+    static Tags of(StepExecution stepExecution) {
+        return Tags.of(
+            "job", stepExecution.getJobExecution().getJobInstance().getJobName(),
+            "step", stepName(stepExecution.getStepName())
+        );
+    }
+
+    static String stepName(String stepExecutionName) {
+        int partitionSeparator = stepExecutionName.indexOf(':');
+        return partitionSeparator < 0 ? stepExecutionName : stepExecutionName.substring(0, partitionSeparator);
+    }
+}
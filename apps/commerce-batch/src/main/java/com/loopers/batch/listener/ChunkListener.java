@@ -1,21 +1,104 @@
 package com.loopers.batch.listener;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.annotation.AfterChunk;
+import org.springframework.batch.core.annotation.AfterChunkError;
+import org.springframework.batch.core.annotation.AfterStep;
+import org.springframework.batch.core.annotation.BeforeChunk;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 청크마다 처리 시간 (batch.chunk.duration) 을 기록하고, 직전 청크 이후 늘어난 read / write / skip / commit 수를
+ * 카운터 (batch.step.items, batch.step.commits) 에 더한다. 초당 처리량은 카운터의 rate 로 본다.
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class ChunkListener {
+    private static final String CHUNK_STARTED_AT = "chunkStartedAt";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Long, StepCounts> reportedCounts = new ConcurrentHashMap<>();
+
+    @BeforeChunk
+    void beforeChunk(ChunkContext chunkContext) {
+        chunkContext.setAttribute(CHUNK_STARTED_AT, System.nanoTime());
+    }
 
     @AfterChunk
     void afterChunk(ChunkContext chunkContext) {
+        StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+        recordChunkDuration(chunkContext, stepExecution, "success");
+        reportCounts(stepExecution);
         log.info(
-            "청크 종료: readCount: ${chunkContext.stepContext.stepExecution.readCount}, " +
-                    "writeCount: ${chunkContext.stepContext.stepExecution.writeCount}"
+            "청크 종료: readCount: {}, writeCount: {}",
+            stepExecution.getReadCount(),
+            stepExecution.getWriteCount()
         );
     }
+
+    @AfterChunkError
+    void afterChunkError(ChunkContext chunkContext) {
+        StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+        recordChunkDuration(chunkContext, stepExecution, "failure");
+    }
+
+    @AfterStep
+    void afterStep(StepExecution stepExecution) {
+        reportCounts(stepExecution);
+        reportedCounts.remove(stepExecution.getId());
+    }
+
+    private void recordChunkDuration(ChunkContext chunkContext, StepExecution stepExecution, String result) {
+        Object startedAt = chunkContext.getAttribute(CHUNK_STARTED_AT);
+        if (startedAt == null) {
+            return;
+        }
+        Timer.builder("batch.chunk.duration")
+            .tags(BatchMeterTags.of(stepExecution).and("result", result))
+            .register(meterRegistry)
+            .record(System.nanoTime() - (long) startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private void reportCounts(StepExecution stepExecution) {
+        StepCounts current = StepCounts.of(stepExecution);
+        StepCounts previous = reportedCounts.put(stepExecution.getId(), current);
+        if (previous == null) {
+            previous = StepCounts.ZERO;
+        }
+        Tags tags = BatchMeterTags.of(stepExecution);
+        increment("batch.step.items", tags.and("type", "read"), current.read() - previous.read());
+        increment("batch.step.items", tags.and("type", "write"), current.write() - previous.write());
+        increment("batch.step.items", tags.and("type", "skip"), current.skip() - previous.skip());
+        increment("batch.step.commits", tags, current.commit() - previous.commit());
+    }
+
+    private void increment(String name, Tags tags, long delta) {
+        if (delta > 0) {
+            meterRegistry.counter(name, tags).increment(delta);
+        }
+    }
+
+    private record StepCounts(long read, long write, long skip, long commit) {
+        static final StepCounts ZERO = new StepCounts(0, 0, 0, 0);
+
+        static StepCounts of(StepExecution stepExecution) {
+            return new StepCounts(
+                stepExecution.getReadCount(),
+                stepExecution.getWriteCount(),
+                stepExecution.getSkipCount(),
+                stepExecution.getCommitCount()
+            );
+        }
+    }
 }
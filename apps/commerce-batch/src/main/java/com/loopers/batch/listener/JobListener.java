@@ -1,5 +1,7 @@
 package com.loopers.batch.listener;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.JobExecution;
@@ -10,15 +12,17 @@ import org.springframework.stereotype.Component;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class JobListener {
+    private final MeterRegistry meterRegistry;
 
     @BeforeJob
     void beforeJob(JobExecution jobExecution) {
-        log.info("Job '${jobExecution.jobInstance.jobName}' 시작");
+        log.info("Job '{}' 시작", jobExecution.getJobInstance().getJobName());
         jobExecution.getExecutionContext().putLong("startTime", System.currentTimeMillis());
     }
 
@@ -35,6 +39,10 @@ public class JobListener {
             .toLocalDateTime();
 
         var totalTime = endTime - startTime;
+        Timer.builder("batch.job.duration")
+            .tags("job", jobExecution.getJobInstance().getJobName(), "status", jobExecution.getStatus().name())
+            .register(meterRegistry)
+            .record(totalTime, TimeUnit.MILLISECONDS);
         var duration = Duration.ofMillis(totalTime);
         var hours = duration.toHours();
         var minutes = duration.toMinutes() % 60;
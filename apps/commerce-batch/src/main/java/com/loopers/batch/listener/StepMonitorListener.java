@@ -1,5 +1,8 @@
 package com.loopers.batch.listener;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.Nonnull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -7,13 +10,25 @@ import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
+/**
+ * step 종료 시 소요 시간 (batch.step.duration) 과 마지막 실행의 초당 write 수 (batch.step.throughput) 를 기록한다.
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class StepMonitorListener implements StepExecutionListener {
+    private final MeterRegistry meterRegistry;
+    private final Map<Tags, AtomicLong> throughputs = new ConcurrentHashMap<>();
 
     @Override
     public void beforeStep(@Nonnull StepExecution stepExecution) {
@@ -22,6 +37,24 @@ public class StepMonitorListener implements StepExecutionListener {
 
     @Override
     public ExitStatus afterStep(@Nonnull StepExecution stepExecution) {
+        var elapsedMillis = Math.max(1, Duration.between(stepExecution.getStartTime(), LocalDateTime.now()).toMillis());
+        var tags = BatchMeterTags.of(stepExecution);
+        Timer.builder("batch.step.duration")
+            .tags(tags.and("status", stepExecution.getStatus().name()))
+            .register(meterRegistry)
+            .record(elapsedMillis, TimeUnit.MILLISECONDS);
+        throughputs.computeIfAbsent(tags, key -> meterRegistry.gauge("batch.step.throughput", key, new AtomicLong()))
+            .set(stepExecution.getWriteCount() * 1000L / elapsedMillis);
+        log.info(
+            "Step '{}' 종료: readCount: {}, writeCount: {}, skipCount: {}, commitCount: {}, 소요: {}ms, 처리량: {} items/s",
+            stepExecution.getStepName(),
+            stepExecution.getReadCount(),
+            stepExecution.getWriteCount(),
+            stepExecution.getSkipCount(),
+            stepExecution.getCommitCount(),
+            elapsedMillis,
+            stepExecution.getWriteCount() * 1000L / elapsedMillis
+        );
         if (!stepExecution.getFailureExceptions().isEmpty()) {
             var jobName = stepExecution.getJobExecution().getJobInstance().getJobName();
             var exceptions = stepExecution.getFailureExceptions().stream()
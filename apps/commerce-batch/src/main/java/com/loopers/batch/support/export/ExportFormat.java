@@ -0,0 +1,79 @@
+package com.loopers.batch.support.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 내보내기 형식. 행은 컬럼 이름 → 값의 Map 이다.
+ */
+public enum ExportFormat {
+    NDJSON("ndjson") {
+        @Override
+        public RowEncoder<Map<String, Object>> encoder(List<String> columns, ObjectMapper objectMapper) {
+            ObjectWriter writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            return (row, out) -> {
+                writer.writeValue(out, row);
+                out.write('\n');
+            };
+        }
+    },
+    CSV("csv") {
+        @Override
+        public RowEncoder<Map<String, Object>> encoder(List<String> columns, ObjectMapper objectMapper) {
+            return new RowEncoder<>() {
+                @Override
+                public void writeHeader(OutputStream out) throws IOException {
+                    writeLine(out, columns.stream().map(Object.class::cast).toList());
+                }
+
+                @Override
+                public void write(Map<String, Object> row, OutputStream out) throws IOException {
+                    writeLine(out, columns.stream().map(row::get).toList());
+                }
+            };
+        }
+    };
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public abstract RowEncoder<Map<String, Object>> encoder(List<String> columns, ObjectMapper objectMapper);
+
+    /**
+     * RFC 4180 : 쉼표, 따옴표, 줄바꿈이 있는 값은 따옴표로 감싸고 안의 따옴표는 두 번 쓴다. null 은 빈 칸이다.
+     */
+    private static void writeLine(OutputStream out, List<Object> values) throws IOException {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            Object value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            String text = value.toString();
+            if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                line.append('"').append(text.replace("\"", "\"\"")).append('"');
+            } else {
+                line.append(text);
+            }
+        }
+        line.append('\n');
+        out.write(line.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
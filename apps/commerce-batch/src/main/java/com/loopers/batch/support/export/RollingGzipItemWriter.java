@@ -0,0 +1,178 @@
+package com.loopers.batch.support.export;
+
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.batch.item.ItemStreamWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 청크를 gzip 으로 압축해 {@code <baseName>-00000.<extension>.gz} 파일들에 쓰고, 파일이 maxFileBytes 를 넘으면 다음 파일로 넘어간다.
+ * <p>
+ * 청크 하나를 하나의 gzip member 로 끝맺으므로, 커밋 시점의 파일 위치는 항상 온전한 gzip 경계이다 (gzip 은 member 를 이어 붙인 파일을 그대로 읽는다).
+ * 커밋마다 파일 번호와 위치를 step ExecutionContext 에 남기고, 재시작하면 그 위치로 파일을 잘라내고 이어서 쓰므로
+ * 실패한 청크의 일부가 남거나 같은 행이 두 번 쓰이지 않는다.
+ * 출력은 direct buffer 를 거쳐 FileChannel 로 쓰며, 힙에는 청크 하나와 고정 크기 버퍼만 남는다.
+ */
+public class RollingGzipItemWriter<T> extends ItemStreamSupport implements ItemStreamWriter<T> {
+    private static final String FILE_INDEX = "file.index";
+    private static final String FILE_POSITION = "file.position";
+    private static final int GZIP_BUFFER_BYTES = 64 * 1024;
+
+    private final Path directory;
+    private final String baseName;
+    private final String extension;
+    private final long maxFileBytes;
+    private final RowEncoder<T> encoder;
+    private final ChannelOutputStream out;
+
+    private FileChannel channel;
+    private int fileIndex;
+
+    public RollingGzipItemWriter(String name, Path directory, String baseName, String extension, long maxFileBytes, int bufferBytes, RowEncoder<T> encoder) {
+        setName(name);
+        this.directory = directory;
+        this.baseName = baseName;
+        this.extension = extension;
+        this.maxFileBytes = maxFileBytes;
+        this.encoder = encoder;
+        this.out = new ChannelOutputStream(ByteBuffer.allocateDirect(bufferBytes));
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        try {
+            Files.createDirectories(directory);
+            String indexKey = getExecutionContextKey(FILE_INDEX);
+            if (executionContext.containsKey(indexKey)) {
+                fileIndex = executionContext.getInt(indexKey);
+                openFile(executionContext.getLong(getExecutionContextKey(FILE_POSITION)));
+            } else {
+                fileIndex = 0;
+                openFile(0);
+            }
+            // 마지막 커밋 이후에 만들어진 파일 (재시작) 이나 이전 실행의 파일 (새 실행) 을 지운다.
+            int next = fileIndex + 1;
+            while (Files.deleteIfExists(file(next))) {
+                next++;
+            }
+        } catch (IOException e) {
+            throw new ItemStreamException("내보내기 파일을 열 수 없습니다. (" + file(fileIndex) + ")", e);
+        }
+    }
+
+    @Override
+    public void write(Chunk<? extends T> chunk) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        boolean fileStart = channel.position() == 0;
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out, GZIP_BUFFER_BYTES)) {
+            if (fileStart) {
+                encoder.writeHeader(gzip);
+            }
+            for (T item : chunk) {
+                encoder.write(item, gzip);
+            }
+        }
+        out.drain();
+        if (channel.position() >= maxFileBytes) {
+            channel.force(false);
+            channel.close();
+            fileIndex++;
+            openFile(0);
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        try {
+            channel.force(false);
+            executionContext.putInt(getExecutionContextKey(FILE_INDEX), fileIndex);
+            executionContext.putLong(getExecutionContextKey(FILE_POSITION), channel.position());
+        } catch (IOException e) {
+            throw new ItemStreamException("내보내기 파일을 기록할 수 없습니다. (" + file(fileIndex) + ")", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+            // 마지막 파일이 비어 있으면 (롤링 직후 종료) 남기지 않는다.
+            if (fileIndex > 0 && Files.size(file(fileIndex)) == 0) {
+                Files.delete(file(fileIndex));
+            }
+        } catch (IOException e) {
+            throw new ItemStreamException("내보내기 파일을 닫을 수 없습니다. (" + file(fileIndex) + ")", e);
+        } finally {
+            channel = null;
+        }
+    }
+
+    public Path file(int index) {
+        return directory.resolve(String.format("%s-%05d.%s.gz", baseName, index, extension));
+    }
+
+    private void openFile(long position) throws IOException {
+        channel = FileChannel.open(file(fileIndex), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        channel.truncate(position);
+        channel.position(position);
+    }
+
+    /**
+     * GZIPOutputStream 이 닫아도 파일 채널은 닫지 않는 출력 스트림. 버퍼가 차면 채널로 비운다.
+     */
+    private class ChannelOutputStream extends OutputStream {
+        private final ByteBuffer buffer;
+
+        ChannelOutputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (!buffer.hasRemaining()) {
+                drain();
+            }
+            buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                if (!buffer.hasRemaining()) {
+                    drain();
+                }
+                int count = Math.min(length, buffer.remaining());
+                buffer.put(bytes, offset, count);
+                offset += count;
+                length -= count;
+            }
+        }
+
+        void drain() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.loopers.batch.support.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 한 행을 출력 형식의 바이트로 쓴다.
+ */
+public interface RowEncoder<T> {
+
+    /**
+     * 파일마다 맨 앞에 한 번 쓴다.
+     */
+    default void writeHeader(OutputStream out) throws IOException {}
+
+    void write(T row, OutputStream out) throws IOException;
+}
@@ -0,0 +1,93 @@
+package com.loopers.batch.support.partition;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 테이블의 행을 id 순으로 세어 행 수가 비슷한 gridSize 개의 연속 id 구간으로 나눈다.
+ * 각 구간은 {@link IdRangePartitions#MIN_ID} / {@link IdRangePartitions#MAX_ID} 로 worker step 의 ExecutionContext 에 담긴다.
+ * <p>
+ * id 는 기존 IDENTITY 로 만든 작은 값과 시간 순서 id(약 3.9e17)가 섞여 있어, [MIN(id), MAX(id)] 를 같은 폭으로 자르면 행이 한두 구간에 몰린다.
+ * 그래서 구간 경계는 행 수의 분위수 위치(OFFSET)에 있는 id 로 정한다. 경계 조회는 PK 인덱스만 읽으며 파티셔닝 시 한 번만 실행된다.
+ * 재시작 시에는 Spring Batch 가 이전 실행의 파티션 ExecutionContext 를 그대로 재사용하므로 다시 호출되지 않는다.
+ */
+public class IdRangePartitioner implements Partitioner {
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+
+    public IdRangePartitioner(JdbcTemplate jdbcTemplate, String table) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.table = table;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+        if (count == null || count == 0) {
+            return emptyPartition();
+        }
+        List<Long> starts = new ArrayList<>();
+        for (long offset : quantileOffsets(count, gridSize)) {
+            List<Long> id = jdbcTemplate.queryForList(
+                "SELECT id FROM " + table + " ORDER BY id LIMIT 1 OFFSET ?", Long.class, offset
+            );
+            if (id.isEmpty()) {
+                break;
+            }
+            starts.add(id.get(0));
+        }
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        if (starts.isEmpty() || max == null) {
+            return emptyPartition();
+        }
+        return split(starts, max);
+    }
+
+    /**
+     * 각 구간의 첫 행이 id 순으로 몇 번째 행인지 반환한다. 구간 수는 행 수보다 많을 수 없다.
+     */
+    static long[] quantileOffsets(long count, int gridSize) {
+        int partitions = (int) Math.max(1, Math.min(gridSize, count));
+        long[] offsets = new long[partitions];
+        for (int i = 0; i < partitions; i++) {
+            offsets[i] = i * count / partitions;
+        }
+        return offsets;
+    }
+
+    /**
+     * 구간 시작 id 들로 [start, 다음 start - 1] 구간을 만들고, 마지막 구간은 max 까지로 한다.
+     * 조회 사이에 행이 지워져 시작 id 가 겹치거나 뒤집히면 그 경계는 건너뛴다.
+     */
+    static Map<String, ExecutionContext> split(List<Long> starts, long max) {
+        List<Long> boundaries = new ArrayList<>(starts.size());
+        for (Long start : starts) {
+            if (start <= max && (boundaries.isEmpty() || start > boundaries.get(boundaries.size() - 1))) {
+                boundaries.add(start);
+            }
+        }
+        if (boundaries.isEmpty()) {
+            return emptyPartition();
+        }
+        Map<String, ExecutionContext> result = new LinkedHashMap<>(boundaries.size());
+        for (int i = 0; i < boundaries.size(); i++) {
+            long end = i + 1 < boundaries.size() ? boundaries.get(i + 1) - 1 : max;
+            result.put(partitionName(i), IdRangePartitions.context(boundaries.get(i), end));
+        }
+        return result;
+    }
+
+    private static Map<String, ExecutionContext> emptyPartition() {
+        return Map.of(partitionName(0), IdRangePartitions.context(1, 0));
+    }
+
+    private static String partitionName(int index) {
+        return "partition" + index;
+    }
+}
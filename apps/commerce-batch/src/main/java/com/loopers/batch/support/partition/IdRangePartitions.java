@@ -0,0 +1,65 @@
+package com.loopers.batch.support.partition;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.batch.item.database.support.MySqlPagingQueryProvider;
+import org.springframework.jdbc.core.RowMapper;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * id 구간 파티션을 읽는 keyset 리더를 만든다.
+ * <p>
+ * 페이지마다 {@code WHERE id > :마지막 id ORDER BY id LIMIT :pageSize} 로 조회하므로, OFFSET 과 달리 뒤쪽 페이지도 인덱스 탐색 한 번으로 읽는다.
+ * 청크가 커밋될 때마다 마지막 id 가 step ExecutionContext 에 저장되고, 재시작하면 파티션마다 그 다음 id 부터 이어서 읽는다.
+ */
+public final class IdRangePartitions {
+    public static final String MIN_ID = "minId";
+    public static final String MAX_ID = "maxId";
+
+    private IdRangePartitions() {}
+
+    public static ExecutionContext context(long minId, long maxId) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(MIN_ID, minId);
+        context.putLong(MAX_ID, maxId);
+        return context;
+    }
+
+    /**
+     * @param selectClause id 컬럼을 포함해야 한다.
+     * @param whereClause  id 구간 외의 추가 조건. 없으면 null.
+     */
+    public static <T> JdbcPagingItemReader<T> keysetReader(
+        String name,
+        DataSource dataSource,
+        String selectClause,
+        String fromClause,
+        String whereClause,
+        RowMapper<T> rowMapper,
+        int pageSize,
+        long minId,
+        long maxId
+    ) {
+        MySqlPagingQueryProvider queryProvider = new MySqlPagingQueryProvider();
+        queryProvider.setSelectClause(selectClause);
+        queryProvider.setFromClause(fromClause);
+        String rangeClause = "id BETWEEN :minId AND :maxId";
+        queryProvider.setWhereClause(whereClause == null ? rangeClause : rangeClause + " AND (" + whereClause + ")");
+        queryProvider.setSortKeys(Map.of("id", Order.ASCENDING));
+
+        return new JdbcPagingItemReaderBuilder<T>()
+            .name(name)
+            .dataSource(dataSource)
+            .queryProvider(queryProvider)
+            .parameterValues(Map.of(MIN_ID, minId, MAX_ID, maxId))
+            .rowMapper(rowMapper)
+            .pageSize(pageSize)
+            .fetchSize(pageSize)
+            .saveState(true)
+            .build();
+    }
+}
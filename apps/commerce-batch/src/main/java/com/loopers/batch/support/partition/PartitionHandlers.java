@@ -0,0 +1,67 @@
+package com.loopers.batch.support.partition;
+
+import com.loopers.batch.support.partition.remote.KafkaPartitionHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.partition.PartitionHandler;
+import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * batch.partition.mode 에 따라 파티션 실행 방식을 정한다.
+ * <ul>
+ *     <li>local : 한 JVM 에서 gridSize 개의 스레드로 실행한다.</li>
+ *     <li>manager : Kafka 로 파티션을 발행하고, worker 모드 인스턴스들이 나누어 실행한다.</li>
+ * </ul>
+ * KafkaTemplate 은 manager 모드에서만 꺼내므로, local 모드의 job 은 Kafka 설정 없이도 실행된다.
+ */
+@RequiredArgsConstructor
+@Component
+public class PartitionHandlers {
+    private final ObjectProvider<KafkaTemplate<Object, Object>> kafkaTemplate;
+    private final JobExplorer jobExplorer;
+    private final JobRepository jobRepository;
+
+    @Value("${batch.partition.mode}")
+    private String mode;
+
+    @Value("${batch.partition.request-topic}")
+    private String requestTopic;
+
+    @Value("${batch.partition.manager.poll-interval}")
+    private Duration pollInterval;
+
+    @Value("${batch.partition.manager.pickup-timeout}")
+    private Duration pickupTimeout;
+
+    @Value("${batch.partition.manager.heartbeat-timeout}")
+    private Duration heartbeatTimeout;
+
+    @Value("${batch.partition.manager.max-reassignments}")
+    private int maxReassignments;
+
+    public PartitionHandler create(String workerStepName, Step workerStep, int gridSize) {
+        if ("manager".equals(mode)) {
+            return new KafkaPartitionHandler(
+                kafkaTemplate.getObject(), jobExplorer, jobRepository, requestTopic, workerStepName, gridSize,
+                pollInterval, pickupTimeout, heartbeatTimeout, maxReassignments
+            );
+        }
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor(workerStepName + "-");
+        taskExecutor.setConcurrencyLimit(gridSize);
+
+        TaskExecutorPartitionHandler handler = new TaskExecutorPartitionHandler();
+        handler.setStep(workerStep);
+        handler.setGridSize(gridSize);
+        handler.setTaskExecutor(taskExecutor);
+        return handler;
+    }
+}
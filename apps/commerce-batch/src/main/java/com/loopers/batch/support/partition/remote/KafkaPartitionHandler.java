@@ -0,0 +1,199 @@
+package com.loopers.batch.support.partition.remote;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.partition.support.AbstractPartitionHandler;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파티션 step execution 을 Kafka 로 여러 commerce-batch 인스턴스 (worker) 에 나누어 보내고,
+ * 공유 JobRepository 를 조회하며 완료를 기다리는 manager 측 PartitionHandler.
+ * <p>
+ * worker 의 생존은 step execution 의 last_updated 로 판단한다. 청크가 커밋될 때마다 갱신되므로,
+ * STARTING 상태로 pickupTimeout, STARTED 상태로 heartbeatTimeout 동안 갱신이 없으면 worker 가 죽은 것으로 보고 재할당한다.
+ * 단, 파티션이 worker 의 실행 슬롯보다 많으면 나머지는 슬롯이 빌 때까지 Kafka 에서 기다리므로,
+ * 살아 있는 파티션이 실행 중인 동안에는 STARTING 파티션의 pickupTimeout 을 세지 않는다.
+ * 재할당은 기존 execution 을 ABANDONED 로 바꾸고 마지막으로 커밋된 ExecutionContext 를 가진 새 execution 을 발행하므로,
+ * 새 worker 는 마지막 커밋 지점부터 이어서 처리한다. 살아 있던 이전 worker 는 다음 커밋에서 version 충돌로 롤백되고 멈춘다.
+ * heartbeatTimeout 은 가장 느린 청크 처리 시간보다 길어야 한다.
+ */
+@Slf4j
+public class KafkaPartitionHandler extends AbstractPartitionHandler {
+    private final KafkaTemplate<Object, Object> kafkaTemplate;
+    private final JobExplorer jobExplorer;
+    private final JobRepository jobRepository;
+    private final String topic;
+    private final String stepName;
+    private final Duration pollInterval;
+    private final Duration pickupTimeout;
+    private final Duration heartbeatTimeout;
+    private final int maxReassignments;
+
+    public KafkaPartitionHandler(
+        KafkaTemplate<Object, Object> kafkaTemplate,
+        JobExplorer jobExplorer,
+        JobRepository jobRepository,
+        String topic,
+        String stepName,
+        int gridSize,
+        Duration pollInterval,
+        Duration pickupTimeout,
+        Duration heartbeatTimeout,
+        int maxReassignments
+    ) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.jobExplorer = jobExplorer;
+        this.jobRepository = jobRepository;
+        this.topic = topic;
+        this.stepName = stepName;
+        this.pollInterval = pollInterval;
+        this.pickupTimeout = pickupTimeout;
+        this.heartbeatTimeout = heartbeatTimeout;
+        this.maxReassignments = maxReassignments;
+        setGridSize(gridSize);
+    }
+
+    @Override
+    protected Set<StepExecution> doHandle(StepExecution managerStepExecution, Set<StepExecution> partitionStepExecutions) throws Exception {
+        Map<Long, Integer> running = new HashMap<>();
+        List<StepExecution> requests = new ArrayList<>(partitionStepExecutions);
+        for (StepExecution partition : requests) {
+            running.put(partition.getId(), 0);
+        }
+        publish(requests);
+
+        long jobExecutionId = managerStepExecution.getJobExecutionId();
+        Set<StepExecution> finished = new HashSet<>();
+        LocalDateTime lastBusyAt = LocalDateTime.MIN;
+        while (!running.isEmpty()) {
+            TimeUnit.MILLISECONDS.sleep(pollInterval.toMillis());
+            Map<Long, StepExecution> executions = new HashMap<>();
+            for (Long id : running.keySet()) {
+                StepExecution current = jobExplorer.getStepExecution(jobExecutionId, id);
+                executions.put(id, current);
+                if (isAlive(current)) {
+                    lastBusyAt = LocalDateTime.now();
+                }
+            }
+            Map<StepExecution, Integer> reassigned = new LinkedHashMap<>();
+            Iterator<Map.Entry<Long, Integer>> iterator = running.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, Integer> entry = iterator.next();
+                StepExecution current = executions.get(entry.getKey());
+                if (!isRunning(current)) {
+                    finished.add(current);
+                    iterator.remove();
+                    continue;
+                }
+                if (!isStale(current, lastBusyAt)) {
+                    continue;
+                }
+                int reassignments = entry.getValue();
+                if (reassignments >= maxReassignments) {
+                    if (giveUp(current)) {
+                        finished.add(current);
+                        iterator.remove();
+                    }
+                    continue;
+                }
+                StepExecution replacement = reassign(managerStepExecution, current);
+                if (replacement != null) {
+                    iterator.remove();
+                    reassigned.put(replacement, reassignments + 1);
+                }
+            }
+            publish(new ArrayList<>(reassigned.keySet()));
+            reassigned.forEach((replacement, reassignments) -> running.put(replacement.getId(), reassignments));
+        }
+        return finished;
+    }
+
+    private static boolean isRunning(StepExecution execution) {
+        BatchStatus status = execution.getStatus();
+        return status == BatchStatus.STARTING || status == BatchStatus.STARTED || status == BatchStatus.STOPPING;
+    }
+
+    /**
+     * worker 가 실행 중이며 heartbeatTimeout 안에 커밋한 파티션이면 true.
+     */
+    private boolean isAlive(StepExecution execution) {
+        BatchStatus status = execution.getStatus();
+        return (status == BatchStatus.STARTED || status == BatchStatus.STOPPING)
+            && lastUpdatedOf(execution).plus(heartbeatTimeout).isAfter(LocalDateTime.now());
+    }
+
+    /**
+     * STARTING 파티션은 마지막 갱신과 마지막으로 살아 있는 파티션을 본 시각 중 늦은 쪽부터 pickupTimeout 을 센다.
+     */
+    private boolean isStale(StepExecution execution, LocalDateTime lastBusyAt) {
+        LocalDateTime lastUpdated = lastUpdatedOf(execution);
+        if (execution.getStatus() != BatchStatus.STARTING) {
+            return lastUpdated.plus(heartbeatTimeout).isBefore(LocalDateTime.now());
+        }
+        LocalDateTime waitingSince = lastBusyAt.isAfter(lastUpdated) ? lastBusyAt : lastUpdated;
+        return waitingSince.plus(pickupTimeout).isBefore(LocalDateTime.now());
+    }
+
+    private static LocalDateTime lastUpdatedOf(StepExecution execution) {
+        return execution.getLastUpdated() != null ? execution.getLastUpdated() : execution.getCreateTime();
+    }
+
+    /**
+     * 응답 없는 execution 을 ABANDONED 로 바꾸고, 마지막 커밋 지점의 ExecutionContext 로 새 execution 을 만든다.
+     * 그 사이에 worker 가 커밋했다면 (version 충돌) 살아 있는 것이므로 재할당하지 않는다.
+     */
+    private StepExecution reassign(StepExecution managerStepExecution, StepExecution stale) {
+        try {
+            stale.setStatus(BatchStatus.ABANDONED);
+            stale.setExitStatus(ExitStatus.FAILED.addExitDescription("응답이 없어 다른 worker 에게 재할당되었습니다."));
+            stale.setEndTime(LocalDateTime.now());
+            jobRepository.update(stale);
+        } catch (OptimisticLockingFailureException e) {
+            return null;
+        }
+        StepExecution replacement = managerStepExecution.getJobExecution().createStepExecution(stale.getStepName());
+        replacement.setExecutionContext(stale.getExecutionContext());
+        jobRepository.add(replacement);
+        log.warn("파티션을 재할당합니다. (step = {}, stepExecutionId = {} -> {})", stale.getStepName(), stale.getId(), replacement.getId());
+        return replacement;
+    }
+
+    private boolean giveUp(StepExecution stale) {
+        try {
+            stale.setStatus(BatchStatus.FAILED);
+            stale.setExitStatus(ExitStatus.FAILED.addExitDescription("재할당 횟수 (" + maxReassignments + ") 를 초과했습니다."));
+            stale.setEndTime(LocalDateTime.now());
+            jobRepository.update(stale);
+            return true;
+        } catch (OptimisticLockingFailureException e) {
+            return false;
+        }
+    }
+
+    private void publish(List<StepExecution> executions) throws Exception {
+        List<CompletableFuture<?>> futures = new ArrayList<>(executions.size());
+        for (StepExecution execution : executions) {
+            PartitionRequest request = new PartitionRequest(execution.getJobExecutionId(), execution.getId(), stepName);
+            futures.add(kafkaTemplate.send(topic, String.valueOf(execution.getId()), request));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,9 @@
+package com.loopers.batch.support.partition.remote;
+
+/**
+ * manager 가 worker 에게 보내는 파티션 실행 요청.
+ * 파티션의 구간과 재시작 위치는 JobRepository 의 step ExecutionContext 에 있으므로 식별자만 보낸다.
+ *
+ * @param stepName worker 가 실행할 Step 빈 이름
+ */
+public record PartitionRequest(long jobExecutionId, long stepExecutionId, String stepName) {}
@@ -0,0 +1,128 @@
+package com.loopers.batch.support.partition.remote;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.confg.kafka.KafkaConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+
+/**
+ * worker 모드의 commerce-batch 인스턴스. manager 가 발행한 파티션 요청을 받아 로컬 스레드에서 step 을 실행한다.
+ * <p>
+ * 요청은 비어 있는 실행 슬롯만큼만 받아 스레드 풀에 맡기고 ack 하므로, step 이 오래 걸려도 poll 간격 초과로 리밸런싱되지 않는다.
+ * 슬롯이 모자라면 나머지 요청은 nack 하여 Kafka 에 남겨 두고 capacityWait 뒤에 다시 받는다.
+ * 로컬 큐에 쌓아 두면 다른 worker 가 놀고 있어도 STARTING 으로 남아 manager 가 pickup timeout 으로 재할당하기 때문이다.
+ * 같은 요청이 여러 worker 에 전달되더라도 step 시작 시의 상태 갱신이 version 으로 보호되므로 하나만 실행된다.
+ * 실행 결과는 step 이 공유 JobRepository 에 기록하고, manager 는 이를 조회해 완료를 판단한다.
+ * 실행하려는 job 의 step 빈이 필요하므로 worker 도 같은 job.name 으로 띄우되, spring.batch.job.enabled=false 로 job 자체는 실행하지 않는다.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "batch.partition.mode", havingValue = "worker")
+@Component
+public class PartitionWorker implements ApplicationRunner, DisposableBean {
+    private final JobExplorer jobExplorer;
+    private final BeanFactory beanFactory;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor executor;
+    private final Semaphore slots;
+    private final Duration capacityWait;
+    private final CountDownLatch shutdown = new CountDownLatch(1);
+
+    public PartitionWorker(
+        JobExplorer jobExplorer,
+        BeanFactory beanFactory,
+        ObjectMapper objectMapper,
+        @Value("${batch.partition.worker.concurrency}") int concurrency,
+        @Value("${batch.partition.worker.capacity-wait:1s}") Duration capacityWait
+    ) {
+        this.jobExplorer = jobExplorer;
+        this.beanFactory = beanFactory;
+        this.objectMapper = objectMapper;
+        this.slots = new Semaphore(concurrency);
+        this.capacityWait = capacityWait;
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(concurrency);
+        this.executor.setMaxPoolSize(concurrency);
+        // 슬롯을 얻은 요청만 넘기므로 큐에는 많아야 concurrency 개가 잠시 머문다. (슬롯 반납과 스레드 복귀 사이)
+        this.executor.setQueueCapacity(concurrency);
+        this.executor.setThreadNamePrefix("partition-worker-");
+        this.executor.setWaitForTasksToCompleteOnShutdown(true);
+        this.executor.initialize();
+    }
+
+    @KafkaListener(
+        id = "batch-partition-worker",
+        idIsGroup = false,
+        groupId = "commerce-batch-partition-worker",
+        topics = {"${batch.partition.request-topic}"},
+        containerFactory = KafkaConfig.BATCH_LISTENER
+    )
+    public void receive(List<ConsumerRecord<Object, Object>> messages, Acknowledgment acknowledgment) throws IOException {
+        for (int i = 0; i < messages.size(); i++) {
+            PartitionRequest request = objectMapper.readValue((byte[]) messages.get(i).value(), PartitionRequest.class);
+            if (!slots.tryAcquire()) {
+                acknowledgment.nack(i, capacityWait);
+                return;
+            }
+            executor.execute(() -> {
+                try {
+                    execute(request);
+                } finally {
+                    slots.release();
+                }
+            });
+        }
+        acknowledgment.acknowledge();
+    }
+
+    void execute(PartitionRequest request) {
+        StepExecution stepExecution = jobExplorer.getStepExecution(request.jobExecutionId(), request.stepExecutionId());
+        if (stepExecution == null || stepExecution.getStatus() != BatchStatus.STARTING) {
+            log.info("이미 처리되었거나 재할당된 파티션을 건너뜁니다. (stepExecutionId = {})", request.stepExecutionId());
+            return;
+        }
+        Step step = beanFactory.getBean(request.stepName(), Step.class);
+        try {
+            step.execute(stepExecution);
+        } catch (OptimisticLockingFailureException e) {
+            log.info("다른 worker 가 먼저 시작한 파티션을 건너뜁니다. (stepExecutionId = {})", request.stepExecutionId());
+        } catch (Exception e) {
+            log.error("파티션 실행에 실패했습니다. (stepExecutionId = {})", request.stepExecutionId(), e);
+        }
+    }
+
+    /**
+     * main 스레드를 붙잡아 두어, 종료 신호를 받을 때까지 요청을 계속 처리한다.
+     */
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        log.info("파티션 worker 로 실행합니다.");
+        shutdown.await();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+        shutdown.countDown();
+    }
+}
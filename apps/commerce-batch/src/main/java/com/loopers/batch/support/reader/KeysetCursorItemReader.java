@@ -0,0 +1,94 @@
+package com.loopers.batch.support.reader;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 테이블을 id 순서의 서버 측 커서 하나로 흘려 읽는다. MySQL 은 fetchSize 가 Integer.MIN_VALUE 이면 행을 하나씩 스트리밍하므로
+ * 테이블 크기와 관계없이 힙 사용량이 일정하다.
+ * <p>
+ * 청크가 커밋될 때마다 마지막으로 읽은 id 를 step ExecutionContext 에 남기고, 재시작하면 {@code WHERE id > 마지막 id} 로
+ * 커서를 다시 열어 이어서 읽는다. JdbcCursorItemReader 처럼 처음부터 읽어 건너뛰지 않는다.
+ * 커서는 전용 커넥션을 쓰므로, 읽는 동안 청크 트랜잭션과 커넥션을 공유하지 않는다.
+ */
+public class KeysetCursorItemReader extends ItemStreamSupport implements ItemStreamReader<Map<String, Object>> {
+    private static final String LAST_KEY = "last.key";
+    private static final String KEY_COLUMN = "id";
+
+    private final DataSource dataSource;
+    private final String sql;
+    private final ColumnMapRowMapper rowMapper = new ColumnMapRowMapper();
+
+    private Connection connection;
+    private PreparedStatement statement;
+    private ResultSet resultSet;
+    private long lastKey = Long.MIN_VALUE;
+    private int rowNum;
+
+    /**
+     * @param columns id 컬럼을 포함해야 한다. 설정에 정의된 컬럼만 넘겨야 한다.
+     */
+    public KeysetCursorItemReader(String name, DataSource dataSource, String table, List<String> columns) {
+        if (!columns.contains(KEY_COLUMN)) {
+            throw new IllegalArgumentException("컬럼 목록에 " + KEY_COLUMN + " 이 있어야 합니다.");
+        }
+        setName(name);
+        this.dataSource = dataSource;
+        this.sql = "SELECT " + String.join(", ", columns) + " FROM " + table + " WHERE " + KEY_COLUMN + " > ? ORDER BY " + KEY_COLUMN;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        String lastKeyName = getExecutionContextKey(LAST_KEY);
+        if (executionContext.containsKey(lastKeyName)) {
+            lastKey = executionContext.getLong(lastKeyName);
+        }
+        try {
+            connection = dataSource.getConnection();
+            statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(Integer.MIN_VALUE);
+            statement.setLong(1, lastKey);
+            resultSet = statement.executeQuery();
+        } catch (SQLException e) {
+            close();
+            throw new ItemStreamException("커서를 열 수 없습니다. (" + sql + ")", e);
+        }
+    }
+
+    @Override
+    public Map<String, Object> read() throws SQLException {
+        if (!resultSet.next()) {
+            return null;
+        }
+        Map<String, Object> row = rowMapper.mapRow(resultSet, rowNum++);
+        lastKey = ((Number) row.get(KEY_COLUMN)).longValue();
+        return row;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        executionContext.putLong(getExecutionContextKey(LAST_KEY), lastKey);
+    }
+
+    @Override
+    public void close() {
+        JdbcUtils.closeResultSet(resultSet);
+        JdbcUtils.closeStatement(statement);
+        JdbcUtils.closeConnection(connection);
+        resultSet = null;
+        statement = null;
+        connection = null;
+    }
+}
@@ -0,0 +1,92 @@
+package com.loopers.batch.support.redis;
+
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamWriter;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 청크를 sorted set 에 적재한다. 한 번의 ZADD 에 membersPerCommand 개의 member 를 담고,
+ * 청크 하나의 ZADD 들과 EXPIRE 를 하나의 파이프라인으로 보내므로 청크당 왕복은 한 번이다.
+ * ZADD 는 같은 member 의 점수를 덮어쓰므로 재시작으로 같은 청크를 다시 써도 결과가 같다.
+ * <p>
+ * 키는 적재될 때마다 ttl 로 만료 시간이 갱신된다. 재시작했는데 이전 실행이 적재한 키가 그 사이 만료되었다면,
+ * 이어서 적재하면 앞부분이 빠진 결과가 되므로 open 에서 실패시킨다.
+ */
+public class SortedSetPipelineWriter<T> implements ItemStreamWriter<T> {
+    private static final String WRITTEN_CONTEXT_KEY = "sortedSetPipelineWriter.written";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String key;
+    private final byte[] rawKey;
+    private final Function<T, String> member;
+    private final ToDoubleFunction<T> score;
+    private final int membersPerCommand;
+    private final Duration ttl;
+    private boolean written;
+
+    public SortedSetPipelineWriter(
+        RedisTemplate<String, String> redisTemplate,
+        String key,
+        Function<T, String> member,
+        ToDoubleFunction<T> score,
+        int membersPerCommand,
+        Duration ttl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.key = key;
+        this.rawKey = key.getBytes(StandardCharsets.UTF_8);
+        this.member = member;
+        this.score = score;
+        this.membersPerCommand = membersPerCommand;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        written = executionContext.containsKey(WRITTEN_CONTEXT_KEY);
+        if (written && !Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            throw new ItemStreamException("이전 실행에서 적재한 키가 만료되어 이어서 적재할 수 없습니다. 새 job 으로 다시 실행해야 합니다. (key = " + key + ")");
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        if (written) {
+            executionContext.putString(WRITTEN_CONTEXT_KEY, "true");
+        }
+    }
+
+    @Override
+    public void write(Chunk<? extends T> chunk) {
+        List<? extends T> items = chunk.getItems();
+        if (items.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int from = 0; from < items.size(); from += membersPerCommand) {
+                List<? extends T> slice = items.subList(from, Math.min(from + membersPerCommand, items.size()));
+                Set<Tuple> tuples = new LinkedHashSet<>(slice.size());
+                for (T item : slice) {
+                    tuples.add(new DefaultTuple(member.apply(item).getBytes(StandardCharsets.UTF_8), score.applyAsDouble(item)));
+                }
+                connection.zSetCommands().zAdd(rawKey, tuples);
+            }
+            connection.keyCommands().pExpire(rawKey, ttl.toMillis());
+            return null;
+        });
+        written = true;
+    }
+}
@@ -0,0 +1,50 @@
+package com.loopers.domain.example;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+
+/**
+ * 일자별 예시 스냅샷. 스키마 정의 용도이며, 기록은 exampleSnapshotJob 이 JDBC batch 로 수행한다.
+ */
+@Entity
+@Table(name = "example_snapshot")
+@IdClass(ExampleSnapshot.Key.class)
+@Getter
+public class ExampleSnapshot {
+
+    @Id
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate snapshotDate;
+
+    @Id
+    @Column(name = "example_id", nullable = false)
+    private Long exampleId;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "description", nullable = false)
+    private String description;
+
+    @Column(name = "snapshot_at", nullable = false)
+    private ZonedDateTime snapshotAt;
+
+    protected ExampleSnapshot() {}
+
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private LocalDate snapshotDate;
+        private Long exampleId;
+    }
+}
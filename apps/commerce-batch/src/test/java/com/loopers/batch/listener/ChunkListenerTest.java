@@ -0,0 +1,49 @@
+package com.loopers.batch.listener;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ChunkListenerTest {
+
+    @DisplayName("청크마다 늘어난 수만큼 카운터에 더하고, 파티션 step 은 하나의 step 태그로 묶는다.")
+    @Test
+    void reportsCountDeltasPerChunk() {
+        // arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ChunkListener listener = new ChunkListener(meterRegistry);
+        JobExecution jobExecution = new JobExecution(new JobInstance(1L, "demoJob"), 1L, new JobParameters());
+        StepExecution stepExecution = new StepExecution("worker:partition0", jobExecution, 1L);
+
+        // act
+        runChunk(listener, stepExecution, 100, 100);
+        runChunk(listener, stepExecution, 200, 150);
+        listener.afterStep(stepExecution);
+
+        // assert
+        assertAll(
+            () -> assertThat(meterRegistry.get("batch.step.items").tags("job", "demoJob", "step", "worker", "type", "read").counter().count()).isEqualTo(200),
+            () -> assertThat(meterRegistry.get("batch.step.items").tags("step", "worker", "type", "write").counter().count()).isEqualTo(150),
+            () -> assertThat(meterRegistry.get("batch.step.commits").tags("step", "worker").counter().count()).isEqualTo(2),
+            () -> assertThat(meterRegistry.get("batch.chunk.duration").tags("step", "worker", "result", "success").timer().count()).isEqualTo(2)
+        );
+    }
+
+    private static void runChunk(ChunkListener listener, StepExecution stepExecution, long readCount, long writeCount) {
+        ChunkContext chunkContext = new ChunkContext(new StepContext(stepExecution));
+        listener.beforeChunk(chunkContext);
+        stepExecution.setReadCount(readCount);
+        stepExecution.setWriteCount(writeCount);
+        stepExecution.incrementCommitCount();
+        listener.afterChunk(chunkContext);
+    }
+}
@@ -0,0 +1,99 @@
+package com.loopers.batch.support.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class RollingGzipItemWriterTest {
+    private static final List<String> COLUMNS = List.of("id", "name");
+
+    @TempDir
+    Path directory;
+
+    @DisplayName("재시작하면 마지막 커밋 위치로 파일을 잘라내고 이어서 쓰므로, 커밋되지 않은 청크는 남지 않는다.")
+    @Test
+    void resumesFromLastCommittedPosition() throws Exception {
+        // arrange
+        ExecutionContext executionContext = new ExecutionContext();
+        RollingGzipItemWriter<Map<String, Object>> first = writer(ExportFormat.NDJSON, Long.MAX_VALUE);
+        first.open(executionContext);
+        first.write(Chunk.of(row(1, "a"), row(2, "b")));
+        first.update(executionContext);
+        first.write(Chunk.of(row(3, "c"))); // 커밋 전에 실패
+        first.close();
+
+        // act
+        RollingGzipItemWriter<Map<String, Object>> restarted = writer(ExportFormat.NDJSON, Long.MAX_VALUE);
+        restarted.open(executionContext);
+        restarted.write(Chunk.of(row(3, "c"), row(4, "d")));
+        restarted.update(executionContext);
+        restarted.close();
+
+        // assert
+        assertThat(read(restarted.file(0))).isEqualTo("""
+            {"id":1,"name":"a"}
+            {"id":2,"name":"b"}
+            {"id":3,"name":"c"}
+            {"id":4,"name":"d"}
+            """);
+    }
+
+    @DisplayName("파일이 최대 크기를 넘으면 다음 파일로 넘어가고, CSV 는 파일마다 헤더를 쓴다.")
+    @Test
+    void rollsFilesBySize() throws Exception {
+        // arrange
+        ExecutionContext executionContext = new ExecutionContext();
+        RollingGzipItemWriter<Map<String, Object>> writer = writer(ExportFormat.CSV, 1);
+        writer.open(executionContext);
+
+        // act
+        writer.write(Chunk.of(row(1, "a")));
+        writer.update(executionContext);
+        writer.write(Chunk.of(row(2, "b, \"c\"")));
+        writer.update(executionContext);
+        writer.close();
+
+        // assert
+        assertAll(
+            () -> assertThat(read(writer.file(0))).isEqualTo("id,name\n1,a\n"),
+            () -> assertThat(read(writer.file(1))).isEqualTo("id,name\n2,\"b, \"\"c\"\"\"\n"),
+            () -> assertThat(Files.exists(writer.file(2))).isFalse()
+        );
+    }
+
+    private RollingGzipItemWriter<Map<String, Object>> writer(ExportFormat format, long maxFileBytes) {
+        return new RollingGzipItemWriter<>(
+            "writer", directory, "example-2026-01-01", format.extension(), maxFileBytes, 1024,
+            format.encoder(COLUMNS, new ObjectMapper())
+        );
+    }
+
+    private static Map<String, Object> row(long id, String name) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", id);
+        row.put("name", name);
+        return row;
+    }
+
+    private static String read(Path file) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.loopers.batch.support.partition;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IdRangePartitionerTest {
+
+    @DisplayName("구간 시작 위치는 행 수를 gridSize 로 나눈 분위수이고, 행 수보다 많이 나누지 않는다.")
+    @Test
+    void returnsQuantileOffsets() {
+        // act
+        long[] offsets = IdRangePartitioner.quantileOffsets(10, 4);
+        long[] fewRows = IdRangePartitioner.quantileOffsets(2, 4);
+
+        // assert
+        assertAll(
+            () -> assertThat(offsets).containsExactly(0, 2, 5, 7),
+            () -> assertThat(fewRows).containsExactly(0, 1)
+        );
+    }
+
+    @DisplayName("작은 IDENTITY id 와 큰 시간 순서 id 가 섞여 있어도, 구간마다 행 수가 고르게 나뉜다.")
+    @Test
+    void splitsByRowCount_whenIdsAreSkewed() {
+        // arrange
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        List<Long> ids = List.of(1L, 2L, 3L, 4L, 390_000_000_000_000_001L, 390_000_000_000_000_002L, 390_000_000_000_000_003L, 390_000_000_000_000_004L);
+        when(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM example", Long.class)).thenReturn((long) ids.size());
+        when(jdbcTemplate.queryForObject("SELECT MAX(id) FROM example", Long.class)).thenReturn(ids.get(ids.size() - 1));
+        for (int offset = 0; offset < ids.size(); offset++) {
+            when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq((long) offset))).thenReturn(List.of(ids.get(offset)));
+        }
+
+        // act
+        Map<String, ExecutionContext> partitions = new IdRangePartitioner(jdbcTemplate, "example").partition(4);
+
+        // assert
+        assertAll(
+            () -> assertThat(partitions).hasSize(4),
+            () -> assertRange(partitions.get("partition0"), 1L, 2L),
+            () -> assertRange(partitions.get("partition1"), 3L, 390_000_000_000_000_000L),
+            () -> assertRange(partitions.get("partition2"), 390_000_000_000_000_001L, 390_000_000_000_000_002L),
+            () -> assertRange(partitions.get("partition3"), 390_000_000_000_000_003L, 390_000_000_000_000_004L)
+        );
+    }
+
+    @DisplayName("조회 사이에 행이 지워져 시작 id 가 겹치면, 그 경계는 건너뛴다.")
+    @Test
+    void skipsDuplicatedBoundaries() {
+        // act
+        Map<String, ExecutionContext> partitions = IdRangePartitioner.split(List.of(1L, 5L, 5L, 9L), 12L);
+
+        // assert
+        assertAll(
+            () -> assertThat(partitions).hasSize(3),
+            () -> assertRange(partitions.get("partition0"), 1L, 4L),
+            () -> assertRange(partitions.get("partition1"), 5L, 8L),
+            () -> assertRange(partitions.get("partition2"), 9L, 12L)
+        );
+    }
+
+    @DisplayName("테이블이 비어 있으면, 아무 행도 읽지 않는 구간 하나를 만든다.")
+    @Test
+    void returnsEmptyRange_whenTableIsEmpty() {
+        // arrange
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM example", Long.class)).thenReturn(0L);
+
+        // act
+        Map<String, ExecutionContext> partitions = new IdRangePartitioner(jdbcTemplate, "example").partition(4);
+
+        // assert
+        assertAll(
+            () -> assertThat(partitions).hasSize(1),
+            () -> assertRange(partitions.get("partition0"), 1L, 0L)
+        );
+    }
+
+    private static void assertRange(ExecutionContext context, long minId, long maxId) {
+        assertAll(
+            () -> assertThat(context.getLong(IdRangePartitions.MIN_ID)).isEqualTo(minId),
+            () -> assertThat(context.getLong(IdRangePartitions.MAX_ID)).isEqualTo(maxId)
+        );
+    }
+}
@@ -0,0 +1,169 @@
+package com.loopers.batch.support.partition.remote;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.partition.StepExecutionSplitter;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KafkaPartitionHandlerTest {
+    private static final String TOPIC = "batch.partition-request-v1";
+    private static final String WORKER_STEP = "worker";
+
+    private KafkaTemplate<Object, Object> kafkaTemplate;
+    private JobExplorer jobExplorer;
+    private JobRepository jobRepository;
+    private StepExecutionSplitter splitter;
+    private JobExecution jobExecution;
+    private StepExecution managerStepExecution;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() throws Exception {
+        kafkaTemplate = mock(KafkaTemplate.class);
+        jobExplorer = mock(JobExplorer.class);
+        jobRepository = mock(JobRepository.class);
+        splitter = mock(StepExecutionSplitter.class);
+        jobExecution = new JobExecution(10L);
+        managerStepExecution = new StepExecution("manager", jobExecution, 100L);
+        when(kafkaTemplate.send(eq(TOPIC), any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @DisplayName("모든 파티션을 발행하고, worker 가 완료한 step execution 들을 반환한다.")
+    @Test
+    void publishesPartitionsAndWaitsForCompletion() throws Exception {
+        // arrange
+        StepExecution first = partition(1L, BatchStatus.STARTING, LocalDateTime.now());
+        StepExecution second = partition(2L, BatchStatus.STARTING, LocalDateTime.now());
+        when(splitter.split(any(), anyInt())).thenReturn(Set.of(first, second));
+        when(jobExplorer.getStepExecution(10L, 1L)).thenReturn(partition(1L, BatchStatus.COMPLETED, LocalDateTime.now()));
+        when(jobExplorer.getStepExecution(10L, 2L)).thenReturn(partition(2L, BatchStatus.COMPLETED, LocalDateTime.now()));
+
+        // act
+        Collection<StepExecution> result = handler().handle(splitter, managerStepExecution);
+
+        // assert
+        assertAll(
+            () -> assertThat(result).extracting(StepExecution::getId).containsExactlyInAnyOrder(1L, 2L),
+            () -> verify(kafkaTemplate).send(TOPIC, "1", new PartitionRequest(10L, 1L, WORKER_STEP)),
+            () -> verify(kafkaTemplate).send(TOPIC, "2", new PartitionRequest(10L, 2L, WORKER_STEP))
+        );
+    }
+
+    @DisplayName("실행 중인 파티션이 heartbeat timeout 동안 갱신되지 않으면, 마지막 ExecutionContext 로 새 execution 을 만들어 다시 발행한다.")
+    @Test
+    void reassignsStalePartition() throws Exception {
+        // arrange
+        StepExecution stale = partition(1L, BatchStatus.STARTED, LocalDateTime.now().minusMinutes(10));
+        stale.getExecutionContext().putLong("lastKey", 42L);
+        when(splitter.split(any(), anyInt())).thenReturn(Set.of(partition(1L, BatchStatus.STARTING, LocalDateTime.now())));
+        when(jobExplorer.getStepExecution(10L, 1L)).thenReturn(stale);
+        doAnswer(invocation -> {
+            StepExecution added = invocation.getArgument(0);
+            added.setId(2L);
+            return null;
+        }).when(jobRepository).add(any(StepExecution.class));
+        StepExecution replacementDone = partition(2L, BatchStatus.COMPLETED, LocalDateTime.now());
+        when(jobExplorer.getStepExecution(10L, 2L)).thenReturn(replacementDone);
+
+        // act
+        Collection<StepExecution> result = handler().handle(splitter, managerStepExecution);
+
+        // assert
+        assertAll(
+            () -> assertThat(result).extracting(StepExecution::getId).containsExactly(2L),
+            () -> assertThat(stale.getStatus()).isEqualTo(BatchStatus.ABANDONED),
+            () -> verify(jobRepository).update(stale),
+            () -> verify(jobRepository).add(argThat((StepExecution added) -> added.getExecutionContext().getLong("lastKey") == 42L)),
+            () -> verify(kafkaTemplate).send(TOPIC, "2", new PartitionRequest(10L, 2L, WORKER_STEP))
+        );
+    }
+
+    @DisplayName("다른 파티션이 실행 중인 동안에는, 아직 시작되지 않은 파티션을 pickup timeout 으로 재할당하지 않는다.")
+    @Test
+    void keepsWaitingPartition_whileOtherPartitionIsRunning() throws Exception {
+        // arrange
+        LocalDateTime publishedAt = LocalDateTime.now().minusMinutes(10);
+        when(splitter.split(any(), anyInt())).thenReturn(Set.of(
+            partition(1L, BatchStatus.STARTING, LocalDateTime.now()),
+            partition(2L, BatchStatus.STARTING, LocalDateTime.now())
+        ));
+        when(jobExplorer.getStepExecution(10L, 1L)).thenReturn(
+            partition(1L, BatchStatus.STARTED, LocalDateTime.now()),
+            partition(1L, BatchStatus.COMPLETED, LocalDateTime.now())
+        );
+        when(jobExplorer.getStepExecution(10L, 2L)).thenReturn(
+            partition(2L, BatchStatus.STARTING, publishedAt),
+            partition(2L, BatchStatus.COMPLETED, LocalDateTime.now())
+        );
+
+        // act
+        Collection<StepExecution> result = handler().handle(splitter, managerStepExecution);
+
+        // assert
+        assertAll(
+            () -> assertThat(result).extracting(StepExecution::getId).containsExactlyInAnyOrder(1L, 2L),
+            () -> verify(jobRepository, never()).update(any(StepExecution.class)),
+            () -> verify(kafkaTemplate, times(2)).send(eq(TOPIC), any(), any())
+        );
+    }
+
+    @DisplayName("재할당 횟수를 넘기면, 파티션을 실패로 처리한다.")
+    @Test
+    void failsPartition_whenReassignmentsAreExhausted() throws Exception {
+        // arrange
+        StepExecution stale = partition(1L, BatchStatus.STARTING, LocalDateTime.now().minusMinutes(10));
+        when(splitter.split(any(), anyInt())).thenReturn(Set.of(partition(1L, BatchStatus.STARTING, LocalDateTime.now())));
+        when(jobExplorer.getStepExecution(10L, 1L)).thenReturn(stale);
+
+        // act
+        Collection<StepExecution> result = new KafkaPartitionHandler(
+            kafkaTemplate, jobExplorer, jobRepository, TOPIC, WORKER_STEP, 1,
+            Duration.ofMillis(1), Duration.ofMinutes(1), Duration.ofMinutes(1), 0
+        ).handle(splitter, managerStepExecution);
+
+        // assert
+        assertAll(
+            () -> assertThat(result).extracting(StepExecution::getStatus).containsExactly(BatchStatus.FAILED),
+            () -> verify(kafkaTemplate, times(1)).send(eq(TOPIC), any(), any())
+        );
+    }
+
+    private KafkaPartitionHandler handler() {
+        return new KafkaPartitionHandler(
+            kafkaTemplate, jobExplorer, jobRepository, TOPIC, WORKER_STEP, 2,
+            Duration.ofMillis(1), Duration.ofMinutes(1), Duration.ofMinutes(1), 3
+        );
+    }
+
+    private StepExecution partition(long id, BatchStatus status, LocalDateTime lastUpdated) {
+        StepExecution execution = new StepExecution(WORKER_STEP + ":partition" + id, jobExecution, id);
+        execution.setStatus(status);
+        execution.setLastUpdated(lastUpdated);
+        return execution;
+    }
+}
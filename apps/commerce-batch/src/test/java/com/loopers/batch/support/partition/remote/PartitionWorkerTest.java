@@ -0,0 +1,108 @@
+package com.loopers.batch.support.partition.remote;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PartitionWorkerTest {
+    private static final String WORKER_STEP = "worker";
+    private static final int CONCURRENCY = 2;
+    private static final Duration CAPACITY_WAIT = Duration.ofSeconds(1);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JobExplorer jobExplorer = mock(JobExplorer.class);
+    private final BeanFactory beanFactory = mock(BeanFactory.class);
+    private final Step step = mock(Step.class);
+    private final Acknowledgment acknowledgment = mock(Acknowledgment.class);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final PartitionWorker worker = new PartitionWorker(jobExplorer, beanFactory, objectMapper, CONCURRENCY, CAPACITY_WAIT);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JobExecution jobExecution = new JobExecution(10L);
+        when(jobExplorer.getStepExecution(any(), anyLong())).thenAnswer(invocation -> {
+            StepExecution execution = new StepExecution(WORKER_STEP, jobExecution, invocation.getArgument(1));
+            execution.setStatus(BatchStatus.STARTING);
+            return execution;
+        });
+        when(beanFactory.getBean(WORKER_STEP, Step.class)).thenReturn(step);
+        doAnswer(invocation -> release.await(10, TimeUnit.SECONDS)).when(step).execute(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        worker.destroy();
+    }
+
+    @DisplayName("파티션 요청이 실행 슬롯보다 많으면, 슬롯 수만큼만 실행하고 나머지는 nack 하여 Kafka 에 남긴다.")
+    @Test
+    void takesOnlyAsManyRequestsAsFreeSlots() throws Exception {
+        // arrange
+        List<ConsumerRecord<Object, Object>> requests = requests(5);
+
+        // act
+        worker.receive(requests, acknowledgment);
+
+        // assert
+        assertAll(
+            () -> verify(step, timeout(1_000).times(CONCURRENCY)).execute(any()),
+            () -> verify(acknowledgment).nack(CONCURRENCY, CAPACITY_WAIT),
+            () -> verify(acknowledgment, never()).acknowledge()
+        );
+    }
+
+    @DisplayName("실행 중인 파티션이 슬롯을 모두 차지하고 있으면, 다시 전달된 요청은 하나도 받지 않는다.")
+    @Test
+    void nacksWholeBatch_whenAllSlotsAreBusy() throws Exception {
+        // arrange
+        worker.receive(requests(CONCURRENCY), acknowledgment);
+        verify(step, timeout(1_000).times(CONCURRENCY)).execute(any());
+
+        // act
+        worker.receive(requests(3), acknowledgment);
+
+        // assert
+        assertAll(
+            () -> verify(acknowledgment).nack(0, CAPACITY_WAIT),
+            () -> verify(acknowledgment, times(1)).acknowledge(),
+            () -> verify(step, times(CONCURRENCY)).execute(any())
+        );
+    }
+
+    private List<ConsumerRecord<Object, Object>> requests(int count) throws Exception {
+        List<ConsumerRecord<Object, Object>> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte[] value = objectMapper.writeValueAsBytes(new PartitionRequest(10L, i + 1, WORKER_STEP));
+            records.add(new ConsumerRecord<>("batch.partition-request-v1", 0, i, String.valueOf(i + 1), value));
+        }
+        return records;
+    }
+}
@@ -0,0 +1,112 @@
+package com.loopers.job.exampleranking;
+
+import com.loopers.batch.job.exampleranking.ExampleRankingJobConfig;
+import com.loopers.batch.job.exampleranking.ExampleRankingKeys;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@SpringBatchTest
+@TestPropertySource(properties = "spring.batch.job.name=" + ExampleRankingJobConfig.JOB_NAME)
+class ExampleRankingJobE2ETest {
+    private static final LocalDate REQUEST_DATE = LocalDate.of(2026, 1, 1);
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    @Qualifier(ExampleRankingJobConfig.JOB_NAME)
+    private Job job;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> masterRedisTemplate;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @BeforeEach
+    void setUp() {
+        // example_window_metrics 의 엔티티는 commerce-streamer 에 있으므로 스키마를 직접 만든다.
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS example_window_metrics (
+                window_name VARCHAR(50) NOT NULL,
+                example_id BIGINT NOT NULL,
+                window_start DATETIME(6) NOT NULL,
+                window_end DATETIME(6) NOT NULL,
+                updated_count BIGINT NOT NULL,
+                updated_at DATETIME(6) NOT NULL,
+                PRIMARY KEY (window_name, example_id, window_start)
+            )
+            """);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("TRUNCATE TABLE example_window_metrics");
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("요청 일자의 1분 윈도우 집계를 예시별로 합산해, 서비스 키의 sorted set 으로 교체한다.")
+    @Test
+    void materializesDailyRanking() throws Exception {
+        // arrange
+        LocalDateTime dayStart = REQUEST_DATE.atStartOfDay(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime();
+        insertWindow(1L, dayStart, 3);
+        insertWindow(1L, dayStart.plusMinutes(1), 4);
+        insertWindow(2L, dayStart.plusHours(5), 10);
+        insertWindow(3L, dayStart.plusDays(1), 100); // 다음 날
+        masterRedisTemplate.opsForZSet().add(ExampleRankingKeys.live(REQUEST_DATE), "999", 1);
+        jobLauncherTestUtils.setJob(job);
+
+        // act
+        var jobExecution = jobLauncherTestUtils.launchJob(
+            new JobParametersBuilder()
+                .addString("requestDate", REQUEST_DATE.toString())
+                .toJobParameters()
+        );
+
+        // assert
+        var ranking = masterRedisTemplate.opsForZSet().reverseRangeWithScores(ExampleRankingKeys.live(REQUEST_DATE), 0, -1);
+        assertAll(
+            () -> assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode()),
+            () -> assertThat(ranking).extracting(ZSetOperations.TypedTuple::getValue).containsExactly("2", "1"),
+            () -> assertThat(ranking).extracting(ZSetOperations.TypedTuple::getScore).containsExactly(10.0, 7.0),
+            () -> assertThat(masterRedisTemplate.keys("ranking:example:daily:*:building:*")).isEmpty()
+        );
+    }
+
+    private void insertWindow(long exampleId, LocalDateTime windowStart, long count) {
+        jdbcTemplate.update(
+            "INSERT INTO example_window_metrics VALUES ('example-updated-1m', ?, ?, ?, ?, NOW())",
+            exampleId, windowStart, windowStart.plusMinutes(1), count
+        );
+    }
+}
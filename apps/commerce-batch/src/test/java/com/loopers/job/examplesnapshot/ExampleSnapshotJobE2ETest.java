@@ -0,0 +1,115 @@
+package com.loopers.job.examplesnapshot;
+
+import com.loopers.batch.job.examplesnapshot.ExampleSnapshotJobConfig;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@SpringBatchTest
+@TestPropertySource(properties = {
+    "spring.batch.job.name=" + ExampleSnapshotJobConfig.JOB_NAME,
+    "batch.partition.grid-size=3",
+    "batch.partition.chunk-size=4"
+})
+class ExampleSnapshotJobE2ETest {
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    @Qualifier(ExampleSnapshotJobConfig.JOB_NAME)
+    private Job job;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @BeforeEach
+    void setUp() {
+        // example 테이블의 엔티티는 commerce-api 에 있으므로 스키마를 직접 만든다.
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS example (
+                id BIGINT PRIMARY KEY,
+                name VARCHAR(255),
+                description VARCHAR(255),
+                created_at DATETIME(6) NOT NULL,
+                updated_at DATETIME(6) NOT NULL,
+                deleted_at DATETIME(6)
+            )
+            """);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("TRUNCATE TABLE example");
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("id 범위를 파티션으로 나누어, 삭제되지 않은 모든 예시를 요청 일자의 스냅샷으로 기록한다.")
+    @Test
+    void snapshotsAllExamplesAcrossPartitions() throws Exception {
+        // arrange
+        for (long id = 1; id <= 30; id++) {
+            jdbcTemplate.update(
+                "INSERT INTO example (id, name, description, created_at, updated_at, deleted_at) VALUES (?, ?, ?, NOW(), NOW(), ?)",
+                id, "예시 " + id, "설명 " + id, id == 7 ? LocalDateTime.now() : null
+            );
+        }
+        jobLauncherTestUtils.setJob(job);
+        LocalDate requestDate = LocalDate.of(2026, 1, 1);
+
+        // act
+        var jobExecution = jobLauncherTestUtils.launchJob(
+            new JobParametersBuilder()
+                .addString("requestDate", requestDate.toString())
+                .toJobParameters()
+        );
+
+        // assert
+        var workerSteps = jobExecution.getStepExecutions().stream()
+            .filter(step -> step.getStepName().startsWith("exampleSnapshotWorker"))
+            .toList();
+        assertAll(
+            () -> assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode()),
+            () -> assertThat(workerSteps).hasSize(3),
+            () -> assertThat(workerSteps.stream().mapToLong(StepExecution::getWriteCount).sum()).isEqualTo(29),
+            () -> assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM example_snapshot WHERE snapshot_date = ?", Long.class, requestDate
+            )).isEqualTo(29L)
+        );
+    }
+
+    @DisplayName("jobParameter 중 requestDate 인자가 주어지지 않으면, 실행되지 않는다.")
+    @Test
+    void rejects_whenRequestDateIsMissing() {
+        // arrange
+        jobLauncherTestUtils.setJob(job);
+
+        // act & assert
+        assertThrows(JobParametersInvalidException.class, () -> jobLauncherTestUtils.launchJob());
+    }
+}
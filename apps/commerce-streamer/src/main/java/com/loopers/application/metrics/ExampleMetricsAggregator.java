@@ -0,0 +1,59 @@
+package com.loopers.application.metrics;
+
+import com.loopers.confg.kafka.outbox.OutboxRelay;
+import com.loopers.domain.example.ExampleEvent;
+import com.loopers.infrastructure.event.EventDeduplicator;
+import com.loopers.infrastructure.metrics.ExampleMetricsWriter;
+import com.loopers.support.aggregate.LongSumAccumulator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 예시 이벤트 배치를 메모리에서 예시 ID 별로 합산한 뒤, 배치당 한 번의 upsert 로 반영한다.
+ * 같은 예시에 대한 이벤트가 많을수록 DB 쓰기가 크게 줄어든다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ExampleMetricsAggregator {
+    static final String CONSUMER_NAME = "example-metrics";
+    static final String EXAMPLE_UPDATED = ExampleEvent.Updated.TYPE;
+
+    private final EventDeduplicator eventDeduplicator;
+    private final ExampleMetricsWriter exampleMetricsWriter;
+
+    /**
+     * 집계 반영과 처리 이력 기록을 한 트랜잭션으로 묶어, 재전달된 배치가 두 번 더해지지 않도록 한다.
+     */
+    @Transactional
+    public void aggregate(List<ConsumerRecord<Object, Object>> records) {
+        List<ConsumerRecord<Object, Object>> unhandled = eventDeduplicator.filterUnhandled(CONSUMER_NAME, records);
+
+        LongSumAccumulator updatedCounts = new LongSumAccumulator(unhandled.size());
+        for (ConsumerRecord<Object, Object> record : unhandled) {
+            if (!EXAMPLE_UPDATED.equals(eventTypeOf(record))) {
+                continue;
+            }
+            try {
+                updatedCounts.add(Long.parseLong(String.valueOf(record.key())), 1);
+            } catch (NumberFormatException e) {
+                log.warn("예시 ID 를 알 수 없는 이벤트를 건너뜁니다. (topic = {}, offset = {}, key = {})", record.topic(), record.offset(), record.key());
+            }
+        }
+
+        exampleMetricsWriter.addUpdatedCounts(updatedCounts);
+        eventDeduplicator.markHandled(CONSUMER_NAME, unhandled);
+    }
+
+    private static String eventTypeOf(ConsumerRecord<Object, Object> record) {
+        Header header = record.headers().lastHeader(OutboxRelay.HEADER_EVENT_TYPE);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,223 @@
+package com.loopers.application.metrics;
+
+import com.loopers.confg.kafka.outbox.OutboxRelay;
+import com.loopers.infrastructure.metrics.ExampleWindowMetricsWriter;
+import com.loopers.support.window.WindowSpec;
+import com.loopers.support.window.WindowedAggregator;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * 예시 변경 이벤트를 1분 tumbling 윈도우와 1시간 hopping 윈도우 (10분 간격) 로 집계한다.
+ * 윈도우 상태는 로컬 memory-mapped 파일에 두고 DB 에는 닫힌 윈도우만 배치로 기록하므로, 이벤트당 DB 쓰기가 없다.
+ * <p>
+ * 한 (윈도우, 예시) 행은 그 예시 key 가 속한 파티션의 소유자만 기록한다. offset 은 열린 윈도우에 처음 반영한 레코드 앞까지만 커밋하고
+ * 윈도우별 닫은 시각을 커밋 metadata 로 남기므로, 파티션이 다른 인스턴스로 옮겨가면 새 소유자가 열린 윈도우를 처음부터 다시 세고
+ * 이미 닫힌 윈도우는 다시 내보내지 않는다. 이전 소유자는 할당 해제된 파티션의 상태를 내보내지 않고 버린다.
+ * 단일 컨슈머 스레드에서만 호출되어야 한다.
+ */
+@Slf4j
+@Component
+public class ExampleWindowAggregator {
+    static final WindowSpec PER_MINUTE = WindowSpec.tumbling("example-updated-1m", Duration.ofMinutes(1), Duration.ofSeconds(10));
+    static final WindowSpec PER_HOUR = new WindowSpec("example-updated-1h", Duration.ofHours(1), Duration.ofMinutes(10), Duration.ofMinutes(1));
+
+    private final ExampleWindowMetricsWriter exampleWindowMetricsWriter;
+    private final List<WindowedAggregator> aggregators;
+
+    public ExampleWindowAggregator(
+        ExampleWindowMetricsWriter exampleWindowMetricsWriter,
+        MeterRegistry meterRegistry,
+        @Value("${example-window.directory}") Path directory,
+        @Value("${example-window.capacity:1048576}") int capacity,
+        @Value("${example-window.checkpoint-interval:30s}") Duration checkpointInterval
+    ) {
+        this.exampleWindowMetricsWriter = exampleWindowMetricsWriter;
+        this.aggregators = List.of(
+            new WindowedAggregator(PER_MINUTE, directory, capacity, checkpointInterval, System::nanoTime),
+            new WindowedAggregator(PER_HOUR, directory, capacity, checkpointInterval, System::nanoTime)
+        );
+        for (WindowedAggregator aggregator : aggregators) {
+            Gauge.builder("window.store.entries", aggregator, WindowedAggregator::size)
+                .tag("window", aggregator.spec().name())
+                .register(meterRegistry);
+            FunctionCounter.builder("window.records.late", aggregator, WindowedAggregator::droppedLate)
+                .tag("window", aggregator.spec().name())
+                .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 레코드를 윈도우에 반영하고, 닫힌 윈도우를 기록한 뒤 주기가 되었으면 체크포인트를 남기고 offset 을 커밋한다.
+     */
+    public void aggregate(List<ConsumerRecord<Object, Object>> records, Consumer<?, ?> consumer) {
+        aggregators.forEach(WindowedAggregator::discardInactive);
+        activateNewPartitions(records, consumer);
+        for (ConsumerRecord<Object, Object> record : records) {
+            Long exampleId = exampleIdOf(record);
+            TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+            for (WindowedAggregator aggregator : aggregators) {
+                if (aggregator.advance(partition, record.offset(), record.timestamp()) && exampleId != null) {
+                    aggregator.add(partition, record.offset(), record.timestamp(), exampleId, 1);
+                }
+            }
+        }
+        for (TopicPartition partition : consumer.assignment()) {
+            OptionalLong lag = consumer.currentLag(partition);
+            if (lag.isPresent() && lag.getAsLong() == 0) {
+                aggregators.forEach(aggregator -> aggregator.markCaughtUp(partition));
+            }
+        }
+        for (WindowedAggregator aggregator : aggregators) {
+            aggregator.closeWindows(results -> exampleWindowMetricsWriter.write(aggregator.spec().name(), results));
+            aggregator.checkpointIfDue();
+        }
+        commit(consumer);
+    }
+
+    /**
+     * 파티션이 할당되면 체크포인트 상태를 이어 쓸 수 있는지 확인하고, 모든 윈도우가 이어 쓰면 그중 가장 앞선 offset 부터 다시 읽도록 한다.
+     * 이미 반영한 레코드는 윈도우별로 걸러지므로 두 번 더해지지 않는다. 이어 쓰지 못한 윈도우는 첫 레코드를 받을 때 커밋 metadata 로 시작한다.
+     */
+    public void seekToCheckpoint(Map<TopicPartition, Long> assignments, BiConsumer<TopicPartition, Long> seek) {
+        assignments.forEach((partition, committedPosition) -> {
+            Long earliest = null;
+            boolean resumedAll = true;
+            for (WindowedAggregator aggregator : aggregators) {
+                Long resumed = aggregator.resume(partition, committedPosition);
+                if (resumed == null) {
+                    resumedAll = false;
+                } else {
+                    earliest = earliest == null ? resumed : Math.min(earliest, resumed);
+                }
+            }
+            if (resumedAll && earliest != null) {
+                log.info("윈도우 체크포인트부터 다시 읽습니다. (partition = {}, offset = {})", partition, earliest);
+                seek.accept(partition, earliest);
+            }
+        });
+        aggregators.forEach(WindowedAggregator::discardInactive);
+    }
+
+    /**
+     * 할당 해제된 파티션은 더 이상 내보내지 않는다. 열린 윈도우는 새 소유자가 커밋 위치부터 다시 센다.
+     */
+    public void revoke(Collection<TopicPartition> partitions) {
+        aggregators.forEach(aggregator -> aggregator.revoke(partitions));
+    }
+
+    @PreDestroy
+    public void close() {
+        for (WindowedAggregator aggregator : aggregators) {
+            aggregator.checkpoint();
+            aggregator.close();
+        }
+    }
+
+    private void activateNewPartitions(List<ConsumerRecord<Object, Object>> records, Consumer<?, ?> consumer) {
+        Set<TopicPartition> inactive = new LinkedHashSet<>();
+        for (ConsumerRecord<Object, Object> record : records) {
+            TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+            if (aggregators.stream().anyMatch(aggregator -> !aggregator.isActive(partition))) {
+                inactive.add(partition);
+            }
+        }
+        if (inactive.isEmpty()) {
+            return;
+        }
+        Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(inactive);
+        for (TopicPartition partition : inactive) {
+            Map<String, Long> closedUpTo = decodeClosedUpTo(committed.get(partition));
+            for (WindowedAggregator aggregator : aggregators) {
+                if (!aggregator.isActive(partition)) {
+                    aggregator.activate(partition, closedUpTo.getOrDefault(aggregator.spec().name(), 0L));
+                }
+            }
+        }
+    }
+
+    /**
+     * 모든 윈도우가 커밋해도 된다고 한 offset 중 가장 앞선 곳을, 윈도우별 닫은 시각과 함께 커밋한다.
+     */
+    private void commit(Consumer<?, ?> consumer) {
+        Set<TopicPartition> partitions = new HashSet<>();
+        aggregators.forEach(aggregator -> partitions.addAll(aggregator.activePartitions()));
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (TopicPartition partition : partitions) {
+            Long earliest = null;
+            StringBuilder metadata = new StringBuilder();
+            for (WindowedAggregator aggregator : aggregators) {
+                Long offset = aggregator.commitOffset(partition);
+                if (offset == null) {
+                    earliest = null;
+                    break;
+                }
+                earliest = earliest == null ? offset : Math.min(earliest, offset);
+                if (!metadata.isEmpty()) {
+                    metadata.append(',');
+                }
+                metadata.append(aggregator.spec().name()).append('=').append(aggregator.closedUpTo(partition));
+            }
+            if (earliest != null) {
+                offsets.put(partition, new OffsetAndMetadata(earliest, metadata.toString()));
+            }
+        }
+        if (!offsets.isEmpty()) {
+            consumer.commitSync(offsets);
+        }
+    }
+
+    static Map<String, Long> decodeClosedUpTo(OffsetAndMetadata committed) {
+        Map<String, Long> closedUpTo = new HashMap<>();
+        if (committed == null || committed.metadata() == null || committed.metadata().isBlank()) {
+            return closedUpTo;
+        }
+        for (String entry : committed.metadata().split(",")) {
+            int separator = entry.lastIndexOf('=');
+            if (separator > 0) {
+                try {
+                    closedUpTo.put(entry.substring(0, separator), Long.parseLong(entry.substring(separator + 1)));
+                } catch (NumberFormatException e) {
+                    log.warn("알 수 없는 커밋 metadata 를 무시합니다. (metadata = {})", committed.metadata());
+                }
+            }
+        }
+        return closedUpTo;
+    }
+
+    private static Long exampleIdOf(ConsumerRecord<Object, Object> record) {
+        Header header = record.headers().lastHeader(OutboxRelay.HEADER_EVENT_TYPE);
+        if (header == null || !ExampleMetricsAggregator.EXAMPLE_UPDATED.equals(new String(header.value(), StandardCharsets.UTF_8))) {
+            return null;
+        }
+        try {
+            return Long.parseLong(String.valueOf(record.key()));
+        } catch (NumberFormatException e) {
+            log.warn("예시 ID 를 알 수 없는 이벤트를 건너뜁니다. (topic = {}, offset = {}, key = {})", record.topic(), record.offset(), record.key());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.loopers.domain.event;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.ZonedDateTime;
+
+/**
+ * 컨슈머별로 처리를 마친 이벤트. 스키마 정의 용도이며, 읽기/쓰기는 {@code EventHandledStore} 가 JDBC 로 일괄 처리한다.
+ */
+@Entity
+@Table(
+    name = "event_handled",
+    indexes = @Index(name = "idx_event_handled_handled_at", columnList = "handled_at")
+)
+@IdClass(EventHandled.Key.class)
+@Getter
+public class EventHandled {
+
+    @Id
+    @Column(name = "consumer", nullable = false, length = 100)
+    private String consumer;
+
+    @Id
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "handled_at", nullable = false)
+    private ZonedDateTime handledAt;
+
+    protected EventHandled() {}
+
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String consumer;
+        private Long eventId;
+    }
+}
@@ -0,0 +1,10 @@
+package com.loopers.domain.example;
+
+/**
+ * commerce-api 가 outbox 에 기록하는 예시 도메인 이벤트. 필드와 이름은 commerce-api 의 ExampleEvent 와 같아야 한다.
+ */
+public class ExampleEvent {
+    public record Updated(Long exampleId, String description) {
+        public static final String TYPE = "ExampleUpdated";
+    }
+}
@@ -0,0 +1,30 @@
+package com.loopers.domain.metrics;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 예시별 이벤트 집계. 스키마 정의 용도이며, 갱신은 {@code ExampleMetricsWriter} 가 배치 단위 upsert 로 수행한다.
+ */
+@Entity
+@Table(name = "example_metrics")
+@Getter
+public class ExampleMetrics {
+
+    @Id
+    @Column(name = "example_id")
+    private Long exampleId;
+
+    @Column(name = "updated_count", nullable = false)
+    private long updatedCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private ZonedDateTime updatedAt;
+
+    protected ExampleMetrics() {}
+}
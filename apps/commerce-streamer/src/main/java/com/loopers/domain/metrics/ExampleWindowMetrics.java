@@ -0,0 +1,54 @@
+package com.loopers.domain.metrics;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.ZonedDateTime;
+
+/**
+ * 윈도우별 예시 이벤트 집계. 스키마 정의 용도이며, 닫힌 윈도우를 {@code ExampleWindowMetricsWriter} 가 배치 단위로 기록한다.
+ */
+@Entity
+@Table(name = "example_window_metrics")
+@IdClass(ExampleWindowMetrics.Key.class)
+@Getter
+public class ExampleWindowMetrics {
+
+    @Id
+    @Column(name = "window_name", nullable = false, length = 50)
+    private String windowName;
+
+    @Id
+    @Column(name = "example_id", nullable = false)
+    private Long exampleId;
+
+    @Id
+    @Column(name = "window_start", nullable = false)
+    private ZonedDateTime windowStart;
+
+    @Column(name = "window_end", nullable = false)
+    private ZonedDateTime windowEnd;
+
+    @Column(name = "updated_count", nullable = false)
+    private long updatedCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private ZonedDateTime updatedAt;
+
+    protected ExampleWindowMetrics() {}
+
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String windowName;
+        private Long exampleId;
+        private ZonedDateTime windowStart;
+    }
+}
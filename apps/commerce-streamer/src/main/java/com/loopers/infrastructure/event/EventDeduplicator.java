@@ -0,0 +1,235 @@
+package com.loopers.infrastructure.event;
+
+import com.loopers.confg.kafka.outbox.OutboxRelay;
+import com.loopers.support.dedup.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배치 리스너에서 이미 처리한 이벤트를 걸러낸다. 이벤트 ID 는 outbox 릴레이가 붙인 {@link OutboxRelay#HEADER_EVENT_ID} 헤더를 사용한다.
+ *
+ * 로컬 Bloom filter 에 없는 이벤트는 처리된 적이 없다고 보고, Bloom filter 에 있는 이벤트만 event_handled 에서 확인한다.
+ * 이 판단이 성립하려면 Bloom filter 가 저장소의 부분집합이 아닌 상위집합이어야 하므로,
+ * <ul>
+ *     <li>기동 시 보존 기간 내 기록으로 한 번 채운다.</li>
+ *     <li>파티션이 새로 할당되면 (= 다른 인스턴스가 처리하던 파티션을 넘겨받을 수 있으면) 마지막으로 읽은 시각 이후의 기록만 더 읽어 넣는다.</li>
+ * </ul>
+ * 두 조회 모두 전용 스레드에서 실행되어 poll 스레드를 막지 않으며, 조회가 끝나기 전까지는 모든 이벤트를 event_handled 에서 확인한다.
+ * Bloom filter 에서는 값을 빼지 않으므로 오탐률은 실행 시간에 따라 천천히 오르며, 재기동하면 보존 기간 내 기록으로 다시 채워진다.
+ * 보존 기간보다 오래된 이벤트의 재전달은 걸러내지 않을 수 있다.
+ */
+@Slf4j
+@Component
+public class EventDeduplicator implements ConsumerAwareRebalanceListener {
+    /**
+     * 처리 이력의 handled_at 은 트랜잭션이 커밋되기 전에 정해지므로, 마지막으로 읽은 시각보다 이만큼 앞에서부터 다시 읽는다.
+     */
+    static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+    private static final Duration SYNC_RETRY_DELAY = Duration.ofSeconds(10);
+
+    private final EventHandledStore eventHandledStore;
+    private final Duration retention;
+    private final BloomFilter handled;
+    private final ScheduledExecutorService loader;
+
+    private final Counter freshCounter;
+    private final Counter duplicateCounter;
+    private final Counter storeLookupCounter;
+
+    private volatile boolean synced;
+    private boolean syncRequested;
+    private ZonedDateTime syncedUntil;
+
+    public EventDeduplicator(
+        EventHandledStore eventHandledStore,
+        MeterRegistry meterRegistry,
+        @Value("${event-dedup.expected-insertions:10000000}") long expectedInsertions,
+        @Value("${event-dedup.false-positive-rate:0.01}") double falsePositiveRate,
+        @Value("${event-dedup.retention:7d}") Duration retention
+    ) {
+        this.eventHandledStore = eventHandledStore;
+        this.retention = retention;
+        this.handled = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.loader = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("event-dedup-loader").daemon().factory());
+        this.freshCounter = Counter.builder("event.dedup.records").tag("result", "fresh").register(meterRegistry);
+        this.duplicateCounter = Counter.builder("event.dedup.records").tag("result", "duplicate").register(meterRegistry);
+        this.storeLookupCounter = Counter.builder("event.dedup.store.lookups")
+            .description("Bloom filter 가 판단하지 못해 저장소에서 확인한 이벤트 수")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        requestSync();
+    }
+
+    @PreDestroy
+    public void close() {
+        loader.shutdownNow();
+    }
+
+    /**
+     * 처리 이력을 Bloom filter 에 반영하여, Bloom filter 에 없는 이벤트는 저장소에서 확인하지 않는 상태이면 true.
+     */
+    public boolean isSynced() {
+        return synced;
+    }
+
+    /**
+     * 처리되지 않은 레코드만 원래 순서대로 반환한다. 같은 배치 안에서 중복된 이벤트는 처음 것만 남긴다.
+     * 이벤트 ID 헤더가 없는 레코드는 그대로 통과시킨다.
+     */
+    public <K, V> List<ConsumerRecord<K, V>> filterUnhandled(String consumer, List<ConsumerRecord<K, V>> records) {
+        boolean trusted = synced;
+        Set<Long> suspects = new HashSet<>();
+        for (ConsumerRecord<K, V> record : records) {
+            Long eventId = eventIdOf(record);
+            if (eventId != null && (!trusted || handled.mightContain(key(consumer, eventId)))) {
+                suspects.add(eventId);
+            }
+        }
+        storeLookupCounter.increment(suspects.size());
+        Set<Long> alreadyHandled = eventHandledStore.findHandled(consumer, suspects);
+
+        Set<Long> seen = new HashSet<>();
+        List<ConsumerRecord<K, V>> unhandled = new ArrayList<>(records.size());
+        for (ConsumerRecord<K, V> record : records) {
+            Long eventId = eventIdOf(record);
+            if (eventId == null || (!alreadyHandled.contains(eventId) && seen.add(eventId))) {
+                unhandled.add(record);
+            }
+        }
+        freshCounter.increment(unhandled.size());
+        duplicateCounter.increment(records.size() - unhandled.size());
+        return unhandled;
+    }
+
+    /**
+     * 처리를 마친 레코드를 한 번에 기록한다. 오프셋을 커밋하기 전에 호출해야 한다.
+     * 트랜잭션 안에서 호출하면 처리 결과와 처리 이력이 함께 커밋된다.
+     */
+    public void markHandled(String consumer, Collection<? extends ConsumerRecord<?, ?>> records) {
+        Set<Long> eventIds = new LinkedHashSet<>();
+        for (ConsumerRecord<?, ?> record : records) {
+            Long eventId = eventIdOf(record);
+            if (eventId != null) {
+                eventIds.add(eventId);
+            }
+        }
+        eventHandledStore.markHandled(consumer, eventIds);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 롤백되면 처리되지 않은 것이므로, 커밋된 뒤에 Bloom filter 에 반영한다.
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remember(consumer, eventIds);
+                }
+            });
+        } else {
+            remember(consumer, eventIds);
+        }
+    }
+
+    private void remember(String consumer, Set<Long> eventIds) {
+        for (Long eventId : eventIds) {
+            handled.put(key(consumer, eventId));
+        }
+    }
+
+    /**
+     * 할당 콜백은 poll 스레드에서 호출되므로, 저장소 조회는 loader 스레드에 맡기고 바로 반환한다.
+     */
+    @Override
+    public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        if (!partitions.isEmpty()) {
+            requestSync();
+        }
+    }
+
+    /**
+     * 조회가 끝날 때까지 Bloom filter 를 믿지 않도록 표시하고, loader 스레드에 조회를 맡긴다. 이미 대기 중인 조회가 있으면 합친다.
+     */
+    synchronized void requestSync() {
+        synced = false;
+        if (!syncRequested) {
+            syncRequested = true;
+            loader.execute(this::sync);
+        }
+    }
+
+    /**
+     * 처음에는 보존 기간 내 기록을, 이후에는 마지막으로 읽은 시각 이후의 기록만 Bloom filter 에 더한다.
+     * 조회하는 동안 기록되는 이벤트는 {@link #markHandled} 가 같은 Bloom filter 에 넣으므로 누락되지 않는다.
+     * loader 스레드에서만 호출된다.
+     */
+    void sync() {
+        synchronized (this) {
+            syncRequested = false;
+        }
+        ZonedDateTime startedAt = ZonedDateTime.now();
+        ZonedDateTime since = syncedUntil == null ? startedAt.minus(retention) : syncedUntil.minus(SYNC_OVERLAP);
+        try {
+            long[] count = {0};
+            eventHandledStore.forEachHandledSince(since, (consumer, eventId) -> {
+                handled.put(key(consumer, eventId));
+                count[0]++;
+            });
+            syncedUntil = startedAt;
+            synchronized (this) {
+                // 조회하는 동안 다시 요청되었으면, 그 조회가 끝날 때까지 믿지 않는다.
+                synced = !syncRequested;
+            }
+            log.info("처리 이력을 Bloom filter 에 반영했습니다. (since = {}, events = {})", since, count[0]);
+        } catch (RuntimeException e) {
+            log.warn("처리 이력을 읽지 못했습니다. {} 뒤 다시 시도하며, 그동안 모든 이벤트를 저장소에서 확인합니다.", SYNC_RETRY_DELAY, e);
+            synchronized (this) {
+                if (!syncRequested) {
+                    syncRequested = true;
+                    loader.schedule(this::sync, SYNC_RETRY_DELAY.toMillis(), TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+    }
+
+    private static long key(String consumer, long eventId) {
+        return eventId * 31 + consumer.hashCode();
+    }
+
+    private static Long eventIdOf(ConsumerRecord<?, ?> record) {
+        Header header = record.headers().lastHeader(OutboxRelay.HEADER_EVENT_ID);
+        if (header == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(new String(header.value(), StandardCharsets.UTF_8));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.loopers.infrastructure.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * event_handled 테이블에 대한 일괄 조회/기록.
+ * 배치 단위로 한 번의 SELECT ... IN 과 한 번의 INSERT IGNORE (rewriteBatchedStatements 로 multi-row 로 변환) 만 수행한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class EventHandledStore {
+    private static final String FIND_HANDLED = """
+        SELECT event_id FROM event_handled WHERE consumer = :consumer AND event_id IN (:eventIds)
+        """;
+    private static final String INSERT_HANDLED = """
+        INSERT IGNORE INTO event_handled (consumer, event_id, handled_at) VALUES (?, ?, ?)
+        """;
+    private static final String FIND_HANDLED_SINCE = """
+        SELECT consumer, event_id FROM event_handled WHERE handled_at >= ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public Set<Long> findHandled(String consumer, Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Set.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("consumer", consumer)
+            .addValue("eventIds", eventIds);
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(FIND_HANDLED, params, Long.class));
+    }
+
+    public void markHandled(String consumer, Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime handledAt = LocalDateTime.now(ZoneOffset.UTC);
+        List<Long> ids = new ArrayList<>(eventIds);
+        jdbcTemplate.batchUpdate(INSERT_HANDLED, ids, ids.size(), (PreparedStatement ps, Long eventId) -> {
+            ps.setString(1, consumer);
+            ps.setLong(2, eventId);
+            ps.setObject(3, handledAt);
+        });
+    }
+
+    /**
+     * since 이후 처리된 모든 (consumer, event_id) 를 결과를 메모리에 모으지 않고 한 행씩 전달한다.
+     */
+    public void forEachHandledSince(ZonedDateTime since, BiConsumer<String, Long> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(FIND_HANDLED_SINCE, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE); // MySQL 스트리밍 조회
+            ps.setObject(1, since.withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime());
+            return ps;
+        }, (ResultSet rs) -> consumer.accept(rs.getString("consumer"), rs.getLong("event_id")));
+    }
+}
@@ -0,0 +1,54 @@
+package com.loopers.infrastructure.event;
+
+import com.loopers.confg.kafka.codec.BinaryReader;
+import com.loopers.confg.kafka.codec.BinaryWriter;
+import com.loopers.confg.kafka.codec.EventCodec;
+import com.loopers.domain.example.ExampleEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link ExampleEvent.Updated} 의 바이너리 스키마. 라우팅 값은 예시 ID 이다.
+ * <pre>
+ * v1: exampleId (varlong), description (string)
+ * </pre>
+ */
+@Component
+public class ExampleUpdatedCodec implements EventCodec<ExampleEvent.Updated> {
+    static final short TYPE_ID = 1;
+    private static final byte SCHEMA_VERSION = 1;
+
+    @Override
+    public Class<ExampleEvent.Updated> type() {
+        return ExampleEvent.Updated.class;
+    }
+
+    @Override
+    public short typeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public String eventType() {
+        return ExampleEvent.Updated.TYPE;
+    }
+
+    @Override
+    public byte schemaVersion() {
+        return SCHEMA_VERSION;
+    }
+
+    @Override
+    public long routingKey(ExampleEvent.Updated event) {
+        return event.exampleId();
+    }
+
+    @Override
+    public void encode(ExampleEvent.Updated event, BinaryWriter writer) {
+        writer.writeVarLong(event.exampleId()).writeString(event.description());
+    }
+
+    @Override
+    public ExampleEvent.Updated decode(BinaryReader reader, byte schemaVersion) {
+        return new ExampleEvent.Updated(reader.readVarLong(), reader.readString());
+    }
+}
@@ -0,0 +1,44 @@
+package com.loopers.infrastructure.metrics;
+
+import com.loopers.support.aggregate.LongSumAccumulator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 집계된 증가분을 example_metrics 에 더한다.
+ * JDBC batch 로 보내며, rewriteBatchedStatements 에 의해 한 번의 multi-row INSERT ... ON DUPLICATE KEY UPDATE 로 실행된다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ExampleMetricsWriter {
+    private static final String UPSERT_UPDATED_COUNT = """
+        INSERT INTO example_metrics (example_id, updated_count, updated_at) VALUES (?, ?, ?)
+        ON DUPLICATE KEY UPDATE updated_count = updated_count + VALUES(updated_count), updated_at = VALUES(updated_at)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void addUpdatedCounts(LongSumAccumulator updatedCounts) {
+        if (updatedCounts.isEmpty()) {
+            return;
+        }
+        List<long[]> rows = new ArrayList<>(updatedCounts.size());
+        updatedCounts.forEachSorted((exampleId, count) -> rows.add(new long[]{exampleId, count}));
+        LocalDateTime updatedAt = LocalDateTime.now(ZoneOffset.UTC);
+        jdbcTemplate.batchUpdate(UPSERT_UPDATED_COUNT, rows, rows.size(), (PreparedStatement ps, long[] row) -> setRow(ps, row, updatedAt));
+    }
+
+    private static void setRow(PreparedStatement ps, long[] row, LocalDateTime updatedAt) throws SQLException {
+        ps.setLong(1, row[0]);
+        ps.setLong(2, row[1]);
+        ps.setObject(3, updatedAt);
+    }
+}
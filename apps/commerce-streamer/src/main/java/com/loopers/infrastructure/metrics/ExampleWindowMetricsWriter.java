@@ -0,0 +1,51 @@
+package com.loopers.infrastructure.metrics;
+
+import com.loopers.support.window.WindowResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * 닫힌 윈도우의 집계 값을 example_window_metrics 에 기록한다.
+ * 한 행은 그 예시 key 의 파티션 소유자 하나가 윈도우의 첫 레코드부터 센 전체 값으로만 기록한다 ({@code ExampleWindowAggregator} 참고).
+ * 그래서 값을 더하지 않고 덮어쓰며, 체크포인트 복구나 파티션 이동 후 같은 윈도우를 다시 기록해도 결과가 같다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ExampleWindowMetricsWriter {
+    private static final String UPSERT_WINDOW = """
+        INSERT INTO example_window_metrics (window_name, example_id, window_start, window_end, updated_count, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?)
+        ON DUPLICATE KEY UPDATE updated_count = VALUES(updated_count), updated_at = VALUES(updated_at)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void write(String windowName, List<WindowResult> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+        LocalDateTime updatedAt = LocalDateTime.now(ZoneOffset.UTC);
+        jdbcTemplate.batchUpdate(UPSERT_WINDOW, results, results.size(), (PreparedStatement ps, WindowResult result) -> setRow(ps, windowName, result, updatedAt));
+    }
+
+    private static void setRow(PreparedStatement ps, String windowName, WindowResult result, LocalDateTime updatedAt) throws SQLException {
+        ps.setString(1, windowName);
+        ps.setLong(2, result.key());
+        ps.setObject(3, toUtc(result.windowStart()));
+        ps.setObject(4, toUtc(result.windowEnd()));
+        ps.setLong(5, result.value());
+        ps.setObject(6, updatedAt);
+    }
+
+    private static LocalDateTime toUtc(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+}
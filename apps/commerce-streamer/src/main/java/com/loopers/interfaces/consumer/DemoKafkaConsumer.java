@@ -1,6 +1,10 @@
 package com.loopers.interfaces.consumer;
 
 import com.loopers.confg.kafka.KafkaConfig;
+import com.loopers.confg.kafka.retry.RetryTopicBatchHandler;
+import com.loopers.infrastructure.event.EventDeduplicator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
@@ -8,9 +12,18 @@ import org.springframework.stereotype.Component;
 
 import java.util.List;
 
+@Slf4j
+@RequiredArgsConstructor
 @Component
 public class DemoKafkaConsumer {
+    private static final String CONSUMER_NAME = "demo-listener";
+
+    private final RetryTopicBatchHandler retryTopicBatchHandler;
+    private final EventDeduplicator eventDeduplicator;
+
     @KafkaListener(
+        id = CONSUMER_NAME,
+        idIsGroup = false,
         topics = {"${demo-kafka.test.topic-name}"},
         containerFactory = KafkaConfig.BATCH_LISTENER
     )
@@ -18,7 +31,31 @@ public class DemoKafkaConsumer {
         List<ConsumerRecord<Object,Object>> messages,
         Acknowledgment acknowledgment
     ){
-        System.out.println(messages);
-        acknowledgment.acknowledge();
+        List<ConsumerRecord<Object,Object>> unhandled = eventDeduplicator.filterUnhandled(CONSUMER_NAME, messages);
+        // 재시도 토픽으로 보낸 레코드는 처리된 것이 아니므로, 처리에 성공한 레코드만 기록한다.
+        List<ConsumerRecord<Object,Object>> handled = retryTopicBatchHandler.handle(unhandled, acknowledgment, this::handle);
+        eventDeduplicator.markHandled(CONSUMER_NAME, handled);
+    }
+
+    @KafkaListener(
+        id = CONSUMER_NAME + "-retry",
+        idIsGroup = false,
+        topics = {
+            "${demo-kafka.test.topic-name}.retry-1",
+            "${demo-kafka.test.topic-name}.retry-2",
+            "${demo-kafka.test.topic-name}.retry-3"
+        },
+        containerFactory = KafkaConfig.BATCH_LISTENER
+    )
+    public void demoRetryListener(
+        List<ConsumerRecord<Object,Object>> messages,
+        Acknowledgment acknowledgment
+    ){
+        retryTopicBatchHandler.handleRetries(messages, acknowledgment, this::handle);
+    }
+
+    private void handle(ConsumerRecord<Object,Object> record) {
+        log.debug("데모 메시지를 처리했습니다. (topic = {}, partition = {}, offset = {}, key = {})",
+            record.topic(), record.partition(), record.offset(), record.key());
     }
 }
@@ -0,0 +1,31 @@
+package com.loopers.interfaces.consumer;
+
+import com.loopers.application.metrics.ExampleMetricsAggregator;
+import com.loopers.confg.kafka.KafkaConfig;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@Component
+public class ExampleEventConsumer {
+    private final ExampleMetricsAggregator exampleMetricsAggregator;
+
+    @KafkaListener(
+        id = "example-event-listener",
+        idIsGroup = false,
+        topics = {"${example-kafka.event.topic-name}"},
+        containerFactory = KafkaConfig.BATCH_LISTENER
+    )
+    public void exampleEventListener(
+        List<ConsumerRecord<Object, Object>> messages,
+        Acknowledgment acknowledgment
+    ) {
+        exampleMetricsAggregator.aggregate(messages);
+        acknowledgment.acknowledge();
+    }
+}
@@ -0,0 +1,50 @@
+package com.loopers.interfaces.consumer;
+
+import com.loopers.application.metrics.ExampleWindowAggregator;
+import com.loopers.confg.kafka.KafkaConfig;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 윈도우 상태가 로컬 파일 하나를 공유하므로 별도 그룹에서 단일 스레드로 소비한다.
+ * 커밋할 offset 은 열린 윈도우에 따라 정해지므로 Acknowledgment 대신 집계기가 직접 커밋한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ExampleWindowConsumer implements ConsumerSeekAware {
+    private final ExampleWindowAggregator exampleWindowAggregator;
+
+    @KafkaListener(
+        id = "example-window-listener",
+        idIsGroup = false,
+        groupId = "example-window-aggregator",
+        concurrency = "1",
+        topics = {"${example-kafka.event.topic-name}"},
+        containerFactory = KafkaConfig.BATCH_LISTENER
+    )
+    public void exampleWindowListener(
+        List<ConsumerRecord<Object, Object>> messages,
+        Consumer<?, ?> consumer
+    ) {
+        exampleWindowAggregator.aggregate(messages, consumer);
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        exampleWindowAggregator.seekToCheckpoint(assignments, (partition, offset) -> callback.seek(partition.topic(), partition.partition(), offset));
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        exampleWindowAggregator.revoke(partitions);
+    }
+}
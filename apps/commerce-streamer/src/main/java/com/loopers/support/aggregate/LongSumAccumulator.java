@@ -0,0 +1,99 @@
+package com.loopers.support.aggregate;
+
+import java.util.Arrays;
+
+/**
+ * long 키별로 long 값을 더해 모으는 open addressing 해시 테이블.
+ * 배치 하나를 집계하는 용도로, 키/값을 박싱하지 않아 레코드 수만큼의 객체를 만들지 않는다. 스레드 안전하지 않다.
+ */
+public class LongSumAccumulator {
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private long[] sums;
+    private boolean[] used;
+    private int size;
+
+    public LongSumAccumulator(int expectedKeys) {
+        int capacity = Integer.highestOneBit(Math.max(2, (int) (expectedKeys / LOAD_FACTOR)) - 1) << 1;
+        this.keys = new long[capacity];
+        this.sums = new long[capacity];
+        this.used = new boolean[capacity];
+    }
+
+    public void add(long key, long delta) {
+        int index = indexOf(key, keys, used);
+        if (used[index]) {
+            sums[index] += delta;
+            return;
+        }
+        used[index] = true;
+        keys[index] = key;
+        sums[index] = delta;
+        if (++size > keys.length * LOAD_FACTOR) {
+            grow();
+        }
+    }
+
+    public long get(long key) {
+        int index = indexOf(key, keys, used);
+        return used[index] ? sums[index] : 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 키 오름차순으로 전달한다. 여러 컨슈머가 같은 행을 갱신할 때 항상 같은 순서로 잠그도록 하기 위함이다.
+     */
+    public void forEachSorted(Entry consumer) {
+        long[] sortedKeys = new long[size];
+        int i = 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (used[slot]) {
+                sortedKeys[i++] = keys[slot];
+            }
+        }
+        Arrays.sort(sortedKeys);
+        for (long key : sortedKeys) {
+            consumer.accept(key, get(key));
+        }
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        long[] oldSums = sums;
+        boolean[] oldUsed = used;
+        keys = new long[oldKeys.length << 1];
+        sums = new long[oldKeys.length << 1];
+        used = new boolean[oldKeys.length << 1];
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldUsed[slot]) {
+                int index = indexOf(oldKeys[slot], keys, used);
+                used[index] = true;
+                keys[index] = oldKeys[slot];
+                sums[index] = oldSums[slot];
+            }
+        }
+    }
+
+    private static int indexOf(long key, long[] keys, boolean[] used) {
+        int mask = keys.length - 1;
+        long hash = key * 0x9E3779B97F4A7C15L;
+        int index = (int) (hash ^ (hash >>> 32)) & mask;
+        while (used[index] && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    @FunctionalInterface
+    public interface Entry {
+        void accept(long key, long sum);
+    }
+}
@@ -0,0 +1,210 @@
+package com.loopers.support.window;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * (윈도우 시작 시각, 파티션, key) 별 long 합계를 memory-mapped 파일에 저장하는 open addressing 해시 테이블.
+ * 파티션은 호출자가 정한 작은 정수 ID 이며, 파티션을 다른 인스턴스에 넘길 때 그 파티션의 항목만 지우는 데 쓴다.
+ * 힙을 쓰지 않으며, 프로세스가 죽어도 쓴 내용은 페이지 캐시를 통해 파일에 남는다. 스레드 안전하지 않다.
+ * <pre>
+ * header : magic(4) capacity(4) size(4) reserved(4)
+ * slot   : windowStart(8) key(8) value(8) partition(4) reserved(4)   (windowStart == 0 이면 빈 슬롯)
+ * </pre>
+ */
+public class MappedWindowStore implements AutoCloseable {
+    private static final int MAGIC = 0x57494E44; // "WIND"
+    private static final int HEADER_BYTES = 16;
+    private static final int SLOT_BYTES = 32;
+    private static final int CAPACITY_OFFSET = 4;
+    private static final int SIZE_OFFSET = 8;
+    private static final double MAX_LOAD_FACTOR = 0.7;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final int mask;
+    private int size;
+
+    private MappedWindowStore(FileChannel channel, MappedByteBuffer buffer, int capacity, int size) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.size = size;
+    }
+
+    /**
+     * 파일이 같은 capacity 로 만들어진 저장소이면 그대로 열고, 아니면 비어 있는 저장소로 새로 만든다.
+     */
+    public static MappedWindowStore open(Path file, int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity 는 2 의 거듭제곱이어야 합니다.");
+        }
+        long fileSize = HEADER_BYTES + (long) capacity * SLOT_BYTES;
+        try {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            boolean reusable = channel.size() == fileSize;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+            if (reusable && buffer.getInt(0) == MAGIC && buffer.getInt(CAPACITY_OFFSET) == capacity) {
+                return new MappedWindowStore(channel, buffer, capacity, buffer.getInt(SIZE_OFFSET));
+            }
+            for (long position = 0; position < fileSize; position += Long.BYTES) {
+                buffer.putLong((int) position, 0L);
+            }
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(CAPACITY_OFFSET, capacity);
+            return new MappedWindowStore(channel, buffer, capacity, 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("윈도우 저장소를 열 수 없습니다. (file = " + file + ")", e);
+        }
+    }
+
+    public void add(long windowStart, int partition, long key, long delta) {
+        if (windowStart == 0) {
+            throw new IllegalArgumentException("windowStart 0 은 빈 슬롯 표시로 사용됩니다.");
+        }
+        int slot = find(windowStart, partition, key);
+        int position = position(slot);
+        if (buffer.getLong(position) == 0) {
+            if (size + 1 > capacity * MAX_LOAD_FACTOR) {
+                throw new IllegalStateException("윈도우 저장소가 가득 찼습니다. (capacity = " + capacity + ")");
+            }
+            buffer.putLong(position, windowStart);
+            buffer.putLong(position + 8, key);
+            buffer.putLong(position + 16, delta);
+            buffer.putInt(position + 24, partition);
+            buffer.putInt(SIZE_OFFSET, ++size);
+            return;
+        }
+        buffer.putLong(position + 16, buffer.getLong(position + 16) + delta);
+    }
+
+    public long get(long windowStart, int partition, long key) {
+        int position = position(find(windowStart, partition, key));
+        return buffer.getLong(position) == 0 ? 0 : buffer.getLong(position + 16);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void forEach(Entry consumer) {
+        for (int slot = 0; slot < capacity; slot++) {
+            int position = position(slot);
+            long windowStart = buffer.getLong(position);
+            if (windowStart != 0) {
+                consumer.accept(windowStart, buffer.getInt(position + 24), buffer.getLong(position + 8), buffer.getLong(position + 16));
+            }
+        }
+    }
+
+    /**
+     * 파티션의 항목을 모두 지우고 지운 수를 반환한다.
+     */
+    public int removePartition(int partition) {
+        List<long[]> entries = new ArrayList<>();
+        forEach((windowStart, entryPartition, key, value) -> {
+            if (entryPartition == partition) {
+                entries.add(new long[]{windowStart, key});
+            }
+        });
+        for (long[] entry : entries) {
+            remove(entry[0], partition, entry[1]);
+        }
+        return entries.size();
+    }
+
+    public void remove(long windowStart, int partition, long key) {
+        int slot = find(windowStart, partition, key);
+        if (buffer.getLong(position(slot)) == 0) {
+            return;
+        }
+        // linear probing 의 backward shift deletion : 뒤따르는 슬롯 중 자기 자리로 당겨올 수 있는 항목을 앞으로 옮긴다.
+        int hole = slot;
+        int next = slot;
+        while (true) {
+            next = (next + 1) & mask;
+            int nextPosition = position(next);
+            long nextWindowStart = buffer.getLong(nextPosition);
+            if (nextWindowStart == 0) {
+                break;
+            }
+            int home = home(nextWindowStart, buffer.getInt(nextPosition + 24), buffer.getLong(nextPosition + 8));
+            boolean staysInPlace = hole <= next ? (hole < home && home <= next) : (hole < home || home <= next);
+            if (staysInPlace) {
+                continue;
+            }
+            copySlot(next, hole);
+            hole = next;
+        }
+        int holePosition = position(hole);
+        buffer.putLong(holePosition, 0L);
+        buffer.putLong(holePosition + 8, 0L);
+        buffer.putLong(holePosition + 16, 0L);
+        buffer.putLong(holePosition + 24, 0L);
+        buffer.putInt(SIZE_OFFSET, --size);
+    }
+
+    /**
+     * 지금까지의 쓰기를 디스크에 반영한다.
+     */
+    public void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() {
+        force();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int find(long windowStart, int partition, long key) {
+        int slot = home(windowStart, partition, key);
+        while (true) {
+            int position = position(slot);
+            long storedWindowStart = buffer.getLong(position);
+            if (storedWindowStart == 0) {
+                return slot;
+            }
+            if (storedWindowStart == windowStart && buffer.getLong(position + 8) == key && buffer.getInt(position + 24) == partition) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private int home(long windowStart, int partition, long key) {
+        long hash = (windowStart * 0x9E3779B97F4A7C15L) ^ (key * 0xC2B2AE3D27D4EB4FL) ^ (partition * 0x165667B19E3779F9L);
+        hash ^= hash >>> 31;
+        return (int) hash & mask;
+    }
+
+    private void copySlot(int from, int to) {
+        int fromPosition = position(from);
+        int toPosition = position(to);
+        buffer.putLong(toPosition, buffer.getLong(fromPosition));
+        buffer.putLong(toPosition + 8, buffer.getLong(fromPosition + 8));
+        buffer.putLong(toPosition + 16, buffer.getLong(fromPosition + 16));
+        buffer.putLong(toPosition + 24, buffer.getLong(fromPosition + 24));
+    }
+
+    private static int position(int slot) {
+        return HEADER_BYTES + slot * SLOT_BYTES;
+    }
+
+    @FunctionalInterface
+    public interface Entry {
+        void accept(long windowStart, int partition, long key, long value);
+    }
+}
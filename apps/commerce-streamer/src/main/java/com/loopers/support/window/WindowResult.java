@@ -0,0 +1,6 @@
+package com.loopers.support.window;
+
+/**
+ * 닫힌 윈도우 하나의 key 별 집계 값.
+ */
+public record WindowResult(long windowStart, long windowEnd, long key, long value) {}
@@ -0,0 +1,24 @@
+package com.loopers.support.window;
+
+import java.time.Duration;
+
+/**
+ * 윈도우 구성. advance 가 size 와 같으면 tumbling, 작으면 hopping 윈도우이다.
+ *
+ * @param name  저장 파일과 결과를 구분하는 이름
+ * @param grace 이벤트 시각 기준 최대값 (watermark) 이 윈도우 종료 후 이만큼 지나야 윈도우를 닫는다. 그 이후에 도착한 이벤트는 버린다.
+ */
+public record WindowSpec(String name, Duration size, Duration advance, Duration grace) {
+    public WindowSpec {
+        if (advance.isZero() || advance.isNegative() || advance.compareTo(size) > 0) {
+            throw new IllegalArgumentException("advance 는 0 보다 크고 size 이하여야 합니다.");
+        }
+        if (size.toMillis() % advance.toMillis() != 0) {
+            throw new IllegalArgumentException("size 는 advance 의 배수여야 합니다.");
+        }
+    }
+
+    public static WindowSpec tumbling(String name, Duration size, Duration grace) {
+        return new WindowSpec(name, size, size, grace);
+    }
+}
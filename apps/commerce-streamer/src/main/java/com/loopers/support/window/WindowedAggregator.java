@@ -0,0 +1,446 @@
+package com.loopers.support.window;
+
+import org.apache.kafka.common.TopicPartition;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 이벤트 시각 기준 tumbling / hopping 윈도우 집계기. 상태는 {@link MappedWindowStore} 에 파티션별로 나누어 두고,
+ * 주기적으로 저장소 스냅샷과 파티션별 진행 상태 (반영 offset, watermark, 닫은 시각) 를 하나의 체크포인트 파일로 원자적으로 기록한다.
+ * <p>
+ * watermark 는 파티션마다 따로 두고, 윈도우는 활성 파티션 watermark 중 가장 늦은 값 기준으로 닫는다.
+ * 그래서 한 파티션이 밀려 있어도 (예: 체크포인트부터 다시 읽는 중) 다른 파티션이 앞서 간다는 이유로 그 파티션의 이벤트를 버리지 않는다.
+ * 끝까지 읽어 더 읽을 레코드가 없는 파티션 ({@link #markCaughtUp(TopicPartition)}) 은 다음 레코드가 올 때까지 이 계산에서 뺀다.
+ * <p>
+ * 파티션 소유권은 컨슈머 그룹의 할당을 따른다.
+ * <ul>
+ *   <li>재시작 시 체크포인트의 파티션 상태는 다시 할당받고 ({@link #resume(TopicPartition, long)}) 커밋 위치보다 앞서 있을 때만 이어 쓴다.</li>
+ *   <li>할당 해제된 파티션은 {@link #revoke(Collection)} 후 {@link #discardInactive()} 로 저장소 항목까지 지운다. 내보내지 않은 값은 새 소유자가 다시 센다.</li>
+ *   <li>새 소유자가 열린 윈도우를 처음부터 다시 셀 수 있도록, 커밋할 offset ({@link #commitOffset(TopicPartition)}) 은 열린 윈도우에 반영된 가장 앞선 offset 이다.</li>
+ *   <li>이전 소유자가 이미 닫은 윈도우를 다시 내보내지 않도록, 닫은 시각 ({@link #closedUpTo(TopicPartition)}) 을 커밋과 함께 넘기고 {@link #activate(TopicPartition, long)} 로 이어받는다.</li>
+ * </ul>
+ * {@link #advance(TopicPartition, long, long)} 가 반영 offset 보다 앞선 레코드를 걸러내므로, 실패로 재전달된 배치도 두 번 더해지지 않는다.
+ * 하나의 컨슈머 스레드에서만 사용해야 한다.
+ */
+public class WindowedAggregator implements AutoCloseable {
+    private final WindowSpec spec;
+    private final long sizeMillis;
+    private final long advanceMillis;
+    private final long graceMillis;
+    private final Path storeFile;
+    private final Path checkpointFile;
+    private final long checkpointIntervalNanos;
+    private final LongSupplier nanoClock;
+    private final MappedWindowStore store;
+    private final Map<TopicPartition, PartitionState> partitions;
+    private long lastCheckpointNanos;
+    private long droppedLate;
+
+    public WindowedAggregator(WindowSpec spec, Path directory, int capacity, Duration checkpointInterval, LongSupplier nanoClock) {
+        this.spec = spec;
+        this.sizeMillis = spec.size().toMillis();
+        this.advanceMillis = spec.advance().toMillis();
+        this.graceMillis = spec.grace().toMillis();
+        this.storeFile = directory.resolve(spec.name() + ".store");
+        this.checkpointFile = directory.resolve(spec.name() + ".checkpoint");
+        this.checkpointIntervalNanos = checkpointInterval.toNanos();
+        this.nanoClock = nanoClock;
+        try {
+            Files.createDirectories(directory);
+            this.partitions = restore();
+        } catch (IOException e) {
+            throw new UncheckedIOException("윈도우 체크포인트를 복구할 수 없습니다. (" + spec.name() + ")", e);
+        }
+        this.store = MappedWindowStore.open(storeFile, capacity);
+        this.lastCheckpointNanos = nanoClock.getAsLong();
+    }
+
+    public WindowSpec spec() {
+        return spec;
+    }
+
+    /**
+     * 체크포인트 기준으로 이 파티션에서 다음에 읽어야 할 offset. 상태가 없거나 아직 레코드를 반영하지 않은 파티션이면 null.
+     */
+    public Long appliedOffset(TopicPartition partition) {
+        PartitionState state = partitions.get(partition);
+        return state == null || state.nextOffset < 0 ? null : state.nextOffset;
+    }
+
+    /**
+     * 할당받은 파티션의 체크포인트 상태가 커밋 위치보다 앞서 있으면 그대로 이어 쓰고, 다시 읽기 시작할 offset 을 반환한다.
+     * 상태가 없거나 커밋 위치보다 뒤처져 있으면 (그 사이 다른 인스턴스가 처리함) 상태를 버리고 null 을 반환한다.
+     */
+    public Long resume(TopicPartition partition, long committedPosition) {
+        PartitionState state = partitions.get(partition);
+        if (state != null && state.nextOffset >= committedPosition) {
+            state.active = true;
+            return state.nextOffset;
+        }
+        drop(partition);
+        return null;
+    }
+
+    /**
+     * 이어받을 상태가 없는 파티션을 새로 활성화한다. closedUpTo 는 이전 소유자가 커밋과 함께 남긴 닫은 시각이며, 없으면 0 이다.
+     */
+    public void activate(TopicPartition partition, long closedUpTo) {
+        drop(partition);
+        PartitionState state = new PartitionState(nextPartitionId());
+        state.closedUpTo = closedUpTo;
+        state.watermark = closedUpTo + graceMillis;
+        state.active = true;
+        partitions.put(partition, state);
+    }
+
+    public boolean isActive(TopicPartition partition) {
+        PartitionState state = partitions.get(partition);
+        return state != null && state.active;
+    }
+
+    public Set<TopicPartition> activePartitions() {
+        Set<TopicPartition> active = new HashSet<>();
+        partitions.forEach((partition, state) -> {
+            if (state.active) {
+                active.add(partition);
+            }
+        });
+        return active;
+    }
+
+    /**
+     * 할당 해제된 파티션을 비활성으로 표시한다. 같은 파티션을 곧바로 다시 할당받으면 {@link #resume(TopicPartition, long)} 로 이어 쓴다.
+     */
+    public void revoke(Collection<TopicPartition> revoked) {
+        for (TopicPartition partition : revoked) {
+            PartitionState state = partitions.get(partition);
+            if (state != null) {
+                state.active = false;
+            }
+        }
+    }
+
+    /**
+     * 비활성 파티션 (할당 해제되었거나, 체크포인트에만 있고 할당받지 못한 파티션) 의 상태와 저장소 항목을 지운다.
+     */
+    public void discardInactive() {
+        List<TopicPartition> inactive = new ArrayList<>();
+        partitions.forEach((partition, state) -> {
+            if (!state.active) {
+                inactive.add(partition);
+            }
+        });
+        inactive.forEach(this::drop);
+    }
+
+    /**
+     * 이 offset 의 레코드를 아직 반영하지 않았으면 반영한 것으로 표시하고, 파티션 watermark 를 레코드 시각까지 올린 뒤 true 를 반환한다.
+     * 집계 대상이 아닌 레코드도 호출해 두어야 반영 offset 과 watermark 가 앞으로 나아간다.
+     */
+    public boolean advance(TopicPartition partition, long offset, long timestamp) {
+        PartitionState state = activeState(partition);
+        if (state.nextOffset >= 0 && offset < state.nextOffset) {
+            return false;
+        }
+        state.nextOffset = offset + 1;
+        state.caughtUp = false;
+        if (timestamp > state.watermark) {
+            state.watermark = timestamp;
+        }
+        return true;
+    }
+
+    /**
+     * 이벤트 시각이 속한 모든 윈도우에 값을 더한다. 이 파티션에서 이미 닫은 윈도우에만 속하는 늦은 이벤트이면 버리고 false 를 반환한다.
+     */
+    public boolean add(TopicPartition partition, long offset, long timestamp, long key, long delta) {
+        PartitionState state = activeState(partition);
+        boolean added = false;
+        for (long windowStart = timestamp - Math.floorMod(timestamp, advanceMillis); windowStart > timestamp - sizeMillis; windowStart -= advanceMillis) {
+            if (windowStart + sizeMillis <= state.closedUpTo) {
+                break;
+            }
+            store.add(windowStart, state.id, key, delta);
+            state.firstOffsets.putIfAbsent(windowStart, offset);
+            added = true;
+        }
+        if (!added) {
+            droppedLate++;
+        }
+        return added;
+    }
+
+    /**
+     * 파티션을 끝까지 읽었음을 표시한다. 다음 레코드를 반영할 때까지 윈도우를 닫는 기준 watermark 계산에서 빠진다.
+     */
+    public void markCaughtUp(TopicPartition partition) {
+        PartitionState state = partitions.get(partition);
+        if (state != null) {
+            state.caughtUp = true;
+        }
+    }
+
+    /**
+     * 닫을 수 있는 윈도우들을 모아 한 번에 sink 로 내보낸다.
+     * 기준 시각은 읽을 레코드가 남은 활성 파티션의 watermark 중 최소값 (모두 끝까지 읽었으면 최대값) 에서 grace 를 뺀 값이다.
+     * sink 가 성공한 뒤에만 저장소에서 지우므로, sink 가 실패하면 다음 호출에서 같은 결과를 다시 내보낸다.
+     * 체크포인트 이후에 내보낸 결과는 복구 후 다시 내보내질 수 있으므로 sink 는 멱등이어야 한다.
+     */
+    public int closeWindows(Consumer<List<WindowResult>> sink) {
+        long closeBefore = closeBefore();
+        Map<Integer, PartitionState> closing = new HashMap<>();
+        partitions.values().forEach(state -> {
+            if (state.active && closeBefore > state.closedUpTo) {
+                closing.put(state.id, state);
+            }
+        });
+        if (closing.isEmpty()) {
+            return 0;
+        }
+        List<WindowResult> closed = new ArrayList<>();
+        List<Integer> closedPartitions = new ArrayList<>();
+        store.forEach((windowStart, partition, key, value) -> {
+            long windowEnd = windowStart + sizeMillis;
+            if (windowEnd <= closeBefore && closing.containsKey(partition)) {
+                closed.add(new WindowResult(windowStart, windowEnd, key, value));
+                closedPartitions.add(partition);
+            }
+        });
+        if (!closed.isEmpty()) {
+            sink.accept(closed);
+            for (int i = 0; i < closed.size(); i++) {
+                WindowResult result = closed.get(i);
+                store.remove(result.windowStart(), closedPartitions.get(i), result.key());
+            }
+        }
+        for (PartitionState state : closing.values()) {
+            state.closedUpTo = closeBefore;
+            state.firstOffsets.headMap(closeBefore - sizeMillis, true).clear();
+        }
+        return closed.size();
+    }
+
+    /**
+     * 이 파티션에서 커밋해도 되는 offset. 새 소유자가 이 위치부터 읽으면 열린 윈도우를 처음부터 다시 셀 수 있다.
+     * 아직 레코드를 반영하지 않은 파티션이면 null.
+     */
+    public Long commitOffset(TopicPartition partition) {
+        PartitionState state = partitions.get(partition);
+        if (state == null || !state.active || state.nextOffset < 0) {
+            return null;
+        }
+        long earliest = state.nextOffset;
+        for (long offset : state.firstOffsets.values()) {
+            earliest = Math.min(earliest, offset);
+        }
+        return earliest;
+    }
+
+    /**
+     * 이 파티션에서 이 시각 이전에 끝나는 윈도우는 이미 내보냈다.
+     */
+    public long closedUpTo(TopicPartition partition) {
+        PartitionState state = partitions.get(partition);
+        return state == null ? 0 : state.closedUpTo;
+    }
+
+    /**
+     * 마지막 체크포인트로부터 체크포인트 주기가 지났으면 체크포인트를 기록한다.
+     */
+    public boolean checkpointIfDue() {
+        if (nanoClock.getAsLong() - lastCheckpointNanos < checkpointIntervalNanos) {
+            return false;
+        }
+        checkpoint();
+        return true;
+    }
+
+    public void checkpoint() {
+        Path temp = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+        store.force();
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             FileChannel in = FileChannel.open(storeFile, StandardOpenOption.READ)) {
+            long snapshotBytes = in.size();
+            transfer(in, out, snapshotBytes);
+            writeFully(out, encodePartitions(snapshotBytes));
+            out.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("윈도우 체크포인트를 기록할 수 없습니다. (" + spec.name() + ")", e);
+        }
+        try {
+            Files.move(temp, checkpointFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("윈도우 체크포인트를 기록할 수 없습니다. (" + spec.name() + ")", e);
+        }
+        lastCheckpointNanos = nanoClock.getAsLong();
+    }
+
+    public int size() {
+        return store.size();
+    }
+
+    public long droppedLate() {
+        return droppedLate;
+    }
+
+    @Override
+    public void close() {
+        store.close();
+    }
+
+    private long closeBefore() {
+        long pending = Long.MAX_VALUE;
+        long caughtUp = Long.MIN_VALUE;
+        for (PartitionState state : partitions.values()) {
+            if (!state.active) {
+                continue;
+            }
+            if (state.caughtUp) {
+                caughtUp = Math.max(caughtUp, state.watermark);
+            } else {
+                pending = Math.min(pending, state.watermark);
+            }
+        }
+        long watermark = pending != Long.MAX_VALUE ? pending : caughtUp;
+        return watermark == Long.MIN_VALUE ? Long.MIN_VALUE : watermark - graceMillis;
+    }
+
+    private PartitionState activeState(TopicPartition partition) {
+        PartitionState state = partitions.get(partition);
+        if (state == null || !state.active) {
+            throw new IllegalStateException("활성화되지 않은 파티션입니다. (" + spec.name() + ", " + partition + ")");
+        }
+        return state;
+    }
+
+    private void drop(TopicPartition partition) {
+        PartitionState state = partitions.remove(partition);
+        if (state != null) {
+            store.removePartition(state.id);
+        }
+    }
+
+    private int nextPartitionId() {
+        Set<Integer> used = new HashSet<>();
+        partitions.values().forEach(state -> used.add(state.id));
+        int id = 0;
+        while (used.contains(id)) {
+            id++;
+        }
+        return id;
+    }
+
+    /**
+     * 체크포인트가 있으면 스냅샷으로 저장소 파일을 덮어쓰고 파티션 상태를 비활성으로 읽는다.
+     * 없으면 체크포인트 이후의 쓰기가 섞여 있을 수 있는 저장소 파일을 버리고 빈 상태로 시작한다.
+     */
+    private Map<TopicPartition, PartitionState> restore() throws IOException {
+        Map<TopicPartition, PartitionState> restored = new LinkedHashMap<>();
+        if (!Files.exists(checkpointFile)) {
+            Files.deleteIfExists(storeFile);
+            return restored;
+        }
+        try (FileChannel in = FileChannel.open(checkpointFile, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(storeFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer footer = ByteBuffer.allocate(Long.BYTES);
+            in.read(footer, in.size() - Long.BYTES);
+            long snapshotBytes = footer.flip().getLong();
+            transfer(in, out, snapshotBytes);
+            out.force(true);
+
+            ByteBuffer section = ByteBuffer.allocate((int) (in.size() - Long.BYTES - snapshotBytes));
+            in.read(section, snapshotBytes);
+            section.flip();
+            int count = section.getInt();
+            for (int i = 0; i < count; i++) {
+                byte[] topic = new byte[section.getShort()];
+                section.get(topic);
+                TopicPartition partition = new TopicPartition(new String(topic, StandardCharsets.UTF_8), section.getInt());
+                PartitionState state = new PartitionState(section.getInt());
+                state.nextOffset = section.getLong();
+                state.watermark = section.getLong();
+                state.closedUpTo = section.getLong();
+                int windows = section.getInt();
+                for (int j = 0; j < windows; j++) {
+                    state.firstOffsets.put(section.getLong(), section.getLong());
+                }
+                restored.put(partition, state);
+            }
+        }
+        return restored;
+    }
+
+    /**
+     * count(4) { topicLength(2) topic partition(4) id(4) nextOffset(8) watermark(8) closedUpTo(8) windows(4) { windowStart(8) firstOffset(8) } } snapshotBytes(8)
+     */
+    private ByteBuffer encodePartitions(long snapshotBytes) {
+        List<byte[]> topics = new ArrayList<>(partitions.size());
+        int length = Integer.BYTES + Long.BYTES;
+        for (Map.Entry<TopicPartition, PartitionState> entry : partitions.entrySet()) {
+            byte[] topic = entry.getKey().topic().getBytes(StandardCharsets.UTF_8);
+            topics.add(topic);
+            length += Short.BYTES + topic.length + 2 * Integer.BYTES + 3 * Long.BYTES
+                + Integer.BYTES + entry.getValue().firstOffsets.size() * 2 * Long.BYTES;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.putInt(partitions.size());
+        int index = 0;
+        for (Map.Entry<TopicPartition, PartitionState> entry : partitions.entrySet()) {
+            byte[] topic = topics.get(index++);
+            PartitionState state = entry.getValue();
+            buffer.putShort((short) topic.length).put(topic);
+            buffer.putInt(entry.getKey().partition()).putInt(state.id);
+            buffer.putLong(state.nextOffset).putLong(state.watermark).putLong(state.closedUpTo);
+            buffer.putInt(state.firstOffsets.size());
+            state.firstOffsets.forEach((windowStart, offset) -> buffer.putLong(windowStart).putLong(offset));
+        }
+        return buffer.putLong(snapshotBytes).flip();
+    }
+
+    private static void transfer(FileChannel in, FileChannel out, long bytes) throws IOException {
+        long position = 0;
+        while (position < bytes) {
+            position += in.transferTo(position, bytes - position, out);
+        }
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    private static final class PartitionState {
+        private final int id;
+        private final TreeMap<Long, Long> firstOffsets = new TreeMap<>(); // 열린 윈도우 시작 시각 → 처음 반영한 offset
+        private long nextOffset = -1;
+        private long watermark;
+        private long closedUpTo;
+        private boolean active;
+        private boolean caughtUp;
+
+        private PartitionState(int id) {
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.loopers.application.metrics;
+
+import com.loopers.confg.kafka.outbox.OutboxRelay;
+import com.loopers.infrastructure.event.EventDeduplicator;
+import com.loopers.utils.DatabaseCleanUp;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest(properties = "outbox.relay.enabled=false")
+class ExampleMetricsAggregatorIntegrationTest {
+    private static final String TOPIC = "example.event-v1";
+
+    @Autowired
+    private ExampleMetricsAggregator exampleMetricsAggregator;
+
+    @Autowired
+    private EventDeduplicator eventDeduplicator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("이벤트를 예시별로 합산하여 반영하고, 처리 이력을 함께 기록한다.")
+    @Test
+    void addsUpdatedCountsAndRecordsHandledEvents() {
+        // act
+        exampleMetricsAggregator.aggregate(List.of(
+            updated(1L, 10L), updated(2L, 10L), updated(3L, 20L)
+        ));
+
+        // assert
+        assertAll(
+            () -> assertThat(updatedCountOf(10L)).isEqualTo(2),
+            () -> assertThat(updatedCountOf(20L)).isEqualTo(1),
+            () -> assertThat(handledEventIds()).containsExactly(1L, 2L, 3L)
+        );
+    }
+
+    @DisplayName("이미 처리한 이벤트가 다시 전달되면, 새 이벤트만 더한다.")
+    @Test
+    void addsOnlyNewEvents_whenBatchIsRedelivered() {
+        // arrange
+        exampleMetricsAggregator.aggregate(List.of(updated(11L, 10L), updated(12L, 20L)));
+
+        // act
+        exampleMetricsAggregator.aggregate(List.of(
+            updated(11L, 10L), updated(12L, 20L), updated(13L, 20L)
+        ));
+
+        // assert
+        assertAll(
+            () -> assertThat(updatedCountOf(10L)).isEqualTo(1),
+            () -> assertThat(updatedCountOf(20L)).isEqualTo(2),
+            () -> assertThat(handledEventIds()).containsExactly(11L, 12L, 13L)
+        );
+    }
+
+    @DisplayName("커밋된 이벤트는 Bloom filter 에 반영되어, 다시 전달되면 그 이벤트만 저장소에서 확인한다.")
+    @Test
+    void looksUpOnlyCommittedEvents_afterBloomFilterIsUpdated() throws InterruptedException {
+        // arrange
+        awaitSynced();
+        exampleMetricsAggregator.aggregate(List.of(updated(21L, 10L), updated(22L, 10L)));
+        double lookupsBefore = storeLookups();
+
+        // act
+        exampleMetricsAggregator.aggregate(List.of(
+            updated(21L, 10L), updated(22L, 10L), updated(23L, 10L)
+        ));
+
+        // assert
+        assertAll(
+            () -> assertThat(storeLookups() - lookupsBefore).isEqualTo(2),
+            () -> assertThat(updatedCountOf(10L)).isEqualTo(3)
+        );
+    }
+
+    private void awaitSynced() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!eventDeduplicator.isSynced()) {
+            if (System.nanoTime() > deadline) {
+                fail("처리 이력을 Bloom filter 에 반영하지 못했습니다.");
+            }
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+
+    private long updatedCountOf(Long exampleId) {
+        return jdbcTemplate.queryForObject("SELECT updated_count FROM example_metrics WHERE example_id = ?", Long.class, exampleId);
+    }
+
+    private List<Long> handledEventIds() {
+        return jdbcTemplate.queryForList(
+            "SELECT event_id FROM event_handled WHERE consumer = ? ORDER BY event_id", Long.class, ExampleMetricsAggregator.CONSUMER_NAME
+        );
+    }
+
+    private double storeLookups() {
+        return meterRegistry.get("event.dedup.store.lookups").counter().count();
+    }
+
+    private static ConsumerRecord<Object, Object> updated(Long eventId, Long exampleId) {
+        ConsumerRecord<Object, Object> record = new ConsumerRecord<>(TOPIC, 0, eventId, String.valueOf(exampleId), "{}");
+        record.headers().add(OutboxRelay.HEADER_EVENT_ID, String.valueOf(eventId).getBytes(StandardCharsets.UTF_8));
+        record.headers().add(OutboxRelay.HEADER_EVENT_TYPE, ExampleMetricsAggregator.EXAMPLE_UPDATED.getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+}
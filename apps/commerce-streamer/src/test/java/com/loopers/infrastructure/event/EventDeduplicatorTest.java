@@ -0,0 +1,157 @@
+package com.loopers.infrastructure.event;
+
+import com.loopers.confg.kafka.outbox.OutboxRelay;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventDeduplicatorTest {
+    private static final String CONSUMER = "example-metrics";
+    private static final Duration RETENTION = Duration.ofDays(7);
+
+    private final EventHandledStore eventHandledStore = mock(EventHandledStore.class);
+    private final EventDeduplicator deduplicator = new EventDeduplicator(
+        eventHandledStore, new SimpleMeterRegistry(), 1_000, 0.01, RETENTION
+    );
+
+    @AfterEach
+    void tearDown() {
+        deduplicator.close();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("처리 이력을 읽기 전에는, 모든 이벤트를 저장소에서 확인한다.")
+    @Test
+    void looksUpEveryEvent_beforeSync() {
+        // arrange
+        when(eventHandledStore.findHandled(eq(CONSUMER), anyCollection())).thenReturn(Set.of(2L));
+
+        // act
+        List<ConsumerRecord<Object, Object>> unhandled = deduplicator.filterUnhandled(CONSUMER, List.of(record(1L), record(2L), record(1L)));
+
+        // assert
+        assertAll(
+            () -> assertThat(unhandled).extracting(EventDeduplicatorTest::eventIdOf).containsExactly(1L),
+            () -> verify(eventHandledStore).findHandled(CONSUMER, Set.of(1L, 2L))
+        );
+    }
+
+    @DisplayName("처리 이력을 읽은 뒤에는, Bloom filter 에 있는 이벤트만 저장소에서 확인한다.")
+    @Test
+    void looksUpOnlyBloomHits_afterSync() {
+        // arrange
+        doAnswer(invocation -> {
+            invocation.<BiConsumer<String, Long>>getArgument(1).accept(CONSUMER, 2L);
+            return null;
+        }).when(eventHandledStore).forEachHandledSince(any(), any());
+        when(eventHandledStore.findHandled(eq(CONSUMER), anyCollection())).thenReturn(Set.of(2L));
+        deduplicator.sync();
+
+        // act
+        List<ConsumerRecord<Object, Object>> unhandled = deduplicator.filterUnhandled(CONSUMER, List.of(record(1L), record(2L)));
+
+        // assert
+        assertAll(
+            () -> assertThat(unhandled).extracting(EventDeduplicatorTest::eventIdOf).containsExactly(1L),
+            () -> verify(eventHandledStore).findHandled(CONSUMER, Set.of(2L))
+        );
+    }
+
+    @DisplayName("처음에는 보존 기간 내 기록을, 그 뒤에는 마지막으로 읽은 시각 이후의 기록만 읽는다.")
+    @Test
+    void readsOnlyNewHistory_afterFirstSync() {
+        // arrange
+        ZonedDateTime before = ZonedDateTime.now();
+        ArgumentCaptor<ZonedDateTime> since = ArgumentCaptor.forClass(ZonedDateTime.class);
+
+        // act
+        deduplicator.sync();
+        deduplicator.sync();
+
+        // assert
+        verify(eventHandledStore, times(2)).forEachHandledSince(since.capture(), any());
+        assertAll(
+            () -> assertThat(since.getAllValues().get(0)).isBefore(before.minus(RETENTION).plusSeconds(1)),
+            () -> assertThat(since.getAllValues().get(1)).isAfter(before.minus(EventDeduplicator.SYNC_OVERLAP).minusSeconds(1))
+        );
+    }
+
+    @DisplayName("파티션 할당 콜백은 저장소를 읽지 않고 바로 반환하며, 읽기가 끝날 때까지 모든 이벤트를 저장소에서 확인한다.")
+    @Test
+    void syncsOffPollThread_whenPartitionsAreAssigned() {
+        // arrange
+        deduplicator.sync();
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> release.await(1, TimeUnit.SECONDS)).when(eventHandledStore).forEachHandledSince(any(), any());
+        when(eventHandledStore.findHandled(eq(CONSUMER), anyCollection())).thenReturn(Set.of());
+
+        // act
+        deduplicator.onPartitionsAssigned(null, List.of(new TopicPartition("example.event-v1", 0)));
+        deduplicator.filterUnhandled(CONSUMER, List.of(record(1L)));
+        release.countDown();
+
+        // assert
+        verify(eventHandledStore, timeout(1_000).times(2)).forEachHandledSince(any(), any());
+        verify(eventHandledStore).findHandled(CONSUMER, Set.of(1L));
+    }
+
+    @DisplayName("트랜잭션 안에서 기록한 이벤트는, 커밋된 뒤에야 Bloom filter 에 반영된다.")
+    @Test
+    void remembersEvent_afterCommit() {
+        // arrange
+        deduplicator.sync();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // act
+        deduplicator.markHandled(CONSUMER, List.of(record(1L)));
+        deduplicator.filterUnhandled(CONSUMER, List.of(record(1L)));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        deduplicator.filterUnhandled(CONSUMER, List.of(record(1L)));
+
+        // assert
+        assertAll(
+            () -> verify(eventHandledStore).markHandled(CONSUMER, Set.of(1L)),
+            () -> verify(eventHandledStore).findHandled(CONSUMER, Set.of()),
+            () -> verify(eventHandledStore).findHandled(CONSUMER, Set.of(1L))
+        );
+    }
+
+    private static ConsumerRecord<Object, Object> record(long eventId) {
+        ConsumerRecord<Object, Object> record = new ConsumerRecord<>("example.event-v1", 0, eventId, "key", "{}");
+        record.headers().add(OutboxRelay.HEADER_EVENT_ID, String.valueOf(eventId).getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+
+    private static Long eventIdOf(ConsumerRecord<?, ?> record) {
+        return Long.parseLong(new String(record.headers().lastHeader(OutboxRelay.HEADER_EVENT_ID).value(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,66 @@
+package com.loopers.infrastructure.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.confg.kafka.codec.BinaryEnvelope;
+import com.loopers.confg.kafka.codec.EventCodecRegistry;
+import com.loopers.confg.kafka.codec.EventContentType;
+import com.loopers.confg.kafka.codec.EventPayloadReader;
+import com.loopers.confg.kafka.codec.NegotiatingEventSerializer;
+import com.loopers.domain.example.ExampleEvent;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ExampleUpdatedCodecTest {
+    private static final String TOPIC = "example.event-v1";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final EventCodecRegistry registry = new EventCodecRegistry(List.of(new ExampleUpdatedCodec()));
+    private final NegotiatingEventSerializer serializer = new NegotiatingEventSerializer(
+        registry, new JsonSerializer<>(objectMapper).noTypeInfo(), Set.of(TOPIC)
+    );
+    private final EventPayloadReader reader = new EventPayloadReader(registry, objectMapper);
+
+    @DisplayName("바이너리로 보낸 예시 수정 이벤트는, 본문을 읽지 않고 예시 ID 를 알 수 있고 같은 이벤트로 읽힌다.")
+    @Test
+    void roundTripsExampleUpdated() {
+        // arrange
+        ExampleEvent.Updated event = new ExampleEvent.Updated(390_000_000_000_000_001L, "수정된 설명");
+        Headers headers = new RecordHeaders();
+
+        // act
+        byte[] bytes = serializer.serialize(TOPIC, headers, event);
+
+        // assert
+        assertAll(
+            () -> assertThat(EventContentType.of(headers)).isEqualTo(EventContentType.BINARY),
+            () -> assertThat(BinaryEnvelope.routingKey(bytes)).isEqualTo(event.exampleId()),
+            () -> assertThat(reader.read(record(bytes, headers), ExampleEvent.Updated.class)).isEqualTo(event)
+        );
+    }
+
+    @DisplayName("outbox 의 event_type 으로 예시 수정 이벤트 타입을 찾는다.")
+    @Test
+    void resolvesTypeByEventType() {
+        // act
+        Class<?> type = registry.typeOf(ExampleEvent.Updated.TYPE);
+
+        // assert
+        assertThat(type).isEqualTo(ExampleEvent.Updated.class);
+    }
+
+    private static ConsumerRecord<String, byte[]> record(byte[] value, Headers headers) {
+        return new ConsumerRecord<>(TOPIC, 0, 0L, 0L, TimestampType.CREATE_TIME, 0, value.length, null, value, headers, Optional.empty());
+    }
+}
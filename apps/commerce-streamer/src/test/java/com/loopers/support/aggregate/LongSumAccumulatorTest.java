@@ -0,0 +1,60 @@
+package com.loopers.support.aggregate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class LongSumAccumulatorTest {
+
+    @DisplayName("같은 키로 더한 값은 하나로 합산된다.")
+    @Test
+    void sumsDeltasPerKey() {
+        // arrange
+        LongSumAccumulator accumulator = new LongSumAccumulator(4);
+
+        // act
+        accumulator.add(1L, 1);
+        accumulator.add(2L, 5);
+        accumulator.add(1L, 2);
+
+        // assert
+        assertAll(
+            () -> assertThat(accumulator.size()).isEqualTo(2),
+            () -> assertThat(accumulator.get(1L)).isEqualTo(3),
+            () -> assertThat(accumulator.get(2L)).isEqualTo(5),
+            () -> assertThat(accumulator.get(3L)).isZero()
+        );
+    }
+
+    @DisplayName("예상보다 많은 키가 들어와도, 합계를 잃지 않고 키 오름차순으로 전달한다.")
+    @Test
+    void growsAndIteratesInKeyOrder() {
+        // arrange
+        LongSumAccumulator accumulator = new LongSumAccumulator(1);
+        for (long key = 1_000; key > 0; key--) {
+            accumulator.add(key, key);
+            accumulator.add(key, 1);
+        }
+
+        // act
+        List<Long> keys = new ArrayList<>();
+        List<Long> sums = new ArrayList<>();
+        accumulator.forEachSorted((key, sum) -> {
+            keys.add(key);
+            sums.add(sum);
+        });
+
+        // assert
+        assertAll(
+            () -> assertThat(keys).hasSize(1_000).isSorted(),
+            () -> assertThat(keys.get(0)).isEqualTo(1L),
+            () -> assertThat(sums.get(0)).isEqualTo(2L),
+            () -> assertThat(sums.get(999)).isEqualTo(1_001L)
+        );
+    }
+}
@@ -0,0 +1,45 @@
+package com.loopers.support.dedup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BloomFilterTest {
+
+    @DisplayName("put 한 값은 항상 포함된 것으로 판단한다.")
+    @Test
+    void containsEveryPutValue() {
+        // arrange
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+
+        // act
+        LongStream.range(0, 10_000).forEach(bloomFilter::put);
+
+        // assert
+        assertThat(LongStream.range(0, 10_000).allMatch(bloomFilter::mightContain)).isTrue();
+    }
+
+    @DisplayName("put 하지 않은 값의 오탐률은 설정한 값 근처에 머문다.")
+    @Test
+    void keepsFalsePositiveRateNearConfiguredValue() {
+        // arrange
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+        LongStream.range(0, 10_000).forEach(bloomFilter::put);
+
+        // act
+        long falsePositives = LongStream.range(1_000_000, 1_100_000).filter(bloomFilter::mightContain).count();
+
+        // assert
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @DisplayName("오탐률이 0 과 1 사이가 아니면, 예외가 발생한다.")
+    @Test
+    void throwsException_whenFalsePositiveRateIsOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1.0));
+    }
+}
@@ -0,0 +1,332 @@
+package com.loopers.support.window;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class WindowedAggregatorTest {
+    private static final TopicPartition PARTITION = new TopicPartition("example.event-v1", 0);
+    private static final TopicPartition OTHER_PARTITION = new TopicPartition("example.event-v1", 1);
+    private static final WindowSpec PER_MINUTE = WindowSpec.tumbling("per-minute", Duration.ofMinutes(1), Duration.ZERO);
+    private static final long BASE = 1_700_000_040_000L; // 분 경계
+
+    @TempDir
+    Path directory;
+
+    @DisplayName("tumbling 윈도우는 watermark 가 윈도우 끝을 지나면 key 별 합계를 한 번에 내보낸다.")
+    @Test
+    void emitsClosedTumblingWindows() {
+        // arrange
+        WindowedAggregator aggregator = open(PER_MINUTE, Duration.ofHours(1));
+        record(aggregator, 0, BASE + 1_000, 1L);
+        record(aggregator, 1, BASE + 2_000, 1L);
+        record(aggregator, 2, BASE + 3_000, 2L);
+        List<WindowResult> emitted = new ArrayList<>();
+
+        // act
+        int beforeClose = aggregator.closeWindows(emitted::addAll);
+        record(aggregator, 3, BASE + 60_000, 1L);
+        int afterClose = aggregator.closeWindows(emitted::addAll);
+
+        // assert
+        assertAll(
+            () -> assertThat(beforeClose).isZero(),
+            () -> assertThat(afterClose).isEqualTo(2),
+            () -> assertThat(emitted).containsExactlyInAnyOrder(
+                new WindowResult(BASE, BASE + 60_000, 1L, 2),
+                new WindowResult(BASE, BASE + 60_000, 2L, 1)
+            ),
+            () -> assertThat(aggregator.size()).isEqualTo(1)
+        );
+        aggregator.close();
+    }
+
+    @DisplayName("hopping 윈도우는 이벤트를 겹치는 모든 윈도우에 더한다.")
+    @Test
+    void addsToEveryOverlappingHoppingWindow() {
+        // arrange
+        WindowSpec spec = new WindowSpec("hopping", Duration.ofMinutes(3), Duration.ofMinutes(1), Duration.ZERO);
+        WindowedAggregator aggregator = open(spec, Duration.ofHours(1));
+        List<WindowResult> emitted = new ArrayList<>();
+
+        // act
+        record(aggregator, 0, BASE + 1_000, 7L);
+        record(aggregator, 1, BASE + 10 * 60_000, 8L);
+        aggregator.closeWindows(emitted::addAll);
+
+        // assert
+        assertThat(emitted).extracting(WindowResult::windowStart).containsExactlyInAnyOrder(
+            BASE - 2 * 60_000, BASE - 60_000, BASE
+        );
+        aggregator.close();
+    }
+
+    @DisplayName("sink 가 실패하면 윈도우를 지우지 않고, 다음 호출에서 다시 내보낸다.")
+    @Test
+    void keepsWindows_whenSinkFails() {
+        // arrange
+        WindowedAggregator aggregator = open(PER_MINUTE, Duration.ofHours(1));
+        record(aggregator, 0, BASE, 1L);
+        record(aggregator, 1, BASE + 60_000, 2L);
+        List<WindowResult> emitted = new ArrayList<>();
+
+        // act
+        assertThatThrownBy(() -> aggregator.closeWindows(results -> {
+            throw new IllegalStateException("sink down");
+        })).isInstanceOf(IllegalStateException.class);
+        aggregator.closeWindows(emitted::addAll);
+
+        // assert
+        assertThat(emitted).containsExactly(new WindowResult(BASE, BASE + 60_000, 1L, 1));
+        aggregator.close();
+    }
+
+    @DisplayName("재전달된 offset 은 다시 더하지 않는다.")
+    @Test
+    void ignoresRedeliveredOffsets() {
+        // arrange
+        WindowedAggregator aggregator = open(PER_MINUTE, Duration.ofHours(1));
+        record(aggregator, 0, BASE, 1L);
+        record(aggregator, 1, BASE, 1L);
+
+        // act
+        boolean redelivered = aggregator.advance(PARTITION, 1, BASE);
+
+        // assert
+        assertAll(
+            () -> assertThat(redelivered).isFalse(),
+            () -> assertThat(aggregator.appliedOffset(PARTITION)).isEqualTo(2L)
+        );
+        aggregator.close();
+    }
+
+    @DisplayName("재시작하면 마지막 체크포인트의 상태와 offset 으로 복구되고, 체크포인트 이후의 쓰기는 버려진다.")
+    @Test
+    void restoresLastCheckpoint_afterRestart() {
+        // arrange
+        WindowedAggregator aggregator = open(PER_MINUTE, Duration.ofHours(1));
+        record(aggregator, 0, BASE, 1L);
+        record(aggregator, 1, BASE, 1L);
+        aggregator.checkpoint();
+        record(aggregator, 2, BASE, 1L);
+        aggregator.close();
+
+        // act
+        WindowedAggregator restored = new WindowedAggregator(PER_MINUTE, directory, 1024, Duration.ofHours(1), System::nanoTime);
+        Long resumedAt = restored.resume(PARTITION, 0);
+        record(restored, 2, BASE, 1L);
+        record(restored, 3, BASE + 60_000, 9L);
+        List<WindowResult> emitted = new ArrayList<>();
+        restored.closeWindows(emitted::addAll);
+
+        // assert
+        assertAll(
+            () -> assertThat(resumedAt).isEqualTo(2L),
+            () -> assertThat(emitted).containsExactly(new WindowResult(BASE, BASE + 60_000, 1L, 3))
+        );
+        restored.close();
+    }
+
+    @DisplayName("체크포인트가 없으면 빈 상태로 시작한다.")
+    @Test
+    void startsEmpty_withoutCheckpoint() {
+        // arrange
+        WindowedAggregator aggregator = open(PER_MINUTE, Duration.ofHours(1));
+        record(aggregator, 0, BASE, 1L);
+        aggregator.close();
+
+        // act
+        WindowedAggregator restored = new WindowedAggregator(PER_MINUTE, directory, 1024, Duration.ofHours(1), System::nanoTime);
+
+        // assert
+        assertAll(
+            () -> assertThat(restored.size()).isZero(),
+            () -> assertThat(restored.appliedOffset(PARTITION)).isNull()
+        );
+        restored.close();
+    }
+
+    @DisplayName("이미 닫은 윈도우에 늦게 도착한 이벤트는 버린다.")
+    @Test
+    void dropsLateEvents() {
+        // arrange
+        WindowedAggregator aggregator = open(PER_MINUTE, Duration.ofHours(1));
+        record(aggregator, 0, BASE, 1L);
+        record(aggregator, 1, BASE + 60_000, 1L);
+        aggregator.closeWindows(results -> {});
+
+        // act
+        boolean added = record(aggregator, 2, BASE + 30_000, 1L);
+
+        // assert
+        assertAll(
+            () -> assertThat(added).isFalse(),
+            () -> assertThat(aggregator.droppedLate()).isEqualTo(1)
+        );
+        aggregator.close();
+    }
+
+    @DisplayName("한 파티션이 뒤처져 있으면, 그 파티션 watermark 까지만 윈도우를 닫고 뒤처진 이벤트를 버리지 않는다.")
+    @Test
+    void holdsWindowsOpen_whileAPartitionLags() {
+        // arrange
+        WindowedAggregator aggregator = open(PER_MINUTE, Duration.ofHours(1));
+        aggregator.activate(OTHER_PARTITION, 0);
+        record(aggregator, 0, BASE + 1_000, 1L);
+        record(aggregator, OTHER_PARTITION, 0, BASE + 5 * 60_000, 2L);
+        List<WindowResult> emitted = new ArrayList<>();
+
+        // act
+        int whileLagging = aggregator.closeWindows(emitted::addAll);
+        boolean added = record(aggregator, 1, BASE + 30_000, 1L);
+        record(aggregator, 2, BASE + 60_000, 3L);
+        int afterCatchUp = aggregator.closeWindows(emitted::addAll);
+
+        // assert
+        assertAll(
+            () -> assertThat(whileLagging).isZero(),
+            () -> assertThat(added).isTrue(),
+            () -> assertThat(afterCatchUp).isEqualTo(1),
+            () -> assertThat(emitted).containsExactly(new WindowResult(BASE, BASE + 60_000, 1L, 2)),
+            () -> assertThat(aggregator.droppedLate()).isZero()
+        );
+        aggregator.close();
+    }
+
+    @DisplayName("끝까지 읽은 파티션은 윈도우를 닫는 기준에서 빠진다.")
+    @Test
+    void ignoresCaughtUpPartitions_whenClosingWindows() {
+        // arrange
+        WindowedAggregator aggregator = open(PER_MINUTE, Duration.ofHours(1));
+        aggregator.activate(OTHER_PARTITION, 0);
+        record(aggregator, 0, BASE + 1_000, 1L);
+        record(aggregator, 1, BASE + 60_000, 1L);
+        record(aggregator, OTHER_PARTITION, 0, BASE + 2_000, 2L);
+        List<WindowResult> emitted = new ArrayList<>();
+
+        // act
+        aggregator.markCaughtUp(OTHER_PARTITION);
+        aggregator.closeWindows(emitted::addAll);
+
+        // assert
+        assertThat(emitted).containsExactlyInAnyOrder(
+            new WindowResult(BASE, BASE + 60_000, 1L, 1),
+            new WindowResult(BASE, BASE + 60_000, 2L, 1)
+        );
+        aggregator.close();
+    }
+
+    @DisplayName("커밋할 offset 은 열린 윈도우에 처음 반영한 offset 이고, 윈도우를 닫으면 앞으로 나아간다.")
+    @Test
+    void commitsUpToEarliestOpenWindow() {
+        // arrange
+        WindowedAggregator aggregator = open(PER_MINUTE, Duration.ofHours(1));
+        record(aggregator, 10, BASE + 1_000, 1L);
+        record(aggregator, 11, BASE + 2_000, 2L);
+        Long whileOpen = aggregator.commitOffset(PARTITION);
+
+        // act
+        record(aggregator, 12, BASE + 60_000, 1L);
+        aggregator.closeWindows(results -> {});
+
+        // assert
+        assertAll(
+            () -> assertThat(whileOpen).isEqualTo(10L),
+            () -> assertThat(aggregator.commitOffset(PARTITION)).isEqualTo(12L),
+            () -> assertThat(aggregator.closedUpTo(PARTITION)).isEqualTo(BASE + 60_000)
+        );
+        aggregator.close();
+    }
+
+    @DisplayName("할당 해제된 파티션의 상태는 내보내지 않고 지운다.")
+    @Test
+    void discardsRevokedPartitions() {
+        // arrange
+        WindowedAggregator aggregator = open(PER_MINUTE, Duration.ofHours(1));
+        aggregator.activate(OTHER_PARTITION, 0);
+        record(aggregator, 0, BASE, 1L);
+        record(aggregator, OTHER_PARTITION, 0, BASE, 2L);
+        record(aggregator, OTHER_PARTITION, 1, BASE + 60_000, 2L);
+        List<WindowResult> emitted = new ArrayList<>();
+
+        // act
+        aggregator.revoke(List.of(PARTITION));
+        aggregator.discardInactive();
+        aggregator.closeWindows(emitted::addAll);
+
+        // assert
+        assertAll(
+            () -> assertThat(aggregator.isActive(PARTITION)).isFalse(),
+            () -> assertThat(aggregator.appliedOffset(PARTITION)).isNull(),
+            () -> assertThat(emitted).containsExactly(new WindowResult(BASE, BASE + 60_000, 2L, 1)),
+            () -> assertThat(aggregator.size()).isEqualTo(1)
+        );
+        aggregator.close();
+    }
+
+    @DisplayName("체크포인트 이후 다른 인스턴스가 더 앞까지 커밋했으면, 체크포인트 상태를 버린다.")
+    @Test
+    void dropsCheckpointState_whenCommittedPositionIsAhead() {
+        // arrange
+        WindowedAggregator aggregator = open(PER_MINUTE, Duration.ofHours(1));
+        record(aggregator, 0, BASE, 1L);
+        aggregator.checkpoint();
+        aggregator.close();
+        WindowedAggregator restored = new WindowedAggregator(PER_MINUTE, directory, 1024, Duration.ofHours(1), System::nanoTime);
+
+        // act
+        Long resumedAt = restored.resume(PARTITION, 100);
+
+        // assert
+        assertAll(
+            () -> assertThat(resumedAt).isNull(),
+            () -> assertThat(restored.isActive(PARTITION)).isFalse(),
+            () -> assertThat(restored.size()).isZero()
+        );
+        restored.close();
+    }
+
+    @DisplayName("이전 소유자가 닫은 시각으로 활성화하면, 이미 닫힌 윈도우의 레코드는 다시 세지 않는다.")
+    @Test
+    void skipsWindowsClosedByPreviousOwner() {
+        // arrange
+        WindowedAggregator aggregator = new WindowedAggregator(PER_MINUTE, directory, 1024, Duration.ofHours(1), System::nanoTime);
+        aggregator.activate(PARTITION, BASE + 60_000);
+
+        // act
+        boolean closedWindow = record(aggregator, 0, BASE + 30_000, 1L);
+        boolean openWindow = record(aggregator, 1, BASE + 60_000, 1L);
+
+        // assert
+        assertAll(
+            () -> assertThat(closedWindow).isFalse(),
+            () -> assertThat(openWindow).isTrue(),
+            () -> assertThat(aggregator.commitOffset(PARTITION)).isEqualTo(1L)
+        );
+        aggregator.close();
+    }
+
+    private WindowedAggregator open(WindowSpec spec, Duration checkpointInterval) {
+        WindowedAggregator aggregator = new WindowedAggregator(spec, directory, 1024, checkpointInterval, System::nanoTime);
+        aggregator.activate(PARTITION, 0);
+        return aggregator;
+    }
+
+    private static boolean record(WindowedAggregator aggregator, long offset, long timestamp, long key) {
+        return record(aggregator, PARTITION, offset, timestamp, key);
+    }
+
+    private static boolean record(WindowedAggregator aggregator, TopicPartition partition, long offset, long timestamp, long key) {
+        return aggregator.advance(partition, offset, timestamp) && aggregator.add(partition, offset, timestamp, key, 1);
+    }
+}
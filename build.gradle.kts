@@ -83,6 +83,7 @@ subprojects {
         useJUnitPlatform()
         systemProperty("user.timezone", "Asia/Seoul")
         systemProperty("spring.profiles.active", "test")
+        systemProperty("id.node-id", "0") // 테스트 JVM 은 하나씩 실행되므로 고정 노드 ID 를 사용한다.
         jvmArgs("-Xshare:off")
     }
 
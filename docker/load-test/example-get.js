@@ -0,0 +1,68 @@
+// 실행 모드(플랫폼 스레드 / 가상 스레드)별 처리량, 지연시간 비교용 k6 스크립트
+// docker run --rm -v "$(pwd)":/work -w /work -e BASE_URL=http://host.docker.internal:8080 -e MODE=platform grafana/k6 run ./docker/load-test/example-get.js
+//
+// 예시 ID 는 연속되지 않는 시간 순 ID 이므로 범위에서 임의로 만들 수 없다.
+// IDS_FILE (한 줄에 ID 하나) 을 주면 그 목록을, 아니면 setup 에서 목록 API 를 넘겨 가며 모은 최신 SAMPLE_SIZE 개를 사용한다.
+import http from 'k6/http';
+import { check, fail } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE || 'unknown';
+const SAMPLE_SIZE = Number(__ENV.SAMPLE_SIZE || 1000);
+const PAGE_SIZE = 100; // 목록 API 의 최대 페이지 크기
+const FILE_IDS = __ENV.IDS_FILE
+  ? open(__ENV.IDS_FILE).split('\n').map((line) => line.trim()).filter((line) => line.length > 0)
+  : null;
+
+export const options = {
+  tags: { mode: MODE },
+  scenarios: {
+    ramp: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: 200 },
+        { duration: '1m', target: 800 },
+        { duration: '1m', target: 800 },
+        { duration: '30s', target: 0 },
+      ],
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+  if (FILE_IDS) {
+    return { ids: FILE_IDS };
+  }
+  // ID 는 JSON 문자열로 내려오므로, 정밀도 손실 없이 그대로 경로에 쓴다.
+  const ids = [];
+  let cursor = null;
+  while (ids.length < SAMPLE_SIZE) {
+    const query = cursor ? `size=${PAGE_SIZE}&cursor=${cursor}` : `size=${PAGE_SIZE}`;
+    const res = http.get(`${BASE_URL}/api/v1/examples?${query}`, { tags: { name: 'setup' } });
+    if (res.status !== 200) {
+      fail(`예시 목록 조회에 실패했습니다. (status = ${res.status})`);
+    }
+    const page = res.json('data');
+    page.examples.forEach((example) => ids.push(example.id));
+    if (!page.hasNext) {
+      break;
+    }
+    cursor = page.nextCursor;
+  }
+  if (ids.length === 0) {
+    fail('조회할 예시가 없습니다. 부하 테스트 전에 예시 데이터를 적재하세요.');
+  }
+  return { ids: ids.slice(0, SAMPLE_SIZE) };
+}
+
+export default function (data) {
+  const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+  const res = http.get(`${BASE_URL}/api/v1/examples/${id}`, { tags: { name: 'GET /api/v1/examples/{id}' } });
+  check(res, { 'status is 200': (r) => r.status === 200 });
+}
+
+export function handleSummary(data) {
+  return { [`summary-${MODE}.json`]: JSON.stringify(data, null, 2) };
+}
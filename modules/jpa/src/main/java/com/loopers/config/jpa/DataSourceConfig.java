@@ -3,22 +3,76 @@ package com.loopers.config.jpa;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 애플리케이션이 사용하는 DataSource 는 {@code datasource.mysql-jpa.routing.enabled} 에 따라 달라진다.
+ * 라우팅이 꺼져 있으면 replica 커넥션 풀을 만들지 않는다.
+ */
 @Configuration
 class DataSourceConfig {
+    static final String MAIN_DATA_SOURCE = "mySqlMainDataSource";
+    static final String REPLICA_DATA_SOURCE = "mySqlReplicaDataSource";
+    static final String ROUTING_ENABLED = "datasource.mysql-jpa.routing.enabled";
+
     @Bean
     @ConfigurationProperties(prefix = "datasource.mysql-jpa.main")
     HikariConfig mySqlMainHikariConfig() {
         return new HikariConfig();
     }
 
-    @Primary
-    @Bean
+    @Bean(MAIN_DATA_SOURCE)
     HikariDataSource mySqlMainDataSource(@Qualifier("mySqlMainHikariConfig") HikariConfig hikariConfig) {
         return new HikariDataSource(hikariConfig);
     }
+
+    /**
+     * 라우팅을 끄면 모든 트랜잭션이 main 을 사용한다. 실제 커넥션은 첫 statement 실행 시점에 획득한다.
+     */
+    @Primary
+    @Bean
+    @ConditionalOnProperty(name = ROUTING_ENABLED, havingValue = "false")
+    DataSource mySqlDataSource(@Qualifier(MAIN_DATA_SOURCE) HikariDataSource mainDataSource) {
+        return new LazyConnectionDataSourceProxy(mainDataSource);
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = ROUTING_ENABLED, havingValue = "true", matchIfMissing = true)
+    static class ReplicaRoutingConfig {
+
+        @Bean
+        @ConfigurationProperties(prefix = "datasource.mysql-jpa.replica")
+        HikariConfig mySqlReplicaHikariConfig() {
+            return new HikariConfig();
+        }
+
+        @Bean(REPLICA_DATA_SOURCE)
+        HikariDataSource mySqlReplicaDataSource(@Qualifier("mySqlReplicaHikariConfig") HikariConfig hikariConfig) {
+            return new HikariDataSource(hikariConfig);
+        }
+
+        /**
+         * readOnly 트랜잭션을 replica 로 보내고, 실제 커넥션은 첫 statement 실행 시점에 획득한다.
+         */
+        @Primary
+        @Bean
+        DataSource mySqlRoutingDataSource(
+            @Qualifier(MAIN_DATA_SOURCE) HikariDataSource mainDataSource,
+            @Qualifier(REPLICA_DATA_SOURCE) HikariDataSource replicaDataSource,
+            @Value("${datasource.mysql-jpa.routing.replica-fallback-duration:30s}") Duration replicaFallbackDuration
+        ) {
+            return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(mainDataSource, replicaDataSource, replicaFallbackDuration)
+            );
+        }
+    }
 }
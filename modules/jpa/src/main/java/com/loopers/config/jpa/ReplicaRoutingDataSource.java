@@ -0,0 +1,70 @@
+package com.loopers.config.jpa;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션은 replica 로, 그 외는 main 으로 라우팅한다.
+ * replica 커넥션 획득에 실패하면 일정 시간 동안 replica 를 사용하지 않고 main 으로 대체한다.
+ * 트랜잭션의 readOnly 여부는 커넥션 획득 시점에 확정되어 있어야 하므로, 반드시 LazyConnectionDataSourceProxy 로 감싸 사용한다.
+ */
+@Slf4j
+class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    enum Route { MAIN, REPLICA }
+
+    private final DataSource mainDataSource;
+    private final DataSource replicaDataSource;
+    private final long fallbackMillis;
+    private volatile long replicaUnavailableUntil = 0L;
+
+    ReplicaRoutingDataSource(DataSource mainDataSource, DataSource replicaDataSource, Duration fallbackDuration) {
+        this.mainDataSource = mainDataSource;
+        this.replicaDataSource = replicaDataSource;
+        this.fallbackMillis = fallbackDuration.toMillis();
+        setTargetDataSources(Map.of(Route.MAIN, mainDataSource, Route.REPLICA, replicaDataSource));
+        setDefaultTargetDataSource(mainDataSource);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        return readOnly && System.currentTimeMillis() >= replicaUnavailableUntil ? Route.REPLICA : Route.MAIN;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() == Route.REPLICA) {
+            try {
+                return replicaDataSource.getConnection();
+            } catch (SQLException e) {
+                markReplicaUnavailable(e);
+            }
+        }
+        return mainDataSource.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (determineCurrentLookupKey() == Route.REPLICA) {
+            try {
+                return replicaDataSource.getConnection(username, password);
+            } catch (SQLException e) {
+                markReplicaUnavailable(e);
+            }
+        }
+        return mainDataSource.getConnection(username, password);
+    }
+
+    private void markReplicaUnavailable(SQLException e) {
+        replicaUnavailableUntil = System.currentTimeMillis() + fallbackMillis;
+        log.warn("replica 커넥션 획득에 실패하여 {}ms 동안 main 으로 대체합니다.", fallbackMillis, e);
+    }
+}
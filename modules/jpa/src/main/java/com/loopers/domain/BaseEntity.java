@@ -1,13 +1,13 @@
 package com.loopers.domain;
 
+import com.loopers.domain.id.TimeOrderedId;
 import jakarta.persistence.Column;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import lombok.Getter;
+import org.springframework.data.domain.Persistable;
 import java.time.ZonedDateTime;
 
 /**
@@ -16,10 +16,10 @@ import java.time.ZonedDateTime;
  */
 @MappedSuperclass
 @Getter
-public abstract class BaseEntity {
+public abstract class BaseEntity implements Persistable<Long> {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private final Long id = 0L;
 
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -53,6 +53,15 @@ public abstract class BaseEntity {
         this.updatedAt = ZonedDateTime.now();
     }
 
+    /**
+     * 아직 저장되지 않은 엔티티인지 여부. id 가 0 으로 초기화되어 있으므로, 저장 시 채워지는 createdAt 으로 판별한다.
+     * Spring Data 가 신규 엔티티를 merge(select 후 insert) 대신 persist 하도록 하여 insert batching 이 가능하게 한다.
+     */
+    @Override
+    public boolean isNew() {
+        return createdAt == null;
+    }
+
     /**
      * delete 연산은 멱등하게 동작할 수 있도록 한다. (삭제된 엔티티를 다시 삭제해도 동일한 결과가 나오도록)
      */
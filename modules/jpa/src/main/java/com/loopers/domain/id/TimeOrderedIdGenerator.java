@@ -0,0 +1,18 @@
+package com.loopers.domain.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * INSERT 이전에 애플리케이션에서 ID 를 발급하여, Hibernate 의 JDBC insert batching 이 동작하도록 한다.
+ * (IDENTITY 전략은 행마다 INSERT 후 생성된 키를 읽어야 하므로 batching 이 비활성화된다.)
+ * Hibernate 가 기동 중에 생성하므로, 노드 ID 가 지정되지 않았으면 첫 INSERT 가 아니라 기동 시점에 실패한다.
+ */
+public class TimeOrderedIdGenerator implements IdentifierGenerator {
+    private final TimeOrderedIdSequence sequence = TimeOrderedIdSequence.global();
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return sequence.next();
+    }
+}
@@ -0,0 +1,84 @@
+package com.loopers.domain.id;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순으로 증가하는 64bit ID 를 만든다. (Snowflake 방식)
+ * <pre>
+ * | 1bit 부호(0) | 41bit 기준 시각 이후 경과 ms | 10bit 노드 ID | 12bit ms 내 순번 |
+ * </pre>
+ * 한 노드 안에서는 항상 단조 증가하며, 시계가 뒤로 가거나 ms 내 순번이 소진되면 다음 ms 를 미리 당겨 쓴다.
+ * 노드 간에는 생성 시각 순으로 정렬된다.
+ * 값이 2^53 을 넘으므로 JSON 으로 내보낼 때는 문자열로 직렬화해야 JavaScript 클라이언트에서 값이 바뀌지 않는다.
+ */
+public final class TimeOrderedIdSequence {
+    static final long EPOCH_MILLIS = 1_704_067_200_000L; // 2024-01-01T00:00:00Z
+    static final int NODE_ID_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+    static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private static final String NODE_ID_PROPERTY = "id.node-id";
+    private static final String NODE_ID_ENV = "ID_NODE_ID";
+
+    private static volatile TimeOrderedIdSequence global;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    TimeOrderedIdSequence(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID 는 0 이상 " + MAX_NODE_ID + " 이하여야 합니다. (nodeId = " + nodeId + ")");
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    public synchronized long next() {
+        long timestamp = Math.max(clock.getAsLong() - EPOCH_MILLIS, lastTimestamp);
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            if (sequence == 0) {
+                timestamp = lastTimestamp + 1;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastTimestamp = timestamp;
+        return (timestamp << (NODE_ID_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    /**
+     * 애플리케이션 전역에서 사용하는 시퀀스.
+     * 노드 ID 는 시스템 프로퍼티(id.node-id) 또는 환경 변수(ID_NODE_ID) 로 지정하며, 인스턴스마다 달라야 한다.
+     * 지정하지 않으면 인스턴스 간 ID 가 겹칠 수 있으므로 ID 를 발급하지 않고 실패한다.
+     */
+    public static TimeOrderedIdSequence global() {
+        TimeOrderedIdSequence sequence = global;
+        if (sequence == null) {
+            synchronized (TimeOrderedIdSequence.class) {
+                if (global == null) {
+                    global = new TimeOrderedIdSequence(
+                        resolveNodeId(System.getProperty(NODE_ID_PROPERTY, System.getenv(NODE_ID_ENV))),
+                        System::currentTimeMillis
+                    );
+                }
+                sequence = global;
+            }
+        }
+        return sequence;
+    }
+
+    static long resolveNodeId(String configured) {
+        if (configured == null || configured.isBlank()) {
+            throw new IllegalStateException("ID 노드 ID 가 지정되지 않았습니다. 인스턴스마다 다른 값(0 ~ " + MAX_NODE_ID + ")을 " + NODE_ID_ENV + " 로 지정해주세요.");
+        }
+        try {
+            return Long.parseLong(configured.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("ID 노드 ID 는 숫자여야 합니다. (" + NODE_ID_ENV + " = " + configured + ")", e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.loopers.domain.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 도메인 이벤트를 outbox 테이블에 기록한다.
+ * 호출한 쪽의 트랜잭션에 참여하므로, 도메인 변경이 커밋될 때만 이벤트도 함께 남는다.
+ * <p>
+ * 같은 key 의 이벤트는 커밋 순서대로 발행되어야 한다. 도메인 변경을 먼저 flush 하여 그 행의 잠금을 잡은 뒤 outbox 행을 INSERT 하므로,
+ * 같은 행을 바꾸는 트랜잭션끼리는 outbox seq 가 커밋 순서를 따른다. 따라서 도메인 변경을 마친 뒤에 호출해야 한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class OutboxAppender {
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String topic, String messageKey, String eventType, Object payload) {
+        entityManager.flush();
+        entityManager.persist(new OutboxEvent(topic, messageKey, eventType, toJson(payload)));
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("outbox 이벤트를 직렬화할 수 없습니다. (type = " + payload.getClass().getName() + ")", e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.loopers.domain.outbox;
+
+import com.loopers.domain.id.TimeOrderedId;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 도메인 변경과 같은 트랜잭션에 기록되는 발행 대기 이벤트.
+ * ID 는 persist 시점에 인스턴스 시계로 발급되므로 커밋 순서와 다를 수 있다. 릴레이는 INSERT 시점에 DB 가 발급하는 seq 순서로 발행한다.
+ */
+@Entity
+@Table(
+    name = "outbox_event",
+    indexes = @Index(name = "idx_outbox_event_published_at_seq", columnList = "published_at, seq")
+)
+@Getter
+public class OutboxEvent {
+
+    @Id
+    @TimeOrderedId
+    private Long id;
+
+    @Column(name = "seq", insertable = false, updatable = false, columnDefinition = "bigint not null auto_increment unique")
+    private Long seq;
+
+    @Column(name = "topic", nullable = false)
+    private String topic;
+
+    @Column(name = "message_key")
+    private String messageKey;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private ZonedDateTime createdAt;
+
+    @Column(name = "published_at")
+    private ZonedDateTime publishedAt;
+
+    protected OutboxEvent() {}
+
+    OutboxEvent(String topic, String messageKey, String eventType, String payload) {
+        this.topic = topic;
+        this.messageKey = messageKey;
+        this.eventType = eventType;
+        this.payload = payload;
+    }
+
+    @PrePersist
+    private void prePersist() {
+        this.createdAt = ZonedDateTime.now();
+    }
+}
@@ -0,0 +1,30 @@
+package com.loopers.domain.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 릴레이 리더 lease. 스키마 정의 용도이며, 갱신은 {@code OutboxStore} 가 DB 시각 기준으로 한다.
+ */
+@Entity
+@Table(name = "outbox_relay_lease")
+@Getter
+public class OutboxRelayLease {
+
+    @Id
+    @Column(name = "name", nullable = false, length = 50)
+    private String name;
+
+    @Column(name = "owner", nullable = false)
+    private String owner;
+
+    @Column(name = "expires_at", nullable = false)
+    private ZonedDateTime expiresAt;
+
+    protected OutboxRelayLease() {}
+}
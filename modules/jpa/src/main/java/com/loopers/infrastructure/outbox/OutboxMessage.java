@@ -0,0 +1,15 @@
+package com.loopers.infrastructure.outbox;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 릴레이가 발행할 outbox 행. 엔티티를 거치지 않고 필요한 컬럼만 읽는다.
+ */
+public record OutboxMessage(
+    Long id,
+    String topic,
+    String messageKey,
+    String eventType,
+    String payload,
+    ZonedDateTime createdAt
+) {}
@@ -0,0 +1,96 @@
+package com.loopers.infrastructure.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 릴레이용 outbox 조회/갱신과 릴레이 리더 lease. 각 메서드는 한 문장으로 끝나므로 트랜잭션 없이 호출한다.
+ * 시각 컬럼은 Hibernate 설정(NORMALIZE_UTC)과 같이 UTC 로 읽고 쓰며, lease 만료는 인스턴스 시계가 아니라 DB 시각으로 판단한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class OutboxStore {
+    private static final String FIND_UNPUBLISHED = """
+        SELECT id, topic, message_key, event_type, payload, created_at
+        FROM outbox_event
+        WHERE published_at IS NULL
+        ORDER BY seq
+        LIMIT ?
+        """;
+    private static final String MARK_PUBLISHED = """
+        UPDATE outbox_event SET published_at = :publishedAt
+        WHERE id IN (:ids)
+          AND EXISTS (
+            SELECT 1 FROM outbox_relay_lease
+            WHERE name = :lease AND owner = :owner AND expires_at > UTC_TIMESTAMP(6)
+          )
+        """;
+    private static final String RENEW_LEASE = """
+        UPDATE outbox_relay_lease SET owner = ?, expires_at = UTC_TIMESTAMP(6) + INTERVAL ? MICROSECOND
+        WHERE name = ? AND (owner = ? OR expires_at <= UTC_TIMESTAMP(6))
+        """;
+    private static final String INSERT_LEASE = """
+        INSERT IGNORE INTO outbox_relay_lease (name, owner, expires_at)
+        VALUES (?, ?, UTC_TIMESTAMP(6) + INTERVAL ? MICROSECOND)
+        """;
+    private static final String RELEASE_LEASE = """
+        UPDATE outbox_relay_lease SET expires_at = UTC_TIMESTAMP(6) WHERE name = ? AND owner = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 발행되지 않은 이벤트를 seq (INSERT 순서) 순으로 최대 limit 개 읽는다. 잠그지 않으므로 lease 를 가진 릴레이만 호출해야 한다.
+     */
+    public List<OutboxMessage> findUnpublished(int limit) {
+        return jdbcTemplate.query(FIND_UNPUBLISHED, (rs, rowNum) -> new OutboxMessage(
+            rs.getLong("id"),
+            rs.getString("topic"),
+            rs.getString("message_key"),
+            rs.getString("event_type"),
+            rs.getString("payload"),
+            rs.getObject("created_at", LocalDateTime.class).atZone(ZoneOffset.UTC)
+        ), limit);
+    }
+
+    /**
+     * 주어진 이벤트들을 한 번의 UPDATE 로 발행 완료 처리한다.
+     * lease 가 그 사이 만료되어 다른 릴레이에게 넘어갔으면 아무것도 갱신하지 않는다.
+     */
+    public int markPublished(Collection<Long> ids, String lease, String owner) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("publishedAt", LocalDateTime.now(ZoneOffset.UTC))
+            .addValue("ids", ids)
+            .addValue("lease", lease)
+            .addValue("owner", owner);
+        return namedParameterJdbcTemplate.update(MARK_PUBLISHED, params);
+    }
+
+    /**
+     * lease 가 비어 있거나 만료되었거나 이미 owner 의 것이면 owner 의 것으로 duration 만큼 연장하고 true 를 반환한다.
+     */
+    public boolean tryAcquireLease(String lease, String owner, Duration duration) {
+        long micros = duration.toNanos() / 1_000;
+        if (jdbcTemplate.update(RENEW_LEASE, owner, micros, lease, owner) == 1) {
+            return true;
+        }
+        return jdbcTemplate.update(INSERT_LEASE, lease, owner, micros) == 1;
+    }
+
+    public void releaseLease(String lease, String owner) {
+        jdbcTemplate.update(RELEASE_LEASE, lease, owner);
+    }
+}
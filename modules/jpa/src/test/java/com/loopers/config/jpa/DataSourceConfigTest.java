@@ -0,0 +1,63 @@
+package com.loopers.config.jpa;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class DataSourceConfigTest {
+    /**
+     * 커넥션을 만들지 않도록 최소 유휴 커넥션을 0 으로, 기동 시 연결 검사를 생략하도록 설정한다.
+     */
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(ConfigurationPropertiesAutoConfiguration.class))
+        .withUserConfiguration(DataSourceConfig.class)
+        .withPropertyValues(
+            "datasource.mysql-jpa.main.jdbc-url=jdbc:mysql://localhost:1/loopers",
+            "datasource.mysql-jpa.main.minimum-idle=0",
+            "datasource.mysql-jpa.main.initialization-fail-timeout=-1",
+            "datasource.mysql-jpa.replica.jdbc-url=jdbc:mysql://localhost:2/loopers",
+            "datasource.mysql-jpa.replica.minimum-idle=0",
+            "datasource.mysql-jpa.replica.initialization-fail-timeout=-1"
+        );
+
+    @DisplayName("라우팅이 켜져 있으면, replica 커넥션 풀을 만들고 라우팅 DataSource 를 사용한다.")
+    @Test
+    void createsReplicaPool_whenRoutingIsEnabled() {
+        contextRunner
+            .withPropertyValues(DataSourceConfig.ROUTING_ENABLED + "=true")
+            .run(context -> assertAll(
+                () -> assertThat(context).hasBean(DataSourceConfig.REPLICA_DATA_SOURCE),
+                () -> assertThat(((LazyConnectionDataSourceProxy) context.getBean(DataSource.class)).getTargetDataSource())
+                    .isInstanceOf(ReplicaRoutingDataSource.class)
+            ));
+    }
+
+    @DisplayName("라우팅 설정이 없으면, 라우팅이 켜진 것으로 본다.")
+    @Test
+    void enablesRouting_whenPropertyIsMissing() {
+        contextRunner.run(context -> assertThat(context).hasBean(DataSourceConfig.REPLICA_DATA_SOURCE));
+    }
+
+    @DisplayName("라우팅이 꺼져 있으면, replica 커넥션 풀을 만들지 않고 main 만 사용한다.")
+    @Test
+    void skipsReplicaPool_whenRoutingIsDisabled() {
+        contextRunner
+            .withPropertyValues(DataSourceConfig.ROUTING_ENABLED + "=false")
+            .run(context -> assertAll(
+                () -> assertThat(context).doesNotHaveBean(DataSourceConfig.REPLICA_DATA_SOURCE),
+                () -> assertThat(context).doesNotHaveBean("mySqlReplicaHikariConfig"),
+                () -> assertThat(context).getBeans(HikariDataSource.class).hasSize(1),
+                () -> assertThat(((LazyConnectionDataSourceProxy) context.getBean(DataSource.class)).getTargetDataSource())
+                    .isSameAs(context.getBean(DataSourceConfig.MAIN_DATA_SOURCE))
+            ));
+    }
+}
@@ -0,0 +1,109 @@
+package com.loopers.config.jpa;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+    private final DataSource mainDataSource = mock(DataSource.class);
+    private final DataSource replicaDataSource = mock(DataSource.class);
+    private final Connection mainConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @DisplayName("읽기 전용 트랜잭션이면 replica 커넥션을, 아니면 main 커넥션을 반환한다.")
+    @Test
+    void routesByTransactionReadOnly() throws SQLException {
+        // arrange
+        when(mainDataSource.getConnection()).thenReturn(mainConnection);
+        when(replicaDataSource.getConnection()).thenReturn(replicaConnection);
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(mainDataSource, replicaDataSource, Duration.ofSeconds(30));
+
+        // act
+        Connection write = dataSource.getConnection();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        Connection read = dataSource.getConnection();
+
+        // assert
+        assertAll(
+            () -> assertThat(write).isSameAs(mainConnection),
+            () -> assertThat(read).isSameAs(replicaConnection)
+        );
+    }
+
+    @DisplayName("replica 커넥션 획득에 실패하면, main 커넥션을 반환하고 대체 시간 동안 replica 를 시도하지 않는다.")
+    @Test
+    void fallsBackToMain_whenReplicaIsUnavailable() throws SQLException {
+        // arrange
+        when(mainDataSource.getConnection()).thenReturn(mainConnection);
+        when(replicaDataSource.getConnection()).thenThrow(new SQLException("replica down"));
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(mainDataSource, replicaDataSource, Duration.ofSeconds(30));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // act
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+
+        // assert
+        assertAll(
+            () -> assertThat(first).isSameAs(mainConnection),
+            () -> assertThat(second).isSameAs(mainConnection),
+            () -> verify(replicaDataSource, times(1)).getConnection()
+        );
+    }
+
+    @DisplayName("대체 시간이 지나면, 다시 replica 를 시도한다.")
+    @Test
+    void retriesReplica_afterFallbackDuration() throws SQLException {
+        // arrange
+        when(mainDataSource.getConnection()).thenReturn(mainConnection);
+        when(replicaDataSource.getConnection())
+            .thenThrow(new SQLException("replica down"))
+            .thenReturn(replicaConnection);
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(mainDataSource, replicaDataSource, Duration.ZERO);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // act
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+
+        // assert
+        assertAll(
+            () -> assertThat(first).isSameAs(mainConnection),
+            () -> assertThat(second).isSameAs(replicaConnection),
+            () -> verify(mainDataSource, times(1)).getConnection()
+        );
+    }
+
+    @DisplayName("쓰기 트랜잭션은 replica 상태와 관계없이 replica 를 시도하지 않는다.")
+    @Test
+    void neverTouchesReplica_whenTransactionIsNotReadOnly() throws SQLException {
+        // arrange
+        when(mainDataSource.getConnection()).thenReturn(mainConnection);
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(mainDataSource, replicaDataSource, Duration.ofSeconds(30));
+
+        // act
+        dataSource.getConnection();
+
+        // assert
+        verify(replicaDataSource, never()).getConnection();
+    }
+}
@@ -0,0 +1,62 @@
+package com.loopers.domain.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TimeOrderedIdSequenceTest {
+    private static final long NOW = TimeOrderedIdSequence.EPOCH_MILLIS + 1_000L;
+
+    @DisplayName("같은 ms 안에서 순번을 모두 소진해도, 발급된 ID 는 계속 증가한다.")
+    @Test
+    void idsIncrease_whenSequenceIsExhaustedWithinSameMillisecond() {
+        // arrange
+        TimeOrderedIdSequence sequence = new TimeOrderedIdSequence(1, () -> NOW);
+
+        // act & assert
+        long previous = sequence.next();
+        for (int i = 0; i < TimeOrderedIdSequence.MAX_SEQUENCE * 3; i++) {
+            long current = sequence.next();
+            assertThat(current).isGreaterThan(previous);
+            previous = current;
+        }
+    }
+
+    @DisplayName("시계가 뒤로 가도, 발급된 ID 는 계속 증가한다.")
+    @Test
+    void idsIncrease_whenClockMovesBackwards() {
+        // arrange
+        AtomicLong clock = new AtomicLong(NOW);
+        TimeOrderedIdSequence sequence = new TimeOrderedIdSequence(1, clock::get);
+        long before = sequence.next();
+
+        // act
+        clock.set(NOW - 500L);
+        long after = sequence.next();
+
+        // assert
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @DisplayName("노드 ID 가 지정되지 않으면, 임의의 값으로 대신하지 않고 예외가 발생한다.")
+    @Test
+    void throwsException_whenNodeIdIsNotConfigured() {
+        assertAll(
+            () -> assertThrows(IllegalStateException.class, () -> TimeOrderedIdSequence.resolveNodeId(null)),
+            () -> assertThrows(IllegalStateException.class, () -> TimeOrderedIdSequence.resolveNodeId(" ")),
+            () -> assertThrows(IllegalStateException.class, () -> TimeOrderedIdSequence.resolveNodeId("node-1"))
+        );
+    }
+
+    @DisplayName("노드 ID 가 범위를 벗어나면, 예외가 발생한다.")
+    @Test
+    void throwsException_whenNodeIdIsOutOfRange() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new TimeOrderedIdSequence(TimeOrderedIdSequence.MAX_NODE_ID + 1, () -> NOW));
+    }
+}
@@ -32,5 +32,9 @@ public class MySqlTestContainersConfig {
         System.setProperty("datasource.mysql-jpa.main.jdbc-url", mySqlJdbcUrl);
         System.setProperty("datasource.mysql-jpa.main.username", mySqlContainer.getUsername());
         System.setProperty("datasource.mysql-jpa.main.password", mySqlContainer.getPassword());
+        // 테스트 환경에서는 replica 도 같은 컨테이너를 바라본다.
+        System.setProperty("datasource.mysql-jpa.replica.jdbc-url", mySqlJdbcUrl);
+        System.setProperty("datasource.mysql-jpa.replica.username", mySqlContainer.getUsername());
+        System.setProperty("datasource.mysql-jpa.replica.password", mySqlContainer.getPassword());
     }
 }
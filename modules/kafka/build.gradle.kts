@@ -1,13 +1,31 @@
 plugins {
     `java-library`
     `java-test-fixtures`
+    id("me.champeau.jmh")
 }
 
 dependencies {
     api("org.springframework.kafka:spring-kafka")
+    implementation("io.micrometer:micrometer-core")
+    // outbox 릴레이는 outbox.relay.enabled=true 일 때만 구성되며, 이때 애플리케이션은 modules:jpa 를 함께 사용해야 한다.
+    compileOnly(project(":modules:jpa"))
 
+    testImplementation(project(":modules:jpa"))
     testImplementation("org.springframework.kafka:spring-kafka-test")
     testImplementation("org.testcontainers:kafka")
 
     testFixturesImplementation("org.testcontainers:kafka")
 }
+
+// ./gradlew :modules:kafka:jmh (결과: build/results/jmh/results.json)
+jmh {
+    jmhVersion = project.properties["jmhVersion"].toString()
+    profilers.add("gc") // 할당률(gc.alloc.rate.norm) 측정
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    // 특정 벤치마크만 실행 : -PjmhIncludes=<정규식>
+    project.findProperty("jmhIncludes")?.let { includes.add(it.toString()) }
+}
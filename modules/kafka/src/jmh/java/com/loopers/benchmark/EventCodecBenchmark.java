@@ -0,0 +1,127 @@
+package com.loopers.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.confg.kafka.codec.BinaryEnvelope;
+import com.loopers.confg.kafka.codec.BinaryReader;
+import com.loopers.confg.kafka.codec.BinaryWriter;
+import com.loopers.confg.kafka.codec.EventCodec;
+import com.loopers.confg.kafka.codec.EventCodecRegistry;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 한 건의 JSON / 바이너리 코덱 비용. 직렬화, 역직렬화, 라우팅 값 하나만 읽는 경우를 비교한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class EventCodecBenchmark {
+    public record ProductViewed(long productId, long userId, String channel, String referrer, long occurredAt, int dwellMillis) {}
+
+    public static class ProductViewedCodec implements EventCodec<ProductViewed> {
+        @Override
+        public Class<ProductViewed> type() {
+            return ProductViewed.class;
+        }
+
+        @Override
+        public short typeId() {
+            return 1;
+        }
+
+        @Override
+        public String eventType() {
+            return "ProductViewed";
+        }
+
+        @Override
+        public byte schemaVersion() {
+            return 1;
+        }
+
+        @Override
+        public long routingKey(ProductViewed event) {
+            return event.productId();
+        }
+
+        @Override
+        public void encode(ProductViewed event, BinaryWriter writer) {
+            writer.writeVarLong(event.productId())
+                .writeVarLong(event.userId())
+                .writeString(event.channel())
+                .writeString(event.referrer())
+                .writeVarLong(event.occurredAt())
+                .writeVarInt(event.dwellMillis());
+        }
+
+        @Override
+        public ProductViewed decode(BinaryReader reader, byte schemaVersion) {
+            return new ProductViewed(
+                reader.readVarLong(),
+                reader.readVarLong(),
+                reader.readString(),
+                reader.readString(),
+                reader.readVarLong(),
+                reader.readVarInt()
+            );
+        }
+    }
+
+    private ObjectMapper objectMapper;
+    private JsonSerializer<Object> jsonSerializer;
+    private EventCodecRegistry codecRegistry;
+    private ProductViewed event;
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        jsonSerializer = new JsonSerializer<>(objectMapper).noTypeInfo();
+        codecRegistry = new EventCodecRegistry(List.of(new ProductViewedCodec()));
+        event = new ProductViewed(1_234_567L, 98_765_432L, "mobile-app", "https://example.com/promotions/summer", 1_735_689_600_000L, 4_200);
+        json = jsonSerializer.serialize("topic", new RecordHeaders(), event);
+        binary = codecRegistry.encode(event);
+    }
+
+    @Benchmark
+    public byte[] serializeJson() {
+        return jsonSerializer.serialize("topic", new RecordHeaders(), event);
+    }
+
+    @Benchmark
+    public byte[] serializeBinary() {
+        return codecRegistry.encode(event);
+    }
+
+    @Benchmark
+    public ProductViewed deserializeJson() throws IOException {
+        return objectMapper.readValue(json, ProductViewed.class);
+    }
+
+    @Benchmark
+    public ProductViewed deserializeBinary() {
+        return codecRegistry.decode(binary, ProductViewed.class);
+    }
+
+    @Benchmark
+    public long routingKeyJson() throws IOException {
+        return objectMapper.readTree(json).get("productId").asLong();
+    }
+
+    @Benchmark
+    public long routingKeyBinary() {
+        return BinaryEnvelope.routingKey(binary);
+    }
+}
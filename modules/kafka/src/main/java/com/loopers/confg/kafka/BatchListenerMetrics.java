@@ -0,0 +1,144 @@
+package com.loopers.confg.kafka;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 배치 리스너 컨테이너 하나의 처리 지표를 기록한다. 컨테이너마다 listener id 를 태그로 하나씩 만든다.
+ * - kafka.consumer.batch.size : 토픽별 poll 된 레코드 수
+ * - kafka.consumer.batch.processing : 리스너가 배치 하나를 처리하는 데 걸린 시간 (result = success | failure)
+ * - kafka.consumer.lag : 파티션별 마지막 poll 시점의 lag
+ *
+ * intercept 와 success/failure 는 같은 컨슈머 스레드에서 호출되므로, 시작 시각은 ThreadLocal 에 둔다.
+ * 컨테이너의 rebalance listener 로도 등록되어, 회수되거나 잃은 파티션의 lag gauge 를 지운다.
+ * 그렇지 않으면 다른 인스턴스로 넘어간 파티션의 마지막 lag 가 계속 노출된다. 원래의 rebalance listener 에는 그대로 위임한다.
+ */
+public class BatchListenerMetrics implements BatchInterceptor<Object, Object>, ConsumerAwareRebalanceListener {
+    private final String listenerId;
+    private final MeterRegistry meterRegistry;
+    private final ConsumerAwareRebalanceListener rebalanceListener;
+    private final ThreadLocal<Long> batchStartNanos = new ThreadLocal<>();
+    private final Map<String, DistributionSummary> batchSizes = new ConcurrentHashMap<>();
+    private final Map<String, Timer> processingTimers = new ConcurrentHashMap<>();
+    private final Map<TopicPartition, PartitionLag> lags = new ConcurrentHashMap<>();
+
+    public BatchListenerMetrics(String listenerId, MeterRegistry meterRegistry, ConsumerAwareRebalanceListener rebalanceListener) {
+        this.listenerId = listenerId;
+        this.meterRegistry = meterRegistry;
+        this.rebalanceListener = rebalanceListener;
+    }
+
+    @Override
+    public ConsumerRecords<Object, Object> intercept(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+        batchStartNanos.set(System.nanoTime());
+        for (TopicPartition partition : records.partitions()) {
+            batchSize(partition.topic()).record(records.records(partition).size());
+            consumer.currentLag(partition).ifPresent(lag -> lag(partition).value().set(lag));
+        }
+        return records;
+    }
+
+    @Override
+    public void success(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+        recordProcessing(records, "success");
+    }
+
+    @Override
+    public void failure(ConsumerRecords<Object, Object> records, Exception exception, Consumer<Object, Object> consumer) {
+        recordProcessing(records, "failure");
+    }
+
+    @Override
+    public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        rebalanceListener.onPartitionsRevokedBeforeCommit(consumer, partitions);
+    }
+
+    @Override
+    public void onPartitionsRevokedAfterCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        rebalanceListener.onPartitionsRevokedAfterCommit(consumer, partitions);
+        removeLags(partitions);
+    }
+
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        rebalanceListener.onPartitionsLost(consumer, partitions);
+        removeLags(partitions);
+    }
+
+    @Override
+    public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        rebalanceListener.onPartitionsAssigned(consumer, partitions);
+    }
+
+    private void removeLags(Collection<TopicPartition> partitions) {
+        for (TopicPartition partition : partitions) {
+            PartitionLag lag = lags.remove(partition);
+            if (lag != null) {
+                meterRegistry.remove(lag.gauge());
+            }
+        }
+    }
+
+    private void recordProcessing(ConsumerRecords<Object, Object> records, String result) {
+        Long startNanos = batchStartNanos.get();
+        if (startNanos == null) {
+            return;
+        }
+        batchStartNanos.remove();
+        processingTimer(topicsOf(records), result).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private DistributionSummary batchSize(String topic) {
+        return batchSizes.computeIfAbsent(topic, key -> DistributionSummary.builder("kafka.consumer.batch.size")
+            .description("poll 한 번에 받은 레코드 수")
+            .baseUnit("records")
+            .tag("listener", listenerId)
+            .tag("topic", topic)
+            .register(meterRegistry));
+    }
+
+    private Timer processingTimer(String topics, String result) {
+        return processingTimers.computeIfAbsent(topics + "|" + result, key -> Timer.builder("kafka.consumer.batch.processing")
+            .description("리스너가 배치 하나를 처리하는 데 걸린 시간")
+            .tag("listener", listenerId)
+            .tag("topic", topics)
+            .tag("result", result)
+            .register(meterRegistry));
+    }
+
+    private PartitionLag lag(TopicPartition partition) {
+        return lags.computeIfAbsent(partition, key -> {
+            AtomicLong lag = new AtomicLong();
+            Gauge gauge = Gauge.builder("kafka.consumer.lag", lag, AtomicLong::get)
+                .description("마지막 poll 시점의 파티션 lag")
+                .baseUnit("records")
+                .tag("listener", listenerId)
+                .tag("topic", partition.topic())
+                .tag("partition", String.valueOf(partition.partition()))
+                .register(meterRegistry);
+            return new PartitionLag(lag, gauge);
+        });
+    }
+
+    private static String topicsOf(ConsumerRecords<Object, Object> records) {
+        TreeSet<String> topics = new TreeSet<>();
+        records.partitions().forEach(partition -> topics.add(partition.topic()));
+        return String.join(",", topics);
+    }
+
+    private record PartitionLag(AtomicLong value, Gauge gauge) {}
+}
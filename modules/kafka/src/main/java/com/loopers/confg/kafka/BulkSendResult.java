@@ -0,0 +1,15 @@
+package com.loopers.confg.kafka;
+
+import java.util.List;
+
+/**
+ * {@link KafkaBulkSender#sendAll} 의 결과. 실패한 이벤트만 골라 다시 보낼 수 있도록 원본 이벤트와 원인을 함께 담는다.
+ */
+public record BulkSendResult<E>(int succeeded, List<Failure<E>> failures) {
+
+    public boolean isAllSucceeded() {
+        return failures.isEmpty();
+    }
+
+    public record Failure<E>(E event, Throwable cause) {}
+}
@@ -0,0 +1,54 @@
+package com.loopers.confg.kafka;
+
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * 여러 이벤트를 응답을 기다리지 않고 연달아 보낸 뒤, 하나의 완료로 묶어 돌려준다.
+ * producer 의 linger/batch 설정과 함께 쓰여, 이벤트가 브로커 요청 단위로 모여 전송된다.
+ */
+public class KafkaBulkSender {
+    private final KafkaTemplate<Object, Object> kafkaTemplate;
+
+    public KafkaBulkSender(KafkaTemplate<Object, Object> kafkaTemplate) {
+        this.kafkaTemplate = kafkaTemplate;
+    }
+
+    /**
+     * 반환된 future 는 모든 전송이 끝나면 정상 완료되며, 실패한 이벤트는 결과의 failures 에 담긴다.
+     */
+    public <E> CompletableFuture<BulkSendResult<E>> sendAll(String topic, Collection<? extends E> events, Function<? super E, String> keyExtractor) {
+        List<E> sentEvents = new ArrayList<>(events.size());
+        List<CompletableFuture<?>> sends = new ArrayList<>(events.size());
+        for (E event : events) {
+            sentEvents.add(event);
+            sends.add(send(topic, keyExtractor.apply(event), event));
+        }
+
+        return CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+            .handle((ignored, ignoredFailure) -> {
+                List<BulkSendResult.Failure<E>> failures = new ArrayList<>();
+                for (int i = 0; i < sends.size(); i++) {
+                    CompletableFuture<?> send = sends.get(i);
+                    if (send.isCompletedExceptionally()) {
+                        failures.add(new BulkSendResult.Failure<>(sentEvents.get(i), send.exceptionNow()));
+                    }
+                }
+                return new BulkSendResult<>(sends.size() - failures.size(), List.copyOf(failures));
+            });
+    }
+
+    private CompletableFuture<?> send(String topic, String key, Object event) {
+        try {
+            return kafkaTemplate.send(topic, key, event);
+        } catch (RuntimeException e) {
+            // 직렬화 실패나 buffer.memory 초과로 인한 max.block.ms 타임아웃은 send 호출 시점에 던져진다.
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
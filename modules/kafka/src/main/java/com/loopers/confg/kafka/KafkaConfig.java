@@ -1,19 +1,35 @@
 package com.loopers.confg.kafka;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.confg.kafka.backpressure.BackpressureCoordinator;
+import com.loopers.confg.kafka.backpressure.BackpressurePolicy;
+import com.loopers.confg.kafka.backpressure.SinkSaturationProbe;
+import com.loopers.confg.kafka.codec.NegotiatingEventSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.listener.CompositeBatchInterceptor;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
 import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.support.converter.BatchMessagingMessageConverter;
 import org.springframework.kafka.support.converter.ByteArrayJsonMessageConverter;
 
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @EnableKafka
@@ -21,6 +37,8 @@ import java.util.Map;
 @EnableConfigurationProperties(KafkaProperties.class)
 public class KafkaConfig {
     public static final String BATCH_LISTENER = "BATCH_LISTENER_DEFAULT";
+    public static final String THROUGHPUT_PRODUCER_FACTORY = "throughputProducerFactory";
+    public static final String THROUGHPUT_KAFKA_TEMPLATE = "throughputKafkaTemplate";
 
     public static final int MAX_POLLING_SIZE = 3000; // read 3000 msg
     public static final int FETCH_MIN_BYTES = (1024 * 1024); // 1mb
@@ -28,11 +46,50 @@ public class KafkaConfig {
     public static final int SESSION_TIMEOUT_MS = 60 * 1000; // session timeout = 1m
     public static final int HEARTBEAT_INTERVAL_MS = 20 * 1000; // heartbeat interval = 20s ( 1/3 of session_timeout )
     public static final int MAX_POLL_INTERVAL_MS = 2 * 60 * 1000; // max poll interval = 2m
+    public static final int BATCH_PROCESSOR_MAX_CONCURRENCY = 64; // 배치 내 key 별 병렬 처리 최대 동시 작업 수
 
+    public static final int PRODUCER_LINGER_MS = 20; // batch 를 채우기 위해 최대 20ms 대기
+    public static final int PRODUCER_BATCH_SIZE = 256 * 1024; // partition 별 batch = 256kb
+    public static final String PRODUCER_COMPRESSION_TYPE = "lz4"; // 압축률 대비 CPU 비용이 낮음
+    public static final long PRODUCER_BUFFER_MEMORY = 64L * 1024 * 1024; // 전송 대기 버퍼 = 64mb
+
+    @Primary
     @Bean
-    public ProducerFactory<Object, Object> producerFactory(KafkaProperties kafkaProperties) {
+    public ProducerFactory<Object, Object> producerFactory(
+            KafkaProperties kafkaProperties,
+            NegotiatingEventSerializer eventSerializer,
+            MeterRegistry meterRegistry
+    ) {
         Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties());
-        return new DefaultKafkaProducerFactory<>(props);
+        DefaultKafkaProducerFactory<Object, Object> producerFactory = new DefaultKafkaProducerFactory<>(props);
+        producerFactory.setValueSerializer(eventSerializer);
+        producerFactory.addListener(new MicrometerProducerListener<>(meterRegistry, List.of(Tag.of("producer", "default"))));
+        return producerFactory;
+    }
+
+    /**
+     * 지연보다 처리량을 우선하는 producer. 대량 발행 ({@link KafkaBulkSender}) 에 사용한다.
+     * 멱등성을 켜므로 재시도되어도 파티션 내 중복/순서 역전이 생기지 않는다.
+     */
+    @Bean(name = THROUGHPUT_PRODUCER_FACTORY)
+    public ProducerFactory<Object, Object> throughputProducerFactory(
+            KafkaProperties kafkaProperties,
+            NegotiatingEventSerializer eventSerializer,
+            MeterRegistry meterRegistry
+    ) {
+        Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties());
+        props.put(ProducerConfig.LINGER_MS_CONFIG, PRODUCER_LINGER_MS);
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, PRODUCER_BATCH_SIZE);
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, PRODUCER_COMPRESSION_TYPE);
+        props.put(ProducerConfig.BUFFER_MEMORY_CONFIG, PRODUCER_BUFFER_MEMORY);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5); // 멱등성이 보장되는 최대값
+        props.computeIfPresent(ProducerConfig.CLIENT_ID_CONFIG, (key, clientId) -> clientId + "-throughput"); // 기본 producer 와 메트릭이 섞이지 않도록 구분
+        DefaultKafkaProducerFactory<Object, Object> producerFactory = new DefaultKafkaProducerFactory<>(props);
+        producerFactory.setValueSerializer(eventSerializer);
+        producerFactory.addListener(new MicrometerProducerListener<>(meterRegistry, List.of(Tag.of("producer", "throughput"))));
+        return producerFactory;
     }
 
     @Bean
@@ -41,20 +98,57 @@ public class KafkaConfig {
         return new DefaultKafkaConsumerFactory<>(props);
     }
 
+    @Primary
     @Bean
     public KafkaTemplate<Object, Object> kafkaTemplate(ProducerFactory<Object, Object> producerFactory) {
         return new KafkaTemplate<>(producerFactory);
     }
 
+    @Bean(name = THROUGHPUT_KAFKA_TEMPLATE)
+    public KafkaTemplate<Object, Object> throughputKafkaTemplate(
+            @Qualifier(THROUGHPUT_PRODUCER_FACTORY) ProducerFactory<Object, Object> throughputProducerFactory
+    ) {
+        return new KafkaTemplate<>(throughputProducerFactory);
+    }
+
+    @Bean
+    public KafkaBulkSender kafkaBulkSender(@Qualifier(THROUGHPUT_KAFKA_TEMPLATE) KafkaTemplate<Object, Object> throughputKafkaTemplate) {
+        return new KafkaBulkSender(throughputKafkaTemplate);
+    }
+
     @Bean
     public ByteArrayJsonMessageConverter jsonMessageConverter(ObjectMapper objectMapper) {
         return new ByteArrayJsonMessageConverter(objectMapper);
     }
 
+    @Bean
+    public KeyOrderedBatchProcessor keyOrderedBatchProcessor() {
+        return new KeyOrderedBatchProcessor(BATCH_PROCESSOR_MAX_CONCURRENCY);
+    }
+
+    @Bean
+    public BackpressureCoordinator backpressureCoordinator(
+            MeterRegistry meterRegistry,
+            @Value("${kafka.backpressure.min-batch-size:100}") int minBatchSize,
+            @Value("${kafka.backpressure.target-batch-latency:5s}") Duration targetBatchLatency,
+            @Value("${kafka.backpressure.pause-batch-latency:30s}") Duration pauseBatchLatency,
+            @Value("${kafka.backpressure.max-pending-connections:10}") int maxPendingConnections,
+            @Value("${kafka.backpressure.min-pause:5s}") Duration minPause
+    ) {
+        BackpressurePolicy policy = new BackpressurePolicy(
+            minBatchSize, MAX_POLLING_SIZE, targetBatchLatency, pauseBatchLatency, maxPendingConnections, minPause
+        );
+        return new BackpressureCoordinator(policy, new SinkSaturationProbe(meterRegistry), meterRegistry);
+    }
+
     @Bean(name = BATCH_LISTENER)
     public ConcurrentKafkaListenerContainerFactory<Object, Object> defaultBatchListenerContainerFactory(
             KafkaProperties kafkaProperties,
-            ByteArrayJsonMessageConverter converter
+            ByteArrayJsonMessageConverter converter,
+            ObjectProvider<ConsumerAwareRebalanceListener> rebalanceListener,
+            MeterRegistry meterRegistry,
+            BackpressureCoordinator backpressureCoordinator,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled
     ) {
         Map<String, Object> consumerConfig = new HashMap<>(kafkaProperties.buildConsumerProperties());
         consumerConfig.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, MAX_POLLING_SIZE);
@@ -63,6 +157,8 @@ public class KafkaConfig {
         consumerConfig.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, SESSION_TIMEOUT_MS);
         consumerConfig.put(ConsumerConfig.HEARTBEAT_INTERVAL_MS_CONFIG, HEARTBEAT_INTERVAL_MS);
         consumerConfig.put(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, MAX_POLL_INTERVAL_MS);
+        consumerConfig.put(ConsumerConfig.INTERCEPTOR_CLASSES_CONFIG, PollToCommitInterceptor.class.getName());
+        consumerConfig.put(PollToCommitInterceptor.METER_REGISTRY_CONFIG, meterRegistry);
 
         ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(consumerConfig));
@@ -70,6 +166,21 @@ public class KafkaConfig {
         factory.setBatchMessageConverter(new BatchMessagingMessageConverter(converter));
         factory.setConcurrency(3);
         factory.setBatchListener(true);
+        // 지표는 줄이기 전의 poll 결과로 기록하고, 리스너에는 backpressure 로 줄인 배치를 넘긴다.
+        // 회수된 파티션의 lag gauge 를 지우도록 지표를 rebalance listener 로도 등록하고, 등록된 listener 에는 위임한다.
+        factory.setContainerCustomizer(container -> {
+            BatchListenerMetrics metrics = new BatchListenerMetrics(
+                container.getListenerId(), meterRegistry, rebalanceListener.getIfAvailable(() -> new ConsumerAwareRebalanceListener() {})
+            );
+            container.getContainerProperties().setConsumerRebalanceListener(metrics);
+            container.setBatchInterceptor(new CompositeBatchInterceptor<>(metrics, backpressureCoordinator.register(container)));
+        });
+        if (virtualThreadsEnabled) {
+            // 직접 구성한 factory 에는 spring.threads.virtual.enabled 가 자동 적용되지 않으므로 컨슈머 스레드를 가상 스레드로 지정한다.
+            SimpleAsyncTaskExecutor listenerTaskExecutor = new SimpleAsyncTaskExecutor(BATCH_LISTENER + "-");
+            listenerTaskExecutor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(listenerTaskExecutor);
+        }
         return factory;
     }
 }
@@ -0,0 +1,125 @@
+package com.loopers.confg.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+/**
+ * 한 번에 poll 된 배치를 레코드 key 별로 나누어 가상 스레드에서 병렬 처리한다.
+ * 같은 key 의 레코드는 poll 된 순서대로 하나의 작업에서 순차 처리되며, key 가 없는 레코드는 파티션 단위로 순서를 유지한다.
+ * 동시에 실행되는 작업 수는 maxConcurrency 로 제한한다. (모든 리스너 컨테이너가 공유)
+ */
+public class KeyOrderedBatchProcessor implements AutoCloseable {
+    private final ExecutorService executor;
+    private final Semaphore permits;
+
+    public KeyOrderedBatchProcessor(int maxConcurrency) {
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("kafka-batch-worker-", 0).factory());
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * 모든 레코드 처리가 끝난 뒤 반환한다. 하나라도 실패하면 나머지 작업이 끝나기를 기다린 후 첫 번째 예외를 던진다.
+     */
+    public <K, V> void process(List<ConsumerRecord<K, V>> records, Consumer<ConsumerRecord<K, V>> handler) {
+        Collection<List<ConsumerRecord<K, V>>> groups = groupByKey(records);
+        if (groups.size() <= 1) {
+            groups.forEach(group -> group.forEach(handler));
+            return;
+        }
+
+        List<Future<?>> futures = new ArrayList<>(groups.size());
+        try {
+            for (List<ConsumerRecord<K, V>> group : groups) {
+                permits.acquire();
+                futures.add(executor.submit(() -> {
+                    try {
+                        group.forEach(handler);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("배치 처리 작업 제출 중 인터럽트가 발생했습니다.", e);
+        }
+        awaitAll(futures);
+    }
+
+    /**
+     * 배치를 처리한 뒤, 모든 레코드가 성공한 경우에만 offset 을 커밋한다.
+     */
+    public <K, V> void processAndAcknowledge(
+        List<ConsumerRecord<K, V>> records,
+        Consumer<ConsumerRecord<K, V>> handler,
+        Acknowledgment acknowledgment
+    ) {
+        process(records, handler);
+        acknowledgment.acknowledge();
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    private <K, V> Collection<List<ConsumerRecord<K, V>>> groupByKey(List<ConsumerRecord<K, V>> records) {
+        Map<GroupKey, List<ConsumerRecord<K, V>>> groups = new LinkedHashMap<>();
+        for (ConsumerRecord<K, V> record : records) {
+            groups.computeIfAbsent(GroupKey.of(record), ignored -> new ArrayList<>()).add(record);
+        }
+        return groups.values();
+    }
+
+    private void awaitAll(List<Future<?>> futures) {
+        RuntimeException failure = null;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                RuntimeException cause = e.getCause() instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new IllegalStateException("배치 처리 작업이 실패했습니다.", e.getCause());
+                if (failure == null) {
+                    failure = cause;
+                } else {
+                    failure.addSuppressed(cause);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                throw new IllegalStateException("배치 처리 대기 중 인터럽트가 발생했습니다.", e);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private record GroupKey(String topic, Object key) {
+        static GroupKey of(ConsumerRecord<?, ?> record) {
+            Object key = record.key();
+            if (key == null) {
+                return new GroupKey(record.topic(), new PartitionKey(record.partition()));
+            }
+            // byte[] 는 내용 기준으로 비교되도록 감싼다.
+            return new GroupKey(record.topic(), key instanceof byte[] bytes ? ByteBuffer.wrap(bytes) : key);
+        }
+    }
+
+    private record PartitionKey(int partition) {}
+}
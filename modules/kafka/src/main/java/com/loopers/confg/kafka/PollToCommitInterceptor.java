@@ -0,0 +1,71 @@
+package com.loopers.confg.kafka;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerInterceptor;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 레코드가 poll 된 시점부터 해당 오프셋이 커밋될 때까지의 시간을 파티션별로 기록한다. (kafka.consumer.poll.to.commit)
+ * 수동 ack 의 실제 커밋 시점은 컨테이너 내부에서 결정되므로, 컨슈머 클라이언트의 interceptor 로 측정한다.
+ *
+ * Kafka 클라이언트가 직접 생성하므로, MeterRegistry 는 컨슈머 설정의 {@link #METER_REGISTRY_CONFIG} 로 전달받는다.
+ * 컨슈머 인스턴스마다 하나씩 만들어지고 컨슈머 스레드에서만 호출되므로 동기화하지 않는다.
+ */
+public class PollToCommitInterceptor implements ConsumerInterceptor<Object, Object> {
+    public static final String METER_REGISTRY_CONFIG = "loopers.metrics.meter-registry";
+
+    private final Map<TopicPartition, Long> firstUncommittedPollNanos = new HashMap<>();
+    private final Map<String, Timer> timers = new HashMap<>();
+    private MeterRegistry meterRegistry;
+    private String groupId;
+
+    @Override
+    public void configure(Map<String, ?> configs) {
+        this.meterRegistry = (MeterRegistry) configs.get(METER_REGISTRY_CONFIG);
+        this.groupId = String.valueOf(configs.get(ConsumerConfig.GROUP_ID_CONFIG));
+    }
+
+    @Override
+    public ConsumerRecords<Object, Object> onConsume(ConsumerRecords<Object, Object> records) {
+        long now = System.nanoTime();
+        for (TopicPartition partition : records.partitions()) {
+            firstUncommittedPollNanos.putIfAbsent(partition, now);
+        }
+        return records;
+    }
+
+    @Override
+    public void onCommit(Map<TopicPartition, OffsetAndMetadata> offsets) {
+        if (meterRegistry == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        for (TopicPartition partition : offsets.keySet()) {
+            Long polledAt = firstUncommittedPollNanos.remove(partition);
+            if (polledAt != null) {
+                timer(partition.topic()).record(now - polledAt, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        firstUncommittedPollNanos.clear();
+    }
+
+    private Timer timer(String topic) {
+        return timers.computeIfAbsent(topic, key -> Timer.builder("kafka.consumer.poll.to.commit")
+            .description("레코드가 poll 된 뒤 오프셋이 커밋되기까지의 시간")
+            .tag("group", groupId)
+            .tag("topic", topic)
+            .register(meterRegistry));
+    }
+}
@@ -0,0 +1,148 @@
+package com.loopers.confg.kafka.backpressure;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * 리스너 컨테이너 하나의 유량을 조절한다.
+ *
+ * 1. 배치 크기 : 배치가 끝날 때마다 처리 시간과 sink 포화도를 보고, 넘치면 절반으로 줄이고 여유가 있으면 minBatchSize 만큼 늘린다.
+ *    poll 된 레코드가 현재 배치 크기보다 많으면 파티션별로 비례해서 앞부분만 넘기고, 나머지는 seek 하여 다음 poll 에서 다시 받는다.
+ * 2. 일시 정지 : sink 가 포화되었거나 배치가 pauseBatchLatency 를 넘기면 컨테이너를 pause 한다.
+ *    pause 중에도 컨테이너는 poll 을 계속하므로 리밸런싱되지 않는다. 재개 여부는 {@link #evaluate()} 가 주기적으로 판단한다.
+ */
+@Slf4j
+public class BackpressureController implements BatchInterceptor<Object, Object> {
+    private final MessageListenerContainer container;
+    private final String listenerId;
+    private final BackpressurePolicy policy;
+    private final SinkSaturationProbe saturationProbe;
+    private final LongSupplier nanoClock;
+    private final Runnable onPause;
+
+    private final AtomicInteger batchLimit;
+    private final AtomicBoolean paused = new AtomicBoolean();
+    private final ThreadLocal<Long> batchStartNanos = new ThreadLocal<>();
+    private volatile long pausedAtNanos;
+
+    public BackpressureController(
+        MessageListenerContainer container,
+        BackpressurePolicy policy,
+        SinkSaturationProbe saturationProbe,
+        LongSupplier nanoClock,
+        Runnable onPause
+    ) {
+        this.container = container;
+        this.listenerId = container.getListenerId();
+        this.policy = policy;
+        this.saturationProbe = saturationProbe;
+        this.nanoClock = nanoClock;
+        this.onPause = onPause;
+        this.batchLimit = new AtomicInteger(policy.maxBatchSize());
+    }
+
+    public int batchLimit() {
+        return batchLimit.get();
+    }
+
+    public boolean isPaused() {
+        return paused.get();
+    }
+
+    @Override
+    public ConsumerRecords<Object, Object> intercept(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+        batchStartNanos.set(nanoClock.getAsLong());
+        return limit(records, consumer, batchLimit.get());
+    }
+
+    @Override
+    public void success(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+        onBatchCompleted();
+    }
+
+    @Override
+    public void failure(ConsumerRecords<Object, Object> records, Exception exception, Consumer<Object, Object> consumer) {
+        onBatchCompleted();
+    }
+
+    /**
+     * 정지 중이면, 최소 정지 시간이 지났고 sink 가 회복되었을 때 재개한다.
+     */
+    public void evaluate() {
+        if (!paused.get() || nanoClock.getAsLong() - pausedAtNanos < policy.minPause().toNanos()) {
+            return;
+        }
+        if (isSaturated()) {
+            return;
+        }
+        if (paused.compareAndSet(true, false)) {
+            container.resume();
+            log.info("sink 가 회복되어 리스너를 재개합니다. (listener = {}, batchLimit = {})", listenerId, batchLimit.get());
+        }
+    }
+
+    private void onBatchCompleted() {
+        Long startNanos = batchStartNanos.get();
+        if (startNanos == null) {
+            return;
+        }
+        batchStartNanos.remove();
+        long elapsedNanos = nanoClock.getAsLong() - startNanos;
+        boolean saturated = isSaturated();
+
+        if (saturated || elapsedNanos > policy.targetBatchLatency().toNanos()) {
+            batchLimit.updateAndGet(limit -> Math.max(policy.minBatchSize(), limit / 2));
+        } else {
+            batchLimit.updateAndGet(limit -> Math.min(policy.maxBatchSize(), limit + policy.minBatchSize()));
+        }
+        if (saturated || elapsedNanos > policy.pauseBatchLatency().toNanos()) {
+            pause(elapsedNanos);
+        }
+    }
+
+    private void pause(long elapsedNanos) {
+        if (paused.compareAndSet(false, true)) {
+            pausedAtNanos = nanoClock.getAsLong();
+            container.pause();
+            onPause.run();
+            log.warn("sink 가 포화되어 리스너를 일시 정지합니다. (listener = {}, batchElapsedMs = {}, pendingConnections = {}, batchLimit = {})",
+                listenerId, elapsedNanos / 1_000_000, saturationProbe.pendingConnections(), batchLimit.get());
+        }
+    }
+
+    private boolean isSaturated() {
+        return saturationProbe.pendingConnections() > policy.maxPendingConnections();
+    }
+
+    /**
+     * 파티션별 레코드 수에 비례해 앞부분만 남기고, 남기지 못한 파티션은 첫 번째로 빠진 오프셋으로 되돌린다.
+     */
+    static <K, V> ConsumerRecords<K, V> limit(ConsumerRecords<K, V> records, Consumer<K, V> consumer, int limit) {
+        int total = records.count();
+        if (total <= limit) {
+            return records;
+        }
+        Map<TopicPartition, List<ConsumerRecord<K, V>>> kept = new LinkedHashMap<>();
+        for (TopicPartition partition : records.partitions()) {
+            List<ConsumerRecord<K, V>> partitionRecords = records.records(partition);
+            int take = (int) Math.max(1, (long) partitionRecords.size() * limit / total);
+            if (take < partitionRecords.size()) {
+                consumer.seek(partition, partitionRecords.get(take).offset());
+            }
+            kept.put(partition, partitionRecords.subList(0, Math.min(take, partitionRecords.size())));
+        }
+        return new ConsumerRecords<>(kept);
+    }
+}
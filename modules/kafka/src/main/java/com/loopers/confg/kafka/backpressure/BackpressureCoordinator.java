@@ -0,0 +1,71 @@
+package com.loopers.confg.kafka.backpressure;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리스너 컨테이너마다 {@link BackpressureController} 를 만들고, 정지된 컨테이너의 재개 여부를 주기적으로 판단한다.
+ * 컨테이너별 상태는 다음 지표로 노출한다.
+ * - kafka.consumer.backpressure.batch.limit : 현재 배치 크기
+ * - kafka.consumer.backpressure.paused : 정지 여부 (1 = 정지)
+ * - kafka.consumer.backpressure.pauses : 정지 횟수
+ */
+@Slf4j
+public class BackpressureCoordinator implements AutoCloseable {
+    private static final long EVALUATE_INTERVAL_MS = 1_000;
+
+    private final BackpressurePolicy policy;
+    private final SinkSaturationProbe saturationProbe;
+    private final MeterRegistry meterRegistry;
+    private final List<BackpressureController> controllers = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduler;
+
+    public BackpressureCoordinator(BackpressurePolicy policy, SinkSaturationProbe saturationProbe, MeterRegistry meterRegistry) {
+        this.policy = policy;
+        this.saturationProbe = saturationProbe;
+        this.meterRegistry = meterRegistry;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("kafka-backpressure").daemon().factory());
+        this.scheduler.scheduleWithFixedDelay(this::evaluateAll, EVALUATE_INTERVAL_MS, EVALUATE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    public BackpressureController register(MessageListenerContainer container) {
+        String listenerId = container.getListenerId();
+        Counter pauses = Counter.builder("kafka.consumer.backpressure.pauses")
+            .tag("listener", listenerId)
+            .register(meterRegistry);
+        BackpressureController controller = new BackpressureController(container, policy, saturationProbe, System::nanoTime, pauses::increment);
+        Gauge.builder("kafka.consumer.backpressure.batch.limit", controller, BackpressureController::batchLimit)
+            .tag("listener", listenerId)
+            .baseUnit("records")
+            .register(meterRegistry);
+        Gauge.builder("kafka.consumer.backpressure.paused", controller, c -> c.isPaused() ? 1 : 0)
+            .tag("listener", listenerId)
+            .register(meterRegistry);
+        controllers.add(controller);
+        return controller;
+    }
+
+    private void evaluateAll() {
+        for (BackpressureController controller : controllers) {
+            try {
+                controller.evaluate();
+            } catch (RuntimeException e) {
+                log.warn("리스너 재개 여부를 판단하지 못했습니다.", e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
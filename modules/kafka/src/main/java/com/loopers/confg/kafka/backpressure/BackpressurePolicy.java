@@ -0,0 +1,26 @@
+package com.loopers.confg.kafka.backpressure;
+
+import java.time.Duration;
+
+/**
+ * @param minBatchSize          줄일 수 있는 배치 크기의 하한
+ * @param maxBatchSize          늘릴 수 있는 배치 크기의 상한 (max.poll.records)
+ * @param targetBatchLatency    배치 하나의 목표 처리 시간. 넘으면 배치 크기를 절반으로 줄이고, 못 미치면 조금씩 늘린다.
+ * @param pauseBatchLatency     배치 하나가 이보다 오래 걸리면 컨테이너를 일시 정지한다. (max.poll.interval 보다 충분히 작게)
+ * @param maxPendingConnections 커넥션을 기다리는 스레드가 이보다 많으면 sink 가 포화된 것으로 본다.
+ * @param minPause              한 번 정지하면 최소한 이 시간만큼은 쉰 뒤 재개 여부를 판단한다.
+ */
+public record BackpressurePolicy(
+    int minBatchSize,
+    int maxBatchSize,
+    Duration targetBatchLatency,
+    Duration pauseBatchLatency,
+    int maxPendingConnections,
+    Duration minPause
+) {
+    public BackpressurePolicy {
+        if (minBatchSize < 1 || minBatchSize > maxBatchSize) {
+            throw new IllegalArgumentException("배치 크기는 1 <= minBatchSize <= maxBatchSize 여야 합니다.");
+        }
+    }
+}
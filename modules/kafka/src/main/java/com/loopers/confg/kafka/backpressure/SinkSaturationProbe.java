@@ -0,0 +1,27 @@
+package com.loopers.confg.kafka.backpressure;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * sink 의 포화 정도를 이미 수집 중인 메트릭에서 읽는다.
+ * DB 는 Hikari 풀별 커넥션 대기 스레드 수 (hikaricp.connections.pending) 중 가장 큰 값을 사용한다.
+ * Redis 등 그 밖의 sink 지연은 리스너의 배치 처리 시간에 함께 반영된다.
+ */
+public class SinkSaturationProbe {
+    private static final String HIKARI_PENDING = "hikaricp.connections.pending";
+
+    private final MeterRegistry meterRegistry;
+
+    public SinkSaturationProbe(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public double pendingConnections() {
+        return meterRegistry.find(HIKARI_PENDING).gauges().stream()
+            .mapToDouble(Gauge::value)
+            .filter(Double::isFinite)
+            .max()
+            .orElse(0);
+    }
+}
@@ -0,0 +1,49 @@
+package com.loopers.confg.kafka.codec;
+
+/**
+ * 바이너리 이벤트의 고정 길이 머리말.
+ * <pre>
+ * [0]      magic
+ * [1..2]   type id
+ * [3]      schema version
+ * [4..11]  routing key
+ * [12..]   본문
+ * </pre>
+ * 라우팅에만 필요한 값은 본문을 해석하거나 객체를 만들지 않고 고정 위치에서 바로 읽는다.
+ */
+public final class BinaryEnvelope {
+    public static final byte MAGIC = (byte) 0xB1;
+    static final int TYPE_ID_OFFSET = 1;
+    static final int SCHEMA_VERSION_OFFSET = 3;
+    static final int ROUTING_KEY_OFFSET = 4;
+    public static final int BODY_OFFSET = 12;
+
+    private BinaryEnvelope() {}
+
+    public static boolean isBinary(byte[] bytes) {
+        return bytes != null && bytes.length >= BODY_OFFSET && bytes[0] == MAGIC;
+    }
+
+    public static short typeId(byte[] bytes) {
+        return (short) (((bytes[TYPE_ID_OFFSET] & 0xFF) << 8) | (bytes[TYPE_ID_OFFSET + 1] & 0xFF));
+    }
+
+    public static byte schemaVersion(byte[] bytes) {
+        return bytes[SCHEMA_VERSION_OFFSET];
+    }
+
+    public static long routingKey(byte[] bytes) {
+        long value = 0;
+        for (int i = ROUTING_KEY_OFFSET; i < BODY_OFFSET; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+
+    static void writeHeader(BinaryWriter writer, short typeId, byte schemaVersion, long routingKey) {
+        writer.writeByte(MAGIC)
+            .writeShort(typeId)
+            .writeByte(schemaVersion)
+            .writeLong(routingKey);
+    }
+}
@@ -0,0 +1,78 @@
+package com.loopers.confg.kafka.codec;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link BinaryWriter} 로 쓴 바이트 배열을 복사하지 않고 앞에서부터 읽는다.
+ */
+public class BinaryReader {
+    private final byte[] buffer;
+    private int position;
+
+    public BinaryReader(byte[] buffer, int offset) {
+        this.buffer = buffer;
+        this.position = offset;
+    }
+
+    public byte readByte() {
+        return buffer[position++];
+    }
+
+    public short readShort() {
+        return (short) (((buffer[position++] & 0xFF) << 8) | (buffer[position++] & 0xFF));
+    }
+
+    public long readLong() {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (buffer[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    public int readVarInt() {
+        return Math.toIntExact(readVarLong());
+    }
+
+    public long readVarLong() {
+        long raw = readUnsignedVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public String readString() {
+        long length = readUnsignedVarLong();
+        if (length == 0) {
+            return null;
+        }
+        int size = Math.toIntExact(length - 1);
+        String value = new String(buffer, position, size, StandardCharsets.UTF_8);
+        position += size;
+        return value;
+    }
+
+    /**
+     * 이전 스키마 버전으로 쓰인 본문에는 뒤에 추가된 필드가 없으므로, 읽기 전에 남은 바이트가 있는지 확인한다.
+     */
+    public boolean hasRemaining() {
+        return position < buffer.length;
+    }
+
+    private long readUnsignedVarLong() {
+        long value = 0;
+        int shift = 0;
+        byte current;
+        do {
+            if (shift > 63) {
+                throw new IllegalArgumentException("잘못된 varint 입니다.");
+            }
+            current = buffer[position++];
+            value |= (long) (current & 0x7F) << shift;
+            shift += 7;
+        } while ((current & 0x80) != 0);
+        return value;
+    }
+}
@@ -0,0 +1,33 @@
+package com.loopers.confg.kafka.codec;
+
+/**
+ * 이벤트 타입 하나의 바이너리 스키마.
+ *
+ * 스키마를 바꿀 때는 schemaVersion 을 올리고 필드는 끝에만 추가한다.
+ * decode 는 자신보다 낮은 버전으로 쓰인 본문도 읽을 수 있어야 한다. (없는 필드는 기본값)
+ */
+public interface EventCodec<T> {
+
+    Class<T> type();
+
+    /**
+     * 토픽 전체에서 이벤트 타입을 구분하는 값. 한 번 정하면 바꾸지 않는다.
+     */
+    short typeId();
+
+    /**
+     * outbox 의 event_type 이자 {@code event-type} 헤더 값. outbox 릴레이는 이 이름으로 payload 를 읽을 타입을 찾는다.
+     */
+    String eventType();
+
+    byte schemaVersion();
+
+    /**
+     * 본문을 해석하지 않고 읽을 수 있도록 envelope 에 기록할 라우팅 값. (예: 엔티티 ID)
+     */
+    long routingKey(T event);
+
+    void encode(T event, BinaryWriter writer);
+
+    T decode(BinaryReader reader, byte schemaVersion);
+}
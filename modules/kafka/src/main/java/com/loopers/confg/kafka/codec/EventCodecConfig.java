@@ -0,0 +1,37 @@
+package com.loopers.confg.kafka.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.Set;
+
+/**
+ * 애플리케이션에 등록된 {@link EventCodec} 빈들로 바이너리 코덱을 구성한다.
+ * kafka.codec.binary-topics 에 지정한 토픽만 바이너리로 보내며, 나머지는 기존과 같은 JSON 이다.
+ */
+@Configuration
+public class EventCodecConfig {
+
+    @Bean
+    public EventCodecRegistry eventCodecRegistry(ObjectProvider<EventCodec<?>> codecs) {
+        return new EventCodecRegistry(codecs.orderedStream().toList());
+    }
+
+    @Bean
+    public NegotiatingEventSerializer eventSerializer(
+        EventCodecRegistry eventCodecRegistry,
+        ObjectMapper objectMapper,
+        @Value("${kafka.codec.binary-topics:}") Set<String> binaryTopics
+    ) {
+        return new NegotiatingEventSerializer(eventCodecRegistry, new JsonSerializer<>(objectMapper).noTypeInfo(), binaryTopics);
+    }
+
+    @Bean
+    public EventPayloadReader eventPayloadReader(EventCodecRegistry eventCodecRegistry, ObjectMapper objectMapper) {
+        return new EventPayloadReader(eventCodecRegistry, objectMapper);
+    }
+}
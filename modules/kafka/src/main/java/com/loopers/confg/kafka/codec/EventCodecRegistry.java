@@ -0,0 +1,69 @@
+package com.loopers.confg.kafka.codec;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 등록된 {@link EventCodec} 으로 이벤트를 envelope 와 함께 인코딩/디코딩한다.
+ */
+public class EventCodecRegistry {
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    private final Map<Class<?>, EventCodec<?>> codecsByType = new HashMap<>();
+    private final Map<Short, EventCodec<?>> codecsByTypeId = new HashMap<>();
+    private final Map<String, EventCodec<?>> codecsByEventType = new HashMap<>();
+    private final ThreadLocal<BinaryWriter> writers = ThreadLocal.withInitial(() -> new BinaryWriter(INITIAL_BUFFER_SIZE));
+
+    public EventCodecRegistry(Collection<? extends EventCodec<?>> codecs) {
+        for (EventCodec<?> codec : codecs) {
+            EventCodec<?> duplicated = codecsByTypeId.put(codec.typeId(), codec);
+            if (duplicated != null) {
+                throw new IllegalStateException("이벤트 type id 가 중복되었습니다. (typeId = " + codec.typeId()
+                    + ", " + duplicated.type().getName() + ", " + codec.type().getName() + ")");
+            }
+            codecsByType.put(codec.type(), codec);
+            codecsByEventType.put(codec.eventType(), codec);
+        }
+    }
+
+    /**
+     * @return 이벤트 타입 이름에 해당하는 이벤트 클래스. 등록된 코덱이 없으면 null.
+     */
+    public Class<?> typeOf(String eventType) {
+        EventCodec<?> codec = codecsByEventType.get(eventType);
+        return codec == null ? null : codec.type();
+    }
+
+    public boolean supports(Class<?> type) {
+        return codecsByType.containsKey(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> byte[] encode(T event) {
+        EventCodec<T> codec = (EventCodec<T>) codecsByType.get(event.getClass());
+        if (codec == null) {
+            throw new IllegalArgumentException("바이너리 코덱이 등록되지 않은 이벤트입니다. (type = " + event.getClass().getName() + ")");
+        }
+        BinaryWriter writer = writers.get().reset();
+        BinaryEnvelope.writeHeader(writer, codec.typeId(), codec.schemaVersion(), codec.routingKey(event));
+        codec.encode(event, writer);
+        return writer.toByteArray();
+    }
+
+    public <T> T decode(byte[] bytes, Class<T> type) {
+        if (!BinaryEnvelope.isBinary(bytes)) {
+            throw new IllegalArgumentException("바이너리 이벤트가 아닙니다.");
+        }
+        EventCodec<?> codec = codecsByTypeId.get(BinaryEnvelope.typeId(bytes));
+        if (codec == null || !type.isAssignableFrom(codec.type())) {
+            throw new IllegalArgumentException("type id " + BinaryEnvelope.typeId(bytes) + " 를 " + type.getName() + " 로 읽을 수 없습니다.");
+        }
+        byte version = BinaryEnvelope.schemaVersion(bytes);
+        if (version > codec.schemaVersion()) {
+            throw new IllegalArgumentException("지원하지 않는 스키마 버전입니다. (type = " + codec.type().getName()
+                + ", version = " + version + ", supported = " + codec.schemaVersion() + ")");
+        }
+        return type.cast(codec.decode(new BinaryReader(bytes, BinaryEnvelope.BODY_OFFSET), version));
+    }
+}
@@ -0,0 +1,41 @@
+package com.loopers.confg.kafka.codec;
+
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 레코드 값의 형식을 알리는 헤더. 헤더가 없는 레코드는 기존처럼 JSON 으로 본다.
+ */
+public enum EventContentType {
+    JSON("application/json"),
+    BINARY("application/x-loopers-event");
+
+    public static final String HEADER = "content-type";
+
+    private final String value;
+    private final byte[] bytes;
+
+    EventContentType(String value) {
+        this.value = value;
+        this.bytes = value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public String value() {
+        return value;
+    }
+
+    void writeTo(Headers headers) {
+        headers.remove(HEADER);
+        headers.add(HEADER, bytes);
+    }
+
+    public static EventContentType of(Headers headers) {
+        Header header = headers.lastHeader(HEADER);
+        if (header == null) {
+            return JSON;
+        }
+        return BINARY.value.equals(new String(header.value(), StandardCharsets.UTF_8)) ? BINARY : JSON;
+    }
+}
@@ -0,0 +1,43 @@
+package com.loopers.confg.kafka.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 레코드의 {@link EventContentType} 헤더에 따라 값을 바이너리 코덱 또는 JSON 으로 읽는다.
+ */
+public class EventPayloadReader {
+    private final EventCodecRegistry codecRegistry;
+    private final ObjectMapper objectMapper;
+
+    public EventPayloadReader(EventCodecRegistry codecRegistry, ObjectMapper objectMapper) {
+        this.codecRegistry = codecRegistry;
+        this.objectMapper = objectMapper;
+    }
+
+    public <T> T read(ConsumerRecord<?, ?> record, Class<T> type) {
+        byte[] bytes = bytesOf(record.value());
+        if (EventContentType.of(record.headers()) == EventContentType.BINARY) {
+            return codecRegistry.decode(bytes, type);
+        }
+        try {
+            return objectMapper.readValue(bytes, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException("JSON 이벤트를 읽을 수 없습니다. (topic = " + record.topic() + ", offset = " + record.offset() + ")", e);
+        }
+    }
+
+    private static byte[] bytesOf(Object value) {
+        if (value instanceof byte[] bytes) {
+            return bytes;
+        }
+        if (value instanceof String text) {
+            return text.getBytes(StandardCharsets.UTF_8);
+        }
+        throw new IllegalArgumentException("byte[] 또는 String 값만 읽을 수 있습니다. (type = " + (value == null ? null : value.getClass().getName()) + ")");
+    }
+}
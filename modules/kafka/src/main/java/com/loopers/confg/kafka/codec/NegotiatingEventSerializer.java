@@ -0,0 +1,50 @@
+package com.loopers.confg.kafka.codec;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.Set;
+
+/**
+ * 토픽별로 값의 형식을 골라 직렬화하고, 그 형식을 {@link EventContentType#HEADER} 헤더로 남긴다.
+ * 바이너리로 지정된 토픽이라도 코덱이 없는 이벤트는 JSON 으로 보내므로, 전환 기간 동안 두 형식이 한 토픽에 섞일 수 있다.
+ */
+public class NegotiatingEventSerializer implements Serializer<Object> {
+    private final EventCodecRegistry codecRegistry;
+    private final JsonSerializer<Object> jsonSerializer;
+    private final Set<String> binaryTopics;
+
+    public NegotiatingEventSerializer(EventCodecRegistry codecRegistry, JsonSerializer<Object> jsonSerializer, Set<String> binaryTopics) {
+        this.codecRegistry = codecRegistry;
+        this.jsonSerializer = jsonSerializer;
+        this.binaryTopics = Set.copyOf(binaryTopics);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        return serialize(topic, null, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (data == null) {
+            return null;
+        }
+        if (binaryTopics.contains(topic) && codecRegistry.supports(data.getClass())) {
+            if (headers != null) {
+                EventContentType.BINARY.writeTo(headers);
+            }
+            return codecRegistry.encode(data);
+        }
+        if (headers != null) {
+            EventContentType.JSON.writeTo(headers);
+        }
+        return jsonSerializer.serialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonSerializer.close();
+    }
+}
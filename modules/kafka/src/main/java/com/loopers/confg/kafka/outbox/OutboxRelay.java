@@ -0,0 +1,252 @@
+package com.loopers.confg.kafka.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.confg.kafka.codec.EventCodecRegistry;
+import com.loopers.infrastructure.outbox.OutboxMessage;
+import com.loopers.infrastructure.outbox.OutboxStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox 테이블의 미발행 이벤트를 Kafka 로 발행한다.
+ *
+ * 릴레이는 DB lease 를 가진 인스턴스 하나만 동작하며, 한 배치는 다음과 같이 처리된다.
+ * 1. lease 를 연장하고, 미발행 행을 seq 순으로 읽는다. 행을 잠그거나 트랜잭션을 열어 두지 않는다.
+ * 2. key 별 첫 이벤트들을 응답을 기다리지 않고 연달아 send 한 뒤 결과를 한꺼번에 기다리고, 다음 이벤트들로 넘어간다.
+ *    실패한 key 는 이번 배치에서 더 보내지 않으므로, 같은 key 의 뒤 이벤트가 앞 이벤트보다 먼저 발행되지 않는다.
+ * 3. 성공한 행만 한 번의 UPDATE 로 발행 완료 처리한다. 실패한 행은 다음 주기에 같은 key 의 뒤 이벤트보다 먼저 다시 발행된다.
+ *
+ * payload 는 코덱이 등록된 이벤트 타입이면 그 이벤트 객체로, 아니면 JSON 트리로 읽어 {@link OutboxRelayConfig} 의 직렬화기에 넘긴다.
+ * 따라서 바이너리로 지정된 토픽의 이벤트는 바이너리로, 그 외에는 저장된 JSON 그대로 발행된다.
+ *
+ * 발행은 at-least-once 이므로, 컨슈머는 {@link #HEADER_EVENT_ID} 로 중복을 걸러야 한다.
+ * lease 는 배치 하나의 발행 대기 시간보다 길어야 하며, 만료된 뒤 늦게 끝난 배치는 발행 완료 처리되지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true")
+public class OutboxRelay {
+    public static final String HEADER_EVENT_ID = "event-id";
+    public static final String HEADER_EVENT_TYPE = "event-type";
+    static final String LEASE_NAME = "outbox-relay";
+
+    private final OutboxStore outboxStore;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final EventCodecRegistry codecRegistry;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final Duration sendTimeout;
+    private final Duration leaseDuration;
+    private final String owner = UUID.randomUUID().toString();
+
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicLong leader = new AtomicLong();
+
+    public OutboxRelay(
+        OutboxStore outboxStore,
+        @Qualifier(OutboxRelayConfig.OUTBOX_KAFKA_TEMPLATE) KafkaTemplate<String, Object> kafkaTemplate,
+        EventCodecRegistry codecRegistry,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        @Value("${outbox.relay.batch-size:500}") int batchSize,
+        @Value("${outbox.relay.send-timeout:10s}") Duration sendTimeout,
+        @Value("${outbox.relay.lease-duration:30s}") Duration leaseDuration
+    ) {
+        if (leaseDuration.compareTo(sendTimeout.multipliedBy(2)) < 0) {
+            throw new IllegalArgumentException("outbox.relay.lease-duration 은 send-timeout 의 2배 이상이어야 합니다.");
+        }
+        this.outboxStore = outboxStore;
+        this.kafkaTemplate = kafkaTemplate;
+        this.codecRegistry = codecRegistry;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.sendTimeout = sendTimeout;
+        this.leaseDuration = leaseDuration;
+        this.publishedCounter = Counter.builder("outbox.relay.events")
+            .tag("result", "published")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.relay.events")
+            .tag("result", "failed")
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch")
+            .description("outbox 배치 하나를 읽고 발행하고 완료 처리하기까지의 시간")
+            .register(meterRegistry);
+        Gauge.builder("outbox.relay.lag", lagMillis, AtomicLong::get)
+            .description("가장 오래된 미발행 이벤트가 기록된 뒤 지난 시간")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+        Gauge.builder("outbox.relay.leader", leader, AtomicLong::get)
+            .description("이 인스턴스가 릴레이 lease 를 가지고 있으면 1")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 배치가 가득 차는 동안은 쉬지 않고 이어서 발행하여, 밀린 이벤트를 빠르게 소진한다.
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:500}")
+    public void relay() {
+        int relayed;
+        do {
+            if (!outboxStore.tryAcquireLease(LEASE_NAME, owner, leaseDuration)) {
+                leader.set(0);
+                return;
+            }
+            leader.set(1);
+            relayed = relayBatch();
+        } while (relayed == batchSize);
+    }
+
+    @PreDestroy
+    public void releaseLease() {
+        if (leader.get() == 1) {
+            outboxStore.releaseLease(LEASE_NAME, owner);
+        }
+    }
+
+    /**
+     * @return 발행 완료 처리한 이벤트 수. 일부라도 실패하면 0 을 반환하여 이번 주기를 끝낸다.
+     */
+    int relayBatch() {
+        Timer.Sample sample = Timer.start();
+        try {
+            List<OutboxMessage> batch = outboxStore.findUnpublished(batchSize);
+            if (batch.isEmpty()) {
+                lagMillis.set(0);
+                return 0;
+            }
+            lagMillis.set(Duration.between(batch.get(0).createdAt(), ZonedDateTime.now()).toMillis());
+
+            List<Long> publishedIds = publishInKeyOrder(batch);
+            int marked = outboxStore.markPublished(publishedIds, LEASE_NAME, owner);
+            if (marked < publishedIds.size()) {
+                log.warn("발행 중 릴레이 lease 를 잃어 발행 완료 처리하지 못했습니다. 다음 리더가 다시 발행합니다. (published = {}, marked = {})", publishedIds.size(), marked);
+                leader.set(0);
+                return 0;
+            }
+
+            publishedCounter.increment(publishedIds.size());
+            failedCounter.increment(batch.size() - publishedIds.size());
+            return publishedIds.size() == batch.size() ? batch.size() : 0;
+        } finally {
+            sample.stop(batchTimer);
+        }
+    }
+
+    /**
+     * key 별 대기열의 맨 앞 이벤트들을 한 차례로 보내고 결과를 기다린 뒤, 다음 이벤트들을 보낸다.
+     * key 가 없는 이벤트는 순서가 없으므로 첫 차례에 모두 보낸다. 배치 전체의 대기 시간은 send-timeout 을 넘지 않는다.
+     */
+    private List<Long> publishInKeyOrder(List<OutboxMessage> batch) {
+        Map<String, Deque<OutboxMessage>> queues = new LinkedHashMap<>();
+        List<OutboxMessage> round = new ArrayList<>();
+        for (OutboxMessage message : batch) {
+            if (message.messageKey() == null) {
+                round.add(message);
+            } else {
+                queues.computeIfAbsent(orderingKey(message), key -> new ArrayDeque<>()).add(message);
+            }
+        }
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        List<Long> publishedIds = new ArrayList<>(batch.size());
+        while (true) {
+            for (Iterator<Deque<OutboxMessage>> it = queues.values().iterator(); it.hasNext(); ) {
+                Deque<OutboxMessage> queue = it.next();
+                round.add(queue.poll());
+                if (queue.isEmpty()) {
+                    it.remove();
+                }
+            }
+            if (round.isEmpty() || System.nanoTime() >= deadline) {
+                return publishedIds;
+            }
+            List<CompletableFuture<SendResult<String, Object>>> sends = new ArrayList<>(round.size());
+            for (OutboxMessage message : round) {
+                sends.add(send(message));
+            }
+            for (int i = 0; i < round.size(); i++) {
+                OutboxMessage message = round.get(i);
+                if (await(message, sends.get(i), deadline)) {
+                    publishedIds.add(message.id());
+                } else if (message.messageKey() != null) {
+                    queues.remove(orderingKey(message));
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    return publishedIds;
+                }
+            }
+            round.clear();
+        }
+    }
+
+    private CompletableFuture<SendResult<String, Object>> send(OutboxMessage message) {
+        try {
+            return kafkaTemplate.send(toRecord(message));
+        } catch (JsonProcessingException | RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private boolean await(OutboxMessage message, CompletableFuture<SendResult<String, Object>> send, long deadline) {
+        try {
+            send.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("outbox 이벤트 발행에 실패했습니다. 같은 key 의 뒤 이벤트는 다음 주기로 미룹니다. (id = {}, topic = {}, key = {})",
+                message.id(), message.topic(), message.messageKey(), e);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String orderingKey(OutboxMessage message) {
+        return message.topic() + '\u0000' + message.messageKey();
+    }
+
+    private ProducerRecord<String, Object> toRecord(OutboxMessage message) throws JsonProcessingException {
+        ProducerRecord<String, Object> record = new ProducerRecord<>(message.topic(), message.messageKey(), payloadOf(message));
+        record.headers().add(HEADER_EVENT_ID, String.valueOf(message.id()).getBytes(StandardCharsets.UTF_8));
+        record.headers().add(HEADER_EVENT_TYPE, message.eventType().getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+
+    private Object payloadOf(OutboxMessage message) throws JsonProcessingException {
+        Class<?> type = codecRegistry.typeOf(message.eventType());
+        return objectMapper.readValue(message.payload(), type == null ? JsonNode.class : type);
+    }
+}
@@ -0,0 +1,37 @@
+package com.loopers.confg.kafka.outbox;
+
+import com.loopers.confg.kafka.codec.NegotiatingEventSerializer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * outbox.relay.enabled=true 인 애플리케이션에서만 릴레이를 구성한다.
+ * 값은 다른 producer 와 같은 {@link NegotiatingEventSerializer} 로 직렬화하므로, kafka.codec.binary-topics 설정이 outbox 이벤트에도 적용된다.
+ */
+@EnableScheduling
+@Configuration
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true")
+public class OutboxRelayConfig {
+    public static final String OUTBOX_KAFKA_TEMPLATE = "outboxKafkaTemplate";
+
+    @Bean(name = OUTBOX_KAFKA_TEMPLATE)
+    public KafkaTemplate<String, Object> outboxKafkaTemplate(KafkaProperties kafkaProperties, NegotiatingEventSerializer eventSerializer) {
+        Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties());
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true); // 재시도로 인한 브로커 측 중복/역전 방지
+        DefaultKafkaProducerFactory<String, Object> producerFactory = new DefaultKafkaProducerFactory<>(props);
+        producerFactory.setKeySerializer(new StringSerializer());
+        producerFactory.setValueSerializer(eventSerializer);
+        return new KafkaTemplate<>(producerFactory);
+    }
+}
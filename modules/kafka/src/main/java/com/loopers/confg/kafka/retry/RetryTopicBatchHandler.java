@@ -0,0 +1,185 @@
+package com.loopers.confg.kafka.retry;
+
+import com.loopers.confg.kafka.KeyOrderedBatchProcessor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * 배치 리스너에서 레코드 단위로 실패를 격리한다.
+ * 실패한 레코드는 재시도 토픽 (마지막에는 DLT) 으로 보내고 나머지 배치는 그대로 커밋하므로,
+ * 처리량은 실패한 레코드 수에 비례해서만 줄어든다.
+ *
+ * 재시도 토픽을 구독하는 리스너는 {@link #handleRetries} 를 사용한다. 아직 처리할 시각이 되지 않은 레코드를 만나면
+ * 그 앞까지만 커밋하고 나머지는 nack 하여, 컨슈머를 pause 한 채 남은 시간만큼 기다린 뒤 다시 받는다.
+ * (원본 토픽과 재시도 토픽은 서로 다른 리스너 컨테이너로 구독해야 원본 토픽이 막히지 않는다.)
+ */
+@Slf4j
+public class RetryTopicBatchHandler {
+    public static final String HEADER_ATTEMPT = "retry-attempt";
+    public static final String HEADER_DUE_AT = "retry-due-at";
+    public static final String HEADER_ORIGINAL_TOPIC = "retry-original-topic";
+    public static final String HEADER_EXCEPTION = "retry-exception";
+    private static final Set<String> RETRY_HEADERS = Set.of(HEADER_ATTEMPT, HEADER_DUE_AT, HEADER_ORIGINAL_TOPIC, HEADER_EXCEPTION);
+
+    private final KafkaTemplate<Object, Object> kafkaTemplate;
+    private final KeyOrderedBatchProcessor keyOrderedBatchProcessor;
+    private final RetryTopicPolicy policy;
+    private final Clock clock;
+    private final Counter retriedCounter;
+    private final Counter deadLetteredCounter;
+
+    public RetryTopicBatchHandler(
+        KafkaTemplate<Object, Object> kafkaTemplate,
+        KeyOrderedBatchProcessor keyOrderedBatchProcessor,
+        RetryTopicPolicy policy,
+        MeterRegistry meterRegistry,
+        Clock clock
+    ) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.keyOrderedBatchProcessor = keyOrderedBatchProcessor;
+        this.policy = policy;
+        this.clock = clock;
+        this.retriedCounter = Counter.builder("kafka.consumer.records.forwarded").tag("destination", "retry").register(meterRegistry);
+        this.deadLetteredCounter = Counter.builder("kafka.consumer.records.forwarded").tag("destination", "dlt").register(meterRegistry);
+    }
+
+    /**
+     * 원본 토픽의 배치를 {@link KeyOrderedBatchProcessor} 로 key 별 병렬 처리한다.
+     * 실패한 레코드는 첫 번째 재시도 토픽으로 보내고, 모든 레코드를 커밋한다.
+     * key 의 순서를 지키기 위해, 실패한 레코드 뒤에 오는 같은 key 의 레코드는 처리하지 않고 함께 재시도 토픽으로 보낸다.
+     *
+     * 단, 이 순서 보장은 한 poll 의 배치 안에서만 성립한다. 실패한 key 는 기억해 두지 않으므로,
+     * 다음 poll 에 온 같은 key 의 레코드는 앞 레코드가 재시도 토픽에서 기다리는 동안 먼저 처리될 수 있다.
+     * 따라서 handler 는 같은 key 의 이벤트가 순서를 바꿔 도착해도 결과가 같도록 (버전 비교, 멱등 upsert 등) 작성해야 한다.
+     *
+     * @return 이번 배치에서 처리에 성공한 레코드. 재시도 토픽이나 DLT 로 보낸 레코드는 포함하지 않는다.
+     */
+    public <K, V> List<ConsumerRecord<K, V>> handle(List<ConsumerRecord<K, V>> records, Acknowledgment acknowledgment, Consumer<ConsumerRecord<K, V>> handler) {
+        Collection<CompletableFuture<?>> forwards = new ConcurrentLinkedQueue<>();
+        Set<Object> failedKeys = ConcurrentHashMap.newKeySet();
+        Set<ConsumerRecord<K, V>> handled = ConcurrentHashMap.newKeySet();
+        keyOrderedBatchProcessor.process(records, record -> {
+            if (record.key() != null && failedKeys.contains(record.key())) {
+                forwards.add(forward(record, new IllegalStateException("같은 key 의 앞선 레코드가 재시도 대기 중입니다.")));
+                return;
+            }
+            if (process(record, handler, forwards)) {
+                handled.add(record);
+            } else if (record.key() != null) {
+                failedKeys.add(record.key());
+            }
+        });
+        awaitAll(forwards);
+        acknowledgment.acknowledge();
+        return records.stream().filter(handled::contains).toList();
+    }
+
+    /**
+     * 재시도 토픽의 배치를 처리한다. records 는 nack 의 기준이 되므로 리스너가 받은 배치를 걸러내지 않고 그대로 넘겨야 한다.
+     */
+    public <K, V> void handleRetries(List<ConsumerRecord<K, V>> records, Acknowledgment acknowledgment, Consumer<ConsumerRecord<K, V>> handler) {
+        List<CompletableFuture<?>> forwards = new ArrayList<>();
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<K, V> record = records.get(i);
+            long waitMillis = dueAtOf(record) - clock.millis();
+            if (waitMillis > 0) {
+                awaitAll(forwards);
+                acknowledgment.nack(i, Duration.ofMillis(waitMillis));
+                return;
+            }
+            process(record, handler, forwards);
+        }
+        awaitAll(forwards);
+        acknowledgment.acknowledge();
+    }
+
+    /**
+     * @return 처리에 성공하면 true, 실패하여 다음 토픽으로 보냈으면 false
+     */
+    private <K, V> boolean process(ConsumerRecord<K, V> record, Consumer<ConsumerRecord<K, V>> handler, Collection<CompletableFuture<?>> forwards) {
+        try {
+            handler.accept(record);
+            return true;
+        } catch (RuntimeException e) {
+            forwards.add(forward(record, e));
+            return false;
+        }
+    }
+
+    private CompletableFuture<?> forward(ConsumerRecord<?, ?> record, RuntimeException cause) {
+        String originalTopic = headerOf(record, HEADER_ORIGINAL_TOPIC);
+        if (originalTopic == null) {
+            originalTopic = record.topic();
+        }
+        int attempt = attemptOf(record) + 1;
+        boolean exhausted = attempt > policy.maxAttempts();
+        String destination = exhausted ? policy.deadLetterTopic(originalTopic) : policy.retryTopic(originalTopic, attempt);
+
+        Headers headers = new RecordHeaders();
+        for (Header header : record.headers()) {
+            if (!RETRY_HEADERS.contains(header.key())) {
+                headers.add(header);
+            }
+        }
+        headers.add(HEADER_ORIGINAL_TOPIC, bytes(originalTopic));
+        headers.add(HEADER_EXCEPTION, bytes(cause.getClass().getName() + ": " + cause.getMessage()));
+        if (!exhausted) {
+            headers.add(HEADER_ATTEMPT, bytes(String.valueOf(attempt)));
+            headers.add(HEADER_DUE_AT, bytes(String.valueOf(clock.millis() + policy.delayOf(attempt).toMillis())));
+        }
+
+        log.warn("레코드 처리에 실패하여 {} 로 보냅니다. (topic = {}, partition = {}, offset = {})",
+            destination, record.topic(), record.partition(), record.offset(), cause);
+        (exhausted ? deadLetteredCounter : retriedCounter).increment();
+        return kafkaTemplate.send(new ProducerRecord<>(destination, null, record.key(), record.value(), headers));
+    }
+
+    /**
+     * 전달이 하나라도 실패하면 커밋하지 않고 예외를 던져, 배치 전체를 다시 받도록 한다.
+     */
+    private static void awaitAll(Collection<CompletableFuture<?>> forwards) {
+        if (!forwards.isEmpty()) {
+            CompletableFuture.allOf(forwards.toArray(CompletableFuture[]::new)).join();
+            forwards.clear();
+        }
+    }
+
+    private static int attemptOf(ConsumerRecord<?, ?> record) {
+        String attempt = headerOf(record, HEADER_ATTEMPT);
+        return attempt == null ? 0 : Integer.parseInt(attempt);
+    }
+
+    private static long dueAtOf(ConsumerRecord<?, ?> record) {
+        String dueAt = headerOf(record, HEADER_DUE_AT);
+        return dueAt == null ? 0 : Long.parseLong(dueAt);
+    }
+
+    private static String headerOf(ConsumerRecord<?, ?> record, String key) {
+        Header header = record.headers().lastHeader(key);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,65 @@
+package com.loopers.confg.kafka.retry;
+
+import com.loopers.confg.kafka.KeyOrderedBatchProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 재시도 토픽과 DLT 로 레코드를 전달하는 구성.
+ * 컨슈머가 받은 값 (byte[] 또는 String) 을 JSON 으로 다시 감싸지 않고 그대로 보내도록 타입별 serializer 를 사용한다.
+ * 재시도 토픽과 DLT 는 브로커에서 자동 생성되지 않으므로, 원본 토픽과 같은 파티션 수로 미리 만들어 두어야 한다.
+ */
+@Configuration
+public class RetryTopicConfig {
+    public static final String RETRY_KAFKA_TEMPLATE = "retryKafkaTemplate";
+
+    @Bean(name = RETRY_KAFKA_TEMPLATE)
+    public KafkaTemplate<Object, Object> retryKafkaTemplate(KafkaProperties kafkaProperties) {
+        Map<Class<?>, Serializer<?>> valueSerializers = new LinkedHashMap<>();
+        valueSerializers.put(byte[].class, new ByteArraySerializer());
+        valueSerializers.put(String.class, new StringSerializer());
+        valueSerializers.put(Object.class, new JsonSerializer<>());
+
+        Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties());
+        DefaultKafkaProducerFactory<Object, Object> producerFactory = new DefaultKafkaProducerFactory<>(props);
+        producerFactory.setValueSerializer(new DelegatingByTypeSerializer(valueSerializers, true));
+        return new KafkaTemplate<>(producerFactory);
+    }
+
+    @Bean
+    public RetryTopicPolicy retryTopicPolicy(
+        @Value("${kafka.retry.max-attempts:3}") int maxAttempts,
+        @Value("${kafka.retry.initial-delay:1s}") Duration initialDelay,
+        @Value("${kafka.retry.multiplier:4}") double multiplier,
+        @Value("${kafka.retry.max-delay:1m}") Duration maxDelay
+    ) {
+        return new RetryTopicPolicy(maxAttempts, initialDelay, multiplier, maxDelay);
+    }
+
+    @Bean
+    public RetryTopicBatchHandler retryTopicBatchHandler(
+        @Qualifier(RETRY_KAFKA_TEMPLATE) KafkaTemplate<Object, Object> retryKafkaTemplate,
+        KeyOrderedBatchProcessor keyOrderedBatchProcessor,
+        RetryTopicPolicy retryTopicPolicy,
+        MeterRegistry meterRegistry
+    ) {
+        return new RetryTopicBatchHandler(retryKafkaTemplate, keyOrderedBatchProcessor, retryTopicPolicy, meterRegistry, Clock.systemUTC());
+    }
+}
@@ -0,0 +1,35 @@
+package com.loopers.confg.kafka.retry;
+
+import java.time.Duration;
+
+/**
+ * 재시도 토픽 구성. attempt 번째 재시도는 {@code <원본 토픽>.retry-<attempt>} 토픽에서 delayOf(attempt) 만큼 지난 뒤 처리되며,
+ * maxAttempts 번 재시도해도 실패하면 {@code <원본 토픽>.DLT} 로 보낸다.
+ * 토픽마다 지연이 고정되어 있으므로, 한 파티션 안에서는 앞선 레코드가 항상 먼저 처리 가능해진다.
+ */
+public record RetryTopicPolicy(int maxAttempts, Duration initialDelay, double multiplier, Duration maxDelay) {
+    public static final String RETRY_TOPIC_SUFFIX = ".retry-";
+    public static final String DEAD_LETTER_TOPIC_SUFFIX = ".DLT";
+
+    public RetryTopicPolicy {
+        if (maxAttempts < 0) {
+            throw new IllegalArgumentException("maxAttempts 는 0 이상이어야 합니다.");
+        }
+        if (multiplier < 1) {
+            throw new IllegalArgumentException("multiplier 는 1 이상이어야 합니다.");
+        }
+    }
+
+    public Duration delayOf(int attempt) {
+        double delayMillis = initialDelay.toMillis() * Math.pow(multiplier, attempt - 1);
+        return Duration.ofMillis((long) Math.min(delayMillis, maxDelay.toMillis()));
+    }
+
+    public String retryTopic(String originalTopic, int attempt) {
+        return originalTopic + RETRY_TOPIC_SUFFIX + attempt;
+    }
+
+    public String deadLetterTopic(String originalTopic) {
+        return originalTopic + DEAD_LETTER_TOPIC_SUFFIX;
+    }
+}
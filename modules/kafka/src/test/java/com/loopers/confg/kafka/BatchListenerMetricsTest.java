@@ -0,0 +1,153 @@
+package com.loopers.confg.kafka;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BatchListenerMetricsTest {
+    private static final String LISTENER_ID = "test-listener";
+    private static final TopicPartition PARTITION_0 = new TopicPartition("test-topic", 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition("test-topic", 1);
+
+    @SuppressWarnings("unchecked")
+    private final Consumer<Object, Object> consumer = mock(Consumer.class);
+    private final ConsumerAwareRebalanceListener rebalanceListener = mock(ConsumerAwareRebalanceListener.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BatchListenerMetrics metrics = new BatchListenerMetrics(LISTENER_ID, meterRegistry, rebalanceListener);
+
+    @DisplayName("poll 결과를 받으면, 토픽별 레코드 수와 파티션별 lag 를 기록한다.")
+    @Test
+    void recordsBatchSizeAndLag_whenRecordsArePolled() {
+        // arrange
+        when(consumer.currentLag(PARTITION_0)).thenReturn(OptionalLong.of(42));
+        when(consumer.currentLag(PARTITION_1)).thenReturn(OptionalLong.of(7));
+
+        // act
+        metrics.intercept(records(3, 2), consumer);
+
+        // assert
+        assertAll(
+            () -> assertThat(meterRegistry.get("kafka.consumer.batch.size").tag("topic", "test-topic").summary().totalAmount()).isEqualTo(5),
+            () -> assertThat(lag(PARTITION_0)).isEqualTo(42),
+            () -> assertThat(lag(PARTITION_1)).isEqualTo(7)
+        );
+    }
+
+    @DisplayName("배치 처리가 끝나면, 결과별로 처리 시간을 기록한다.")
+    @Test
+    void recordsProcessingTimeByResult() {
+        // arrange
+        ConsumerRecords<Object, Object> records = records(1, 1);
+
+        // act
+        metrics.intercept(records, consumer);
+        metrics.success(records, consumer);
+        metrics.intercept(records, consumer);
+        metrics.failure(records, new IllegalStateException("failed"), consumer);
+
+        // assert
+        assertAll(
+            () -> assertThat(meterRegistry.get("kafka.consumer.batch.processing").tag("result", "success").timer().count()).isEqualTo(1),
+            () -> assertThat(meterRegistry.get("kafka.consumer.batch.processing").tag("result", "failure").timer().count()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("파티션이 회수되면, 그 파티션의 lag gauge 만 지우고 등록된 rebalance listener 에 위임한다.")
+    @Test
+    void removesLagGauge_whenPartitionIsRevoked() {
+        // arrange
+        when(consumer.currentLag(PARTITION_0)).thenReturn(OptionalLong.of(42));
+        when(consumer.currentLag(PARTITION_1)).thenReturn(OptionalLong.of(7));
+        metrics.intercept(records(1, 1), consumer);
+
+        // act
+        metrics.onPartitionsRevokedAfterCommit(consumer, List.of(PARTITION_0));
+
+        // assert
+        assertAll(
+            () -> assertThat(lagGaugePartitions()).containsExactly("1"),
+            () -> verify(rebalanceListener).onPartitionsRevokedAfterCommit(consumer, List.of(PARTITION_0))
+        );
+    }
+
+    @DisplayName("파티션을 잃으면, 그 파티션의 lag gauge 를 지운다.")
+    @Test
+    void removesLagGauge_whenPartitionIsLost() {
+        // arrange
+        when(consumer.currentLag(PARTITION_0)).thenReturn(OptionalLong.of(42));
+        metrics.intercept(records(1, 0), consumer);
+
+        // act
+        metrics.onPartitionsLost(consumer, List.of(PARTITION_0));
+
+        // assert
+        assertAll(
+            () -> assertThat(lagGaugePartitions()).isEmpty(),
+            () -> verify(rebalanceListener).onPartitionsLost(consumer, List.of(PARTITION_0))
+        );
+    }
+
+    @DisplayName("회수된 파티션을 다시 받으면, lag gauge 를 새로 등록한다.")
+    @Test
+    void registersLagGaugeAgain_whenPartitionIsReassigned() {
+        // arrange
+        when(consumer.currentLag(PARTITION_0)).thenReturn(OptionalLong.of(42), OptionalLong.of(3));
+        metrics.intercept(records(1, 0), consumer);
+        metrics.onPartitionsRevokedAfterCommit(consumer, List.of(PARTITION_0));
+
+        // act
+        metrics.onPartitionsAssigned(consumer, List.of(PARTITION_0));
+        metrics.intercept(records(1, 0), consumer);
+
+        // assert
+        assertAll(
+            () -> assertThat(lag(PARTITION_0)).isEqualTo(3),
+            () -> verify(rebalanceListener).onPartitionsAssigned(consumer, List.of(PARTITION_0))
+        );
+    }
+
+    private double lag(TopicPartition partition) {
+        return meterRegistry.get("kafka.consumer.lag")
+            .tag("listener", LISTENER_ID)
+            .tag("partition", String.valueOf(partition.partition()))
+            .gauge()
+            .value();
+    }
+
+    private List<String> lagGaugePartitions() {
+        return meterRegistry.find("kafka.consumer.lag").gauges().stream()
+            .map(gauge -> gauge.getId().getTag("partition"))
+            .toList();
+    }
+
+    private static ConsumerRecords<Object, Object> records(int partition0, int partition1) {
+        return new ConsumerRecords<>(Map.of(
+            PARTITION_0, recordsOf(PARTITION_0, partition0),
+            PARTITION_1, recordsOf(PARTITION_1, partition1)
+        ));
+    }
+
+    private static List<ConsumerRecord<Object, Object>> recordsOf(TopicPartition partition, int count) {
+        List<ConsumerRecord<Object, Object>> records = new ArrayList<>(count);
+        for (long offset = 0; offset < count; offset++) {
+            records.add(new ConsumerRecord<>(partition.topic(), partition.partition(), offset, "key", "value"));
+        }
+        return records;
+    }
+}
@@ -0,0 +1,67 @@
+package com.loopers.confg.kafka;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KafkaBulkSenderTest {
+    private static final String TOPIC = "test-topic";
+
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<Object, Object> kafkaTemplate = mock(KafkaTemplate.class);
+    private final KafkaBulkSender bulkSender = new KafkaBulkSender(kafkaTemplate);
+
+    @DisplayName("일부 이벤트 전송이 실패해도, 전체 결과는 정상 완료되고 실패한 이벤트만 담긴다.")
+    @Test
+    void collectsFailedEvents_whenSomeSendsFail() {
+        // arrange
+        RuntimeException failure = new RuntimeException("broker unavailable");
+        when(kafkaTemplate.send(eq(TOPIC), any(String.class), any()))
+            .thenReturn(sent());
+        when(kafkaTemplate.send(TOPIC, "2", "event-2")).thenReturn(CompletableFuture.failedFuture(failure));
+        when(kafkaTemplate.send(TOPIC, "3", "event-3")).thenThrow(new IllegalStateException("serialization failed"));
+
+        // act
+        BulkSendResult<String> result = bulkSender
+            .sendAll(TOPIC, List.of("event-1", "event-2", "event-3", "event-4"), event -> event.substring(6))
+            .join();
+
+        // assert
+        assertAll(
+            () -> assertThat(result.succeeded()).isEqualTo(2),
+            () -> assertThat(result.isAllSucceeded()).isFalse(),
+            () -> assertThat(result.failures()).extracting(BulkSendResult.Failure::event).containsExactly("event-2", "event-3"),
+            () -> assertThat(result.failures().get(0).cause()).isSameAs(failure)
+        );
+    }
+
+    @DisplayName("모든 이벤트 전송이 성공하면, 실패 목록이 비어 있다.")
+    @Test
+    void hasNoFailures_whenAllSendsSucceed() {
+        // arrange
+        when(kafkaTemplate.send(eq(TOPIC), any(String.class), any()))
+            .thenReturn(sent());
+
+        // act
+        BulkSendResult<String> result = bulkSender.sendAll(TOPIC, List.of("event-1", "event-2"), event -> event).join();
+
+        // assert
+        assertThat(result.isAllSucceeded()).isTrue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CompletableFuture<SendResult<Object, Object>> sent() {
+        return CompletableFuture.completedFuture(mock(SendResult.class));
+    }
+}
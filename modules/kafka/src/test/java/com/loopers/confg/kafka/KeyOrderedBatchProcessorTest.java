@@ -0,0 +1,76 @@
+package com.loopers.confg.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class KeyOrderedBatchProcessorTest {
+    private static final String TOPIC = "test-topic";
+
+    private final KeyOrderedBatchProcessor processor = new KeyOrderedBatchProcessor(4);
+
+    @AfterEach
+    void tearDown() {
+        processor.close();
+    }
+
+    @DisplayName("여러 key 가 섞인 배치를 처리하면, key 별로는 poll 된 순서대로 처리된다.")
+    @Test
+    void recordsWithSameKeyAreProcessedInOrder() {
+        // arrange
+        List<ConsumerRecord<String, Long>> records = new ArrayList<>();
+        for (long offset = 0; offset < 1_000; offset++) {
+            records.add(new ConsumerRecord<>(TOPIC, 0, offset, "key-" + (offset % 10), offset));
+        }
+        Map<String, List<Long>> processed = new ConcurrentHashMap<>();
+
+        // act
+        processor.process(records, record ->
+            processed.computeIfAbsent(record.key(), ignored -> new CopyOnWriteArrayList<>()).add(record.value())
+        );
+
+        // assert
+        assertAll(
+            () -> assertThat(processed).hasSize(10),
+            () -> processed.values().forEach(values -> assertThat(values).hasSize(100).isSorted())
+        );
+    }
+
+    @DisplayName("처리 중 하나라도 실패하면, 예외가 발생하고 offset 을 커밋하지 않는다.")
+    @Test
+    void doesNotAcknowledge_whenAnyRecordFails() {
+        // arrange
+        List<ConsumerRecord<String, Long>> records = List.of(
+            new ConsumerRecord<>(TOPIC, 0, 0L, "a", 0L),
+            new ConsumerRecord<>(TOPIC, 0, 1L, "b", 1L)
+        );
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+        // act
+        assertThrows(IllegalArgumentException.class, () ->
+            processor.processAndAcknowledge(records, record -> {
+                if (record.key().equals("b")) {
+                    throw new IllegalArgumentException("fail");
+                }
+            }, acknowledgment)
+        );
+
+        // assert
+        verify(acknowledgment, never()).acknowledge();
+    }
+}
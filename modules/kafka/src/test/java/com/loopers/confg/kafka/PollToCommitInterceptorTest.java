@@ -0,0 +1,95 @@
+package com.loopers.confg.kafka;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+class PollToCommitInterceptorTest {
+    private static final TopicPartition PARTITION_0 = new TopicPartition("test-topic", 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition("test-topic", 1);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PollToCommitInterceptor interceptor = new PollToCommitInterceptor();
+
+    {
+        interceptor.configure(Map.of(
+            PollToCommitInterceptor.METER_REGISTRY_CONFIG, meterRegistry,
+            ConsumerConfig.GROUP_ID_CONFIG, "test-group"
+        ));
+    }
+
+    @DisplayName("poll 된 파티션의 오프셋이 커밋되면, poll 부터 커밋까지의 시간을 기록한다.")
+    @Test
+    void recordsPollToCommit_whenPolledPartitionIsCommitted() {
+        // arrange
+        interceptor.onConsume(records(PARTITION_0, PARTITION_1));
+
+        // act
+        interceptor.onCommit(Map.of(PARTITION_0, new OffsetAndMetadata(1), PARTITION_1, new OffsetAndMetadata(1)));
+
+        // assert
+        Timer timer = meterRegistry.get("kafka.consumer.poll.to.commit").tag("group", "test-group").tag("topic", "test-topic").timer();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @DisplayName("커밋되기 전에 다시 poll 되어도, 처음 poll 된 시점부터 한 번만 기록한다.")
+    @Test
+    void recordsOnce_whenPartitionIsPolledAgainBeforeCommit() {
+        // arrange
+        interceptor.onConsume(records(PARTITION_0));
+        interceptor.onConsume(records(PARTITION_0));
+
+        // act
+        interceptor.onCommit(Map.of(PARTITION_0, new OffsetAndMetadata(2)));
+        interceptor.onCommit(Map.of(PARTITION_0, new OffsetAndMetadata(2)));
+
+        // assert
+        assertThat(meterRegistry.get("kafka.consumer.poll.to.commit").timer().count()).isEqualTo(1);
+    }
+
+    @DisplayName("poll 되지 않은 파티션의 커밋은 기록하지 않는다.")
+    @Test
+    void recordsNothing_whenCommittedPartitionWasNotPolled() {
+        // arrange
+        interceptor.onConsume(records(PARTITION_0));
+
+        // act
+        interceptor.onCommit(Map.of(PARTITION_1, new OffsetAndMetadata(1)));
+
+        // assert
+        assertThat(meterRegistry.find("kafka.consumer.poll.to.commit").timer()).isNull();
+    }
+
+    @DisplayName("MeterRegistry 가 설정되지 않았으면, 아무것도 기록하지 않는다.")
+    @Test
+    void recordsNothing_whenMeterRegistryIsNotConfigured() {
+        // arrange
+        PollToCommitInterceptor unconfigured = new PollToCommitInterceptor();
+        unconfigured.configure(Map.of(ConsumerConfig.GROUP_ID_CONFIG, "test-group"));
+        unconfigured.onConsume(records(PARTITION_0));
+
+        // act & assert
+        assertThatCode(() -> unconfigured.onCommit(Map.of(PARTITION_0, new OffsetAndMetadata(1)))).doesNotThrowAnyException();
+    }
+
+    private static ConsumerRecords<Object, Object> records(TopicPartition... partitions) {
+        Map<TopicPartition, List<ConsumerRecord<Object, Object>>> records = new HashMap<>();
+        for (TopicPartition partition : partitions) {
+            records.put(partition, List.of(new ConsumerRecord<>(partition.topic(), partition.partition(), 0L, "key", "value")));
+        }
+        return new ConsumerRecords<>(records);
+    }
+}
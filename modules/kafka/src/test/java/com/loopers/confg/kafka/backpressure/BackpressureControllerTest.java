@@ -0,0 +1,138 @@
+package com.loopers.confg.kafka.backpressure;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class BackpressureControllerTest {
+    private static final TopicPartition PARTITION_0 = new TopicPartition("test-topic", 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition("test-topic", 1);
+    private static final BackpressurePolicy POLICY = new BackpressurePolicy(
+        100, 1_000, Duration.ofSeconds(1), Duration.ofSeconds(10), 5, Duration.ofSeconds(3)
+    );
+
+    private final MessageListenerContainer container = mock(MessageListenerContainer.class);
+    @SuppressWarnings("unchecked")
+    private final Consumer<Object, Object> consumer = mock(Consumer.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong pendingConnections = new AtomicLong();
+    private final AtomicLong nanos = new AtomicLong();
+    private final BackpressureController controller = new BackpressureController(
+        container, POLICY, new SinkSaturationProbe(meterRegistry), nanos::get, () -> {}
+    );
+
+    {
+        Gauge.builder("hikaricp.connections.pending", pendingConnections, AtomicLong::get).register(meterRegistry);
+    }
+
+    @DisplayName("배치 처리가 목표 시간을 넘기면, 배치 크기를 절반으로 줄이고 다음 poll 에서는 줄인 만큼만 넘긴다.")
+    @Test
+    void halvesBatchLimit_whenBatchIsSlow() {
+        // arrange
+        runBatch(records(600, 600), Duration.ofSeconds(2));
+
+        // act
+        ConsumerRecords<Object, Object> limited = controller.intercept(records(600, 600), consumer);
+
+        // assert
+        assertAll(
+            () -> assertThat(controller.batchLimit()).isEqualTo(500),
+            () -> assertThat(limited.count()).isEqualTo(500),
+            () -> assertThat(limited.records(PARTITION_0)).hasSize(250),
+            () -> verify(consumer).seek(PARTITION_0, 250L),
+            () -> verify(consumer).seek(PARTITION_1, 250L)
+        );
+    }
+
+    @DisplayName("배치 처리가 목표 시간 안에 끝나면, 배치 크기를 최소 크기만큼 다시 늘린다.")
+    @Test
+    void growsBatchLimit_whenBatchIsFast() {
+        // arrange
+        runBatch(records(10, 10), Duration.ofSeconds(2));
+
+        // act
+        runBatch(records(10, 10), Duration.ofMillis(100));
+
+        // assert
+        assertThat(controller.batchLimit()).isEqualTo(600);
+    }
+
+    @DisplayName("커넥션 대기가 한도를 넘으면 정지하고, 최소 정지 시간이 지난 뒤 sink 가 회복되어야 재개한다.")
+    @Test
+    void pausesWhileSaturatedAndResumesAfterRecovery() {
+        // arrange
+        pendingConnections.set(20);
+        runBatch(records(10, 10), Duration.ofMillis(100));
+
+        // act
+        nanos.addAndGet(Duration.ofSeconds(5).toNanos());
+        controller.evaluate();
+        boolean pausedWhileSaturated = controller.isPaused();
+        pendingConnections.set(0);
+        controller.evaluate();
+
+        // assert
+        assertAll(
+            () -> verify(container).pause(),
+            () -> assertThat(pausedWhileSaturated).isTrue(),
+            () -> assertThat(controller.isPaused()).isFalse(),
+            () -> verify(container).resume()
+        );
+    }
+
+    @DisplayName("최소 정지 시간이 지나지 않았으면, sink 가 회복되어도 재개하지 않는다.")
+    @Test
+    void staysPausedDuringMinPause() {
+        // arrange
+        runBatch(records(10, 10), Duration.ofSeconds(11));
+
+        // act
+        nanos.addAndGet(Duration.ofSeconds(1).toNanos());
+        controller.evaluate();
+
+        // assert
+        assertAll(
+            () -> assertThat(controller.isPaused()).isTrue(),
+            () -> verify(container, never()).resume()
+        );
+    }
+
+    private void runBatch(ConsumerRecords<Object, Object> records, Duration elapsed) {
+        ConsumerRecords<Object, Object> limited = controller.intercept(records, consumer);
+        nanos.addAndGet(elapsed.toNanos());
+        controller.success(limited, consumer);
+    }
+
+    private static ConsumerRecords<Object, Object> records(int partition0, int partition1) {
+        return new ConsumerRecords<>(Map.of(
+            PARTITION_0, recordsOf(PARTITION_0, partition0),
+            PARTITION_1, recordsOf(PARTITION_1, partition1)
+        ));
+    }
+
+    private static List<ConsumerRecord<Object, Object>> recordsOf(TopicPartition partition, int count) {
+        List<ConsumerRecord<Object, Object>> records = new ArrayList<>(count);
+        for (long offset = 0; offset < count; offset++) {
+            records.add(new ConsumerRecord<>(partition.topic(), partition.partition(), offset, "key", "value"));
+        }
+        return records;
+    }
+}
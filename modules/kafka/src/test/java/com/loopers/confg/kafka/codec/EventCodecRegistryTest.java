@@ -0,0 +1,67 @@
+package com.loopers.confg.kafka.codec;
+
+import com.loopers.confg.kafka.codec.SampleEventCodec.SampleEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EventCodecRegistryTest {
+    private final EventCodecRegistry registry = new EventCodecRegistry(List.of(new SampleEventCodec((byte) 2)));
+
+    @DisplayName("인코딩한 이벤트를 디코딩하면, 같은 이벤트가 된다.")
+    @Test
+    void roundTripsEvent() {
+        // arrange
+        SampleEvent event = new SampleEvent(-42L, "설명 ✓", 3);
+
+        // act
+        SampleEvent decoded = registry.decode(registry.encode(event), SampleEvent.class);
+
+        // assert
+        assertThat(decoded).isEqualTo(event);
+    }
+
+    @DisplayName("본문을 디코딩하지 않고도, envelope 에서 type id 와 라우팅 값을 읽을 수 있다.")
+    @Test
+    void readsRoutingFieldsWithoutDecoding() {
+        // act
+        byte[] bytes = registry.encode(new SampleEvent(1234567890123L, null, 0));
+
+        // assert
+        assertAll(
+            () -> assertThat(BinaryEnvelope.isBinary(bytes)).isTrue(),
+            () -> assertThat(BinaryEnvelope.typeId(bytes)).isEqualTo(SampleEventCodec.TYPE_ID),
+            () -> assertThat(BinaryEnvelope.schemaVersion(bytes)).isEqualTo((byte) 2),
+            () -> assertThat(BinaryEnvelope.routingKey(bytes)).isEqualTo(1234567890123L)
+        );
+    }
+
+    @DisplayName("이전 스키마 버전으로 쓴 이벤트는, 추가된 필드를 기본값으로 읽는다.")
+    @Test
+    void readsOlderSchemaVersion() {
+        // arrange
+        byte[] v1 = new EventCodecRegistry(List.of(new SampleEventCodec((byte) 1))).encode(new SampleEvent(7L, "v1", 99));
+
+        // act
+        SampleEvent decoded = registry.decode(v1, SampleEvent.class);
+
+        // assert
+        assertThat(decoded).isEqualTo(new SampleEvent(7L, "v1", 0));
+    }
+
+    @DisplayName("지원하는 버전보다 새로운 스키마로 쓴 이벤트는, 예외가 발생한다.")
+    @Test
+    void throwsException_whenSchemaVersionIsNewer() {
+        // arrange
+        byte[] v2 = registry.encode(new SampleEvent(7L, "v2", 1));
+        EventCodecRegistry olderRegistry = new EventCodecRegistry(List.of(new SampleEventCodec((byte) 1)));
+
+        // act & assert
+        assertThrows(IllegalArgumentException.class, () -> olderRegistry.decode(v2, SampleEvent.class));
+    }
+}
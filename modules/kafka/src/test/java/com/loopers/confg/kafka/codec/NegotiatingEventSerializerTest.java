@@ -0,0 +1,69 @@
+package com.loopers.confg.kafka.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.confg.kafka.codec.SampleEventCodec.SampleEvent;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class NegotiatingEventSerializerTest {
+    private static final String BINARY_TOPIC = "binary-topic";
+    private static final String JSON_TOPIC = "json-topic";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final EventCodecRegistry registry = new EventCodecRegistry(List.of(new SampleEventCodec((byte) 2)));
+    private final NegotiatingEventSerializer serializer = new NegotiatingEventSerializer(
+        registry, new JsonSerializer<>(objectMapper).noTypeInfo(), Set.of(BINARY_TOPIC)
+    );
+    private final EventPayloadReader reader = new EventPayloadReader(registry, objectMapper);
+
+    @DisplayName("바이너리로 지정된 토픽은 바이너리로, 그 외 토픽은 JSON 으로 보내고, 읽는 쪽은 헤더에 따라 같은 이벤트로 읽는다.")
+    @Test
+    void negotiatesFormatPerTopic() {
+        // arrange
+        SampleEvent event = new SampleEvent(1L, "description", 2);
+        Headers binaryHeaders = new RecordHeaders();
+        Headers jsonHeaders = new RecordHeaders();
+
+        // act
+        byte[] binary = serializer.serialize(BINARY_TOPIC, binaryHeaders, event);
+        byte[] json = serializer.serialize(JSON_TOPIC, jsonHeaders, event);
+
+        // assert
+        assertAll(
+            () -> assertThat(EventContentType.of(binaryHeaders)).isEqualTo(EventContentType.BINARY),
+            () -> assertThat(EventContentType.of(jsonHeaders)).isEqualTo(EventContentType.JSON),
+            () -> assertThat(binary.length).isLessThan(json.length),
+            () -> assertThat(reader.read(record(BINARY_TOPIC, binary, binaryHeaders), SampleEvent.class)).isEqualTo(event),
+            () -> assertThat(reader.read(record(JSON_TOPIC, json, jsonHeaders), SampleEvent.class)).isEqualTo(event)
+        );
+    }
+
+    @DisplayName("헤더가 없는 기존 레코드는 JSON 으로 읽는다.")
+    @Test
+    void readsLegacyRecordWithoutHeaderAsJson() {
+        // arrange
+        byte[] json = "{\"exampleId\":3,\"description\":\"legacy\",\"quantity\":0}".getBytes();
+
+        // act
+        SampleEvent event = reader.read(record(JSON_TOPIC, json, new RecordHeaders()), SampleEvent.class);
+
+        // assert
+        assertThat(event).isEqualTo(new SampleEvent(3L, "legacy", 0));
+    }
+
+    private static ConsumerRecord<String, byte[]> record(String topic, byte[] value, Headers headers) {
+        return new ConsumerRecord<>(topic, 0, 0L, 0L, TimestampType.CREATE_TIME, 0, value.length, null, value, headers, Optional.empty());
+    }
+}
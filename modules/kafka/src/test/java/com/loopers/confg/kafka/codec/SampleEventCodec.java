@@ -0,0 +1,57 @@
+package com.loopers.confg.kafka.codec;
+
+/**
+ * 테스트용 이벤트와 코덱. 버전 2 에서 quantity 가 추가되었다.
+ */
+class SampleEventCodec implements EventCodec<SampleEventCodec.SampleEvent> {
+    static final short TYPE_ID = 1;
+
+    record SampleEvent(long exampleId, String description, int quantity) {}
+
+    private final byte version;
+
+    SampleEventCodec(byte version) {
+        this.version = version;
+    }
+
+    @Override
+    public Class<SampleEvent> type() {
+        return SampleEvent.class;
+    }
+
+    @Override
+    public short typeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public String eventType() {
+        return "SampleEvent";
+    }
+
+    @Override
+    public byte schemaVersion() {
+        return version;
+    }
+
+    @Override
+    public long routingKey(SampleEvent event) {
+        return event.exampleId();
+    }
+
+    @Override
+    public void encode(SampleEvent event, BinaryWriter writer) {
+        writer.writeVarLong(event.exampleId()).writeString(event.description());
+        if (version >= 2) {
+            writer.writeVarInt(event.quantity());
+        }
+    }
+
+    @Override
+    public SampleEvent decode(BinaryReader reader, byte schemaVersion) {
+        long exampleId = reader.readVarLong();
+        String description = reader.readString();
+        int quantity = schemaVersion >= 2 ? reader.readVarInt() : 0;
+        return new SampleEvent(exampleId, description, quantity);
+    }
+}
@@ -0,0 +1,165 @@
+package com.loopers.confg.kafka.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.confg.kafka.codec.EventCodecRegistry;
+import com.loopers.infrastructure.outbox.OutboxMessage;
+import com.loopers.infrastructure.outbox.OutboxStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayTest {
+    private static final String TOPIC = "example.event-v1";
+
+    record Updated(Long exampleId, String description) {}
+
+    private final OutboxStore outboxStore = mock(OutboxStore.class);
+    private final EventCodecRegistry codecRegistry = mock(EventCodecRegistry.class);
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, Object> kafkaTemplate = mock(KafkaTemplate.class);
+    private final OutboxRelay relay = new OutboxRelay(
+        outboxStore, kafkaTemplate, codecRegistry, new ObjectMapper(), new SimpleMeterRegistry(), 500, Duration.ofSeconds(1), Duration.ofSeconds(30)
+    );
+
+    @DisplayName("같은 key 의 이벤트는 앞 이벤트의 발행이 끝난 뒤에 보낸다.")
+    @Test
+    void sendsNextEventOfKey_afterPreviousOneIsAcknowledged() {
+        // arrange
+        when(outboxStore.findUnpublished(anyInt())).thenReturn(List.of(
+            message(1L, "a"), message(2L, "a"), message(3L, "b"), message(4L, "b")
+        ));
+        List<Long> sent = recordSends(Set.of());
+        when(outboxStore.markPublished(anyCollection(), anyString(), anyString())).thenAnswer(invocation -> invocation.<Collection<?>>getArgument(0).size());
+
+        // act
+        int relayed = relay.relayBatch();
+
+        // assert
+        assertAll(
+            () -> assertThat(relayed).isEqualTo(4),
+            () -> assertThat(sent).containsExactly(1L, 3L, 2L, 4L)
+        );
+    }
+
+    @DisplayName("한 key 의 발행이 실패하면, 그 key 의 뒤 이벤트는 보내지 않고 다른 key 는 계속 발행한다.")
+    @Test
+    void stopsKey_whenEarlierEventFails() {
+        // arrange
+        when(outboxStore.findUnpublished(anyInt())).thenReturn(List.of(
+            message(1L, "a"), message(2L, "a"), message(3L, "b"), message(4L, "b")
+        ));
+        List<Long> sent = recordSends(Set.of(1L));
+        when(outboxStore.markPublished(anyCollection(), anyString(), anyString())).thenReturn(2);
+
+        // act
+        int relayed = relay.relayBatch();
+
+        // assert
+        assertAll(
+            () -> assertThat(relayed).isZero(),
+            () -> assertThat(sent).containsExactly(1L, 3L, 4L),
+            () -> verify(outboxStore).markPublished(eq(List.of(3L, 4L)), eq(OutboxRelay.LEASE_NAME), anyString())
+        );
+    }
+
+    @DisplayName("lease 를 얻지 못하면, outbox 를 읽지 않는다.")
+    @Test
+    void doesNothing_whenLeaseIsHeldByAnotherRelay() {
+        // arrange
+        when(outboxStore.tryAcquireLease(eq(OutboxRelay.LEASE_NAME), anyString(), any())).thenReturn(false);
+
+        // act
+        relay.relay();
+
+        // assert
+        verify(outboxStore, never()).findUnpublished(anyInt());
+    }
+
+    @DisplayName("발행하는 동안 lease 를 잃으면, 이번 주기를 끝낸다.")
+    @Test
+    void stopsCycle_whenLeaseIsLostWhilePublishing() {
+        // arrange
+        when(outboxStore.findUnpublished(anyInt())).thenReturn(List.of(message(1L, "a"), message(2L, "b")));
+        recordSends(Set.of());
+        when(outboxStore.markPublished(anyCollection(), anyString(), anyString())).thenReturn(0);
+
+        // act
+        int relayed = relay.relayBatch();
+
+        // assert
+        assertThat(relayed).isZero();
+    }
+
+    @DisplayName("코덱이 등록된 이벤트 타입은 이벤트 객체로, 그 외는 저장된 JSON 트리로 직렬화기에 넘긴다.")
+    @SuppressWarnings("unchecked")
+    @Test
+    void sendsTypedEvent_whenCodecIsRegistered() {
+        // arrange
+        doReturn(Updated.class).when(codecRegistry).typeOf("ExampleUpdated");
+        when(outboxStore.findUnpublished(anyInt())).thenReturn(List.of(
+            new OutboxMessage(1L, TOPIC, "a", "ExampleUpdated", "{\"exampleId\":7,\"description\":\"설명\"}", ZonedDateTime.now()),
+            new OutboxMessage(2L, TOPIC, "b", "Unknown", "{\"value\":1}", ZonedDateTime.now())
+        ));
+        List<Object> values = new ArrayList<>();
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenAnswer(invocation -> {
+            values.add(invocation.<ProducerRecord<String, Object>>getArgument(0).value());
+            return CompletableFuture.completedFuture(mock(SendResult.class));
+        });
+        when(outboxStore.markPublished(anyCollection(), anyString(), anyString())).thenReturn(2);
+
+        // act
+        relay.relayBatch();
+
+        // assert
+        assertAll(
+            () -> assertThat(values.get(0)).isEqualTo(new Updated(7L, "설명")),
+            () -> assertThat(values.get(1)).isInstanceOf(JsonNode.class),
+            () -> assertThat(((JsonNode) values.get(1)).get("value").asInt()).isEqualTo(1)
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> recordSends(Set<Long> failingIds) {
+        List<Long> sent = new ArrayList<>();
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenAnswer(invocation -> {
+            ProducerRecord<String, Object> record = invocation.getArgument(0);
+            long id = Long.parseLong(new String(record.headers().lastHeader(OutboxRelay.HEADER_EVENT_ID).value(), StandardCharsets.UTF_8));
+            sent.add(id);
+            if (failingIds.contains(id)) {
+                return CompletableFuture.failedFuture(new IllegalStateException("broker unavailable"));
+            }
+            return CompletableFuture.completedFuture(mock(SendResult.class));
+        });
+        return sent;
+    }
+
+    private static OutboxMessage message(Long id, String key) {
+        return new OutboxMessage(id, TOPIC, key, "ExampleUpdated", "{}", ZonedDateTime.now());
+    }
+}
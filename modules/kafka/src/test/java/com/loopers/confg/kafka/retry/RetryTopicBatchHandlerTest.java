@@ -0,0 +1,168 @@
+package com.loopers.confg.kafka.retry;
+
+import com.loopers.confg.kafka.KeyOrderedBatchProcessor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RetryTopicBatchHandlerTest {
+    private static final String TOPIC = "test-topic";
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<Object, Object> kafkaTemplate = mock(KafkaTemplate.class);
+    private final Acknowledgment acknowledgment = mock(Acknowledgment.class);
+    private final KeyOrderedBatchProcessor processor = new KeyOrderedBatchProcessor(4);
+    private final RetryTopicPolicy policy = new RetryTopicPolicy(2, Duration.ofSeconds(1), 4, Duration.ofMinutes(1));
+    private final RetryTopicBatchHandler handler = new RetryTopicBatchHandler(
+        kafkaTemplate, processor, policy, new SimpleMeterRegistry(), Clock.fixed(NOW, ZoneOffset.UTC)
+    );
+
+    @BeforeEach
+    void setUp() {
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        processor.close();
+    }
+
+    @DisplayName("원본 토픽에서 실패한 레코드는 첫 번째 재시도 토픽으로 보내고, 나머지는 처리한 뒤 배치 전체를 커밋한다.")
+    @Test
+    void forwardsFailedRecordToFirstRetryTopic() {
+        // arrange
+        List<ConsumerRecord<String, String>> records = List.of(
+            new ConsumerRecord<>(TOPIC, 0, 0, "a", "ok-1"),
+            new ConsumerRecord<>(TOPIC, 0, 1, "b", "poison"),
+            new ConsumerRecord<>(TOPIC, 0, 2, "c", "ok-2")
+        );
+        List<String> processed = new CopyOnWriteArrayList<>();
+
+        // act
+        handler.handle(records, acknowledgment, record -> {
+            if (record.value().equals("poison")) {
+                throw new IllegalArgumentException("bad payload");
+            }
+            processed.add(record.value());
+        });
+
+        // assert
+        ProducerRecord<Object, Object> forwarded = captureForwarded();
+        assertAll(
+            () -> assertThat(processed).containsExactlyInAnyOrder("ok-1", "ok-2"),
+            () -> assertThat(forwarded.topic()).isEqualTo(TOPIC + ".retry-1"),
+            () -> assertThat(forwarded.value()).isEqualTo("poison"),
+            () -> assertThat(header(forwarded, RetryTopicBatchHandler.HEADER_ATTEMPT)).isEqualTo("1"),
+            () -> assertThat(header(forwarded, RetryTopicBatchHandler.HEADER_DUE_AT)).isEqualTo(String.valueOf(NOW.toEpochMilli() + 1_000)),
+            () -> verify(acknowledgment).acknowledge()
+        );
+    }
+
+    @DisplayName("처리에 성공한 레코드만 반환하고, 실패한 레코드와 그 뒤의 같은 key 레코드는 제외한다.")
+    @Test
+    void returnsOnlyHandledRecords() {
+        // arrange
+        ConsumerRecord<String, String> ok = new ConsumerRecord<>(TOPIC, 0, 0, "a", "ok-1");
+        ConsumerRecord<String, String> poison = new ConsumerRecord<>(TOPIC, 0, 1, "b", "poison");
+        ConsumerRecord<String, String> sameKeyAfterPoison = new ConsumerRecord<>(TOPIC, 0, 2, "b", "ok-2");
+
+        // act
+        List<ConsumerRecord<String, String>> handled = handler.handle(List.of(ok, poison, sameKeyAfterPoison), acknowledgment, record -> {
+            if (record.value().equals("poison")) {
+                throw new IllegalArgumentException("bad payload");
+            }
+        });
+
+        // assert
+        assertAll(
+            () -> assertThat(handled).containsExactly(ok),
+            () -> verify(kafkaTemplate, times(2)).send(any(ProducerRecord.class)),
+            () -> verify(acknowledgment).acknowledge()
+        );
+    }
+
+    @DisplayName("재시도를 모두 소진한 레코드가 또 실패하면, DLT 로 보낸다.")
+    @Test
+    void forwardsToDeadLetterTopic_whenAttemptsAreExhausted() {
+        // arrange
+        ConsumerRecord<String, String> record = new ConsumerRecord<>(TOPIC + ".retry-2", 0, 0, "a", "poison");
+        record.headers().add(RetryTopicBatchHandler.HEADER_ATTEMPT, "2".getBytes(StandardCharsets.UTF_8));
+        record.headers().add(RetryTopicBatchHandler.HEADER_ORIGINAL_TOPIC, TOPIC.getBytes(StandardCharsets.UTF_8));
+
+        // act
+        handler.handleRetries(List.of(record), acknowledgment, ignored -> {
+            throw new IllegalArgumentException("still bad");
+        });
+
+        // assert
+        ProducerRecord<Object, Object> forwarded = captureForwarded();
+        assertAll(
+            () -> assertThat(forwarded.topic()).isEqualTo(TOPIC + ".DLT"),
+            () -> assertThat(forwarded.headers().lastHeader(RetryTopicBatchHandler.HEADER_DUE_AT)).isNull(),
+            () -> verify(acknowledgment).acknowledge()
+        );
+    }
+
+    @DisplayName("재시도 시각이 되지 않은 레코드를 만나면, 그 앞까지만 처리하고 남은 시간만큼 nack 한다.")
+    @Test
+    void nacksFromFirstRecordNotYetDue() {
+        // arrange
+        ConsumerRecord<String, String> due = retryRecord(0, NOW.toEpochMilli() - 1);
+        ConsumerRecord<String, String> notYetDue = retryRecord(1, NOW.toEpochMilli() + 500);
+        List<String> processed = new CopyOnWriteArrayList<>();
+
+        // act
+        handler.handleRetries(List.of(due, notYetDue), acknowledgment, record -> processed.add(record.value()));
+
+        // assert
+        assertAll(
+            () -> assertThat(processed).containsExactly("value-0"),
+            () -> verify(acknowledgment).nack(1, Duration.ofMillis(500)),
+            () -> verify(acknowledgment, never()).acknowledge()
+        );
+    }
+
+    private ConsumerRecord<String, String> retryRecord(long offset, long dueAt) {
+        ConsumerRecord<String, String> record = new ConsumerRecord<>(TOPIC + ".retry-1", 0, offset, "key-" + offset, "value-" + offset);
+        record.headers().add(RetryTopicBatchHandler.HEADER_ATTEMPT, "1".getBytes(StandardCharsets.UTF_8));
+        record.headers().add(RetryTopicBatchHandler.HEADER_DUE_AT, String.valueOf(dueAt).getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ProducerRecord<Object, Object> captureForwarded() {
+        ArgumentCaptor<ProducerRecord<Object, Object>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(captor.capture());
+        return captor.getValue();
+    }
+
+    private static String header(ProducerRecord<Object, Object> record, String key) {
+        return new String(record.headers().lastHeader(key).value(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,90 @@
+package com.loopers.config.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드가 carrier 스레드에 고정(pinning)되는 구간을 JFR 이벤트(jdk.VirtualThreadPinned)로 감지한다.
+ * 고정 시간은 jvm.threads.virtual.pinned 타이머로 기록하고, 처음 발견된 호출 지점은 스택과 함께 한 번만 로그로 남긴다.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@Component
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAME_COUNT = 16;
+
+    private final Duration threshold;
+    private final Timer pinnedTimer;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(
+        MeterRegistry meterRegistry,
+        @Value("${monitoring.virtual-threads.pinned-threshold:20ms}") Duration threshold
+    ) {
+        this.threshold = threshold;
+        this.pinnedTimer = Timer.builder("jvm.threads.virtual.pinned")
+            .description("가상 스레드가 carrier 스레드에 고정된 시간")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedTimer.record(event.getDuration());
+        if (event.getStackTrace() == null) {
+            return;
+        }
+
+        List<String> frames = event.getStackTrace().getFrames().stream()
+            .filter(RecordedFrame::isJavaFrame)
+            .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber())
+            .toList();
+        // JDK 내부 프레임(park 등)은 모든 이벤트에 공통이므로, 처음 등장하는 애플리케이션/라이브러리 프레임으로 호출 지점을 구분한다.
+        String site = frames.stream()
+            .filter(frame -> !frame.startsWith("java.") && !frame.startsWith("jdk."))
+            .findFirst()
+            .orElse(frames.isEmpty() ? null : frames.get(0));
+        if (site != null && reportedSites.add(site)) {
+            log.warn(
+                "가상 스레드 pinning 감지 ({}ms) :\n\tat {}",
+                event.getDuration().toMillis(),
+                frames.stream().limit(LOGGED_FRAME_COUNT).collect(Collectors.joining("\n\tat "))
+            );
+        }
+    }
+}